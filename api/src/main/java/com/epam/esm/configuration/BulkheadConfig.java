@@ -0,0 +1,89 @@
+package com.epam.esm.configuration;
+
+import com.epam.esm.ratelimit.BulkheadInterceptor;
+import com.epam.esm.ratelimit.TrafficClassFilter;
+import com.epam.esm.util.Bulkhead;
+import com.epam.esm.util.TrafficClass;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import javax.servlet.Filter;
+import java.util.Map;
+
+/**
+ * @author VChaikovski
+ * @project certificates-shop-backend
+ * The type BulkheadConfig.
+ * <p>
+ * This class configures the bulkhead that isolates catalogue browsing, placing orders and administration.
+ * The bulkhead interceptor goes before other interceptors, so they see the traffic class of a request.
+ * The traffic class filter goes right after the rate limit filter, so work done by security filters is classified too.
+ */
+@Configuration
+@ConditionalOnProperty(name = "application.bulkhead.enabled", havingValue = "true", matchIfMissing = true)
+public class BulkheadConfig implements WebMvcConfigurer {
+    private static final String API_PATTERN = "/api/v1/**";
+    private static final String TRAFFIC_CLASS_TAG = "class";
+
+    @Value("${application.bulkhead.public.max-concurrent:100}")
+    private int publicMaxConcurrent;
+    @Value("${application.bulkhead.checkout.max-concurrent:50}")
+    private int checkoutMaxConcurrent;
+    @Value("${application.bulkhead.admin.max-concurrent:10}")
+    private int adminMaxConcurrent;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    /**
+     * Bulkhead bulkhead.
+     *
+     * @return the bulkhead
+     */
+    @Bean
+    public Bulkhead bulkhead() {
+        Bulkhead bulkhead = new Bulkhead(Map.of(TrafficClass.PUBLIC, publicMaxConcurrent,
+                TrafficClass.CHECKOUT, checkoutMaxConcurrent,
+                TrafficClass.ADMIN, adminMaxConcurrent), TrafficClass.CHECKOUT);
+        for (TrafficClass trafficClass : TrafficClass.values()) {
+            String tag = trafficClass.name().toLowerCase();
+            Gauge.builder("bulkhead.available", bulkhead, b -> b.getAvailable(trafficClass))
+                    .tag(TRAFFIC_CLASS_TAG, tag)
+                    .register(meterRegistry);
+            FunctionCounter.builder("bulkhead.rejected", bulkhead, b -> b.getRejected(trafficClass))
+                    .tag(TRAFFIC_CLASS_TAG, tag)
+                    .register(meterRegistry);
+        }
+        return bulkhead;
+    }
+
+    /**
+     * Traffic class filter filter registration bean.
+     *
+     * @return the filter registration bean
+     */
+    @Bean
+    public FilterRegistrationBean<Filter> trafficClassFilter() {
+        final FilterRegistrationBean<Filter> bean = new FilterRegistrationBean<>(new TrafficClassFilter());
+        bean.setOrder(Ordered.HIGHEST_PRECEDENCE + 2);
+
+        return bean;
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(new BulkheadInterceptor(bulkhead()))
+                .addPathPatterns(API_PATTERN)
+                .order(Ordered.HIGHEST_PRECEDENCE);
+    }
+}
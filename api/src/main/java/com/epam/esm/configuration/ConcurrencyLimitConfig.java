@@ -0,0 +1,68 @@
+package com.epam.esm.configuration;
+
+import com.epam.esm.ratelimit.ConcurrencyLimitInterceptor;
+import com.epam.esm.util.AdaptiveConcurrencyLimiter;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+/**
+ * @author VChaikovski
+ * @project certificates-shop-backend
+ * The type ConcurrencyLimitConfig.
+ * <p>
+ * This class configures the adaptive concurrency limit of the endpoints that read or change database data.
+ * Endpoints answered from memory aren't limited.
+ */
+@Configuration
+@ConditionalOnProperty(name = "application.concurrency-limit.enabled", havingValue = "true", matchIfMissing = true)
+public class ConcurrencyLimitConfig implements WebMvcConfigurer {
+    private static final String API_PATTERN = "/api/v1/**";
+    private static final String[] IN_MEMORY_PATTERNS = {"/api/v1/tags/suggest", "/api/v1/tags/trending"};
+
+    @Value("${application.concurrency-limit.initial-limit:20}")
+    private int initialLimit;
+    @Value("${application.concurrency-limit.min-limit:5}")
+    private int minLimit;
+    @Value("${application.concurrency-limit.max-limit:200}")
+    private int maxLimit;
+    @Value("${application.concurrency-limit.smoothing:0.2}")
+    private double smoothing;
+    @Value("${application.concurrency-limit.tolerance:1.5}")
+    private double tolerance;
+    @Value("${application.concurrency-limit.long-rtt-window:600}")
+    private int longRttWindow;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    /**
+     * Db concurrency limiter adaptive concurrency limiter.
+     *
+     * @return the adaptive concurrency limiter
+     */
+    @Bean
+    public AdaptiveConcurrencyLimiter dbConcurrencyLimiter() {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(initialLimit, minLimit, maxLimit,
+                smoothing, tolerance, longRttWindow);
+        Gauge.builder("concurrency.limiter.limit", limiter, AdaptiveConcurrencyLimiter::getLimit).register(meterRegistry);
+        Gauge.builder("concurrency.limiter.in.flight", limiter, AdaptiveConcurrencyLimiter::getInFlight).register(meterRegistry);
+        FunctionCounter.builder("concurrency.limiter.rejected", limiter, AdaptiveConcurrencyLimiter::getRejected)
+                .register(meterRegistry);
+        return limiter;
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(new ConcurrencyLimitInterceptor(dbConcurrencyLimiter()))
+                .addPathPatterns(API_PATTERN)
+                .excludePathPatterns(IN_MEMORY_PATTERNS);
+    }
+}
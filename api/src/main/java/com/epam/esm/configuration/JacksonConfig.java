@@ -0,0 +1,45 @@
+package com.epam.esm.configuration;
+
+import com.fasterxml.jackson.databind.Module;
+import com.fasterxml.jackson.databind.ser.impl.SimpleBeanPropertyFilter;
+import com.fasterxml.jackson.databind.ser.impl.SimpleFilterProvider;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+import org.springframework.boot.autoconfigure.jackson.Jackson2ObjectMapperBuilderCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * @author VChaikovski
+ * @project certificates-shop-backend
+ * The type JacksonConfig.
+ * <p>
+ * This class tunes the object mapper that writes responses. Spring Boot registers the module beans
+ * in the object mapper, which is also copied by Spring HATEOAS for HAL responses.
+ */
+@Configuration
+public class JacksonConfig {
+    /**
+     * Blackbird module module.
+     * <p>
+     * The module replaces reflective getter calls with generated lambdas.
+     *
+     * @return the module
+     */
+    @Bean
+    public Module blackbirdModule() {
+        return new BlackbirdModule();
+    }
+
+    /**
+     * Filter customizer jackson 2 object mapper builder customizer.
+     * <p>
+     * Entities are written in full unless a response sets its own fields filter.
+     *
+     * @return the jackson 2 object mapper builder customizer
+     */
+    @Bean
+    public Jackson2ObjectMapperBuilderCustomizer filterCustomizer() {
+        return builder -> builder.filters(new SimpleFilterProvider()
+                .setDefaultFilter(SimpleBeanPropertyFilter.serializeAll()));
+    }
+}
@@ -0,0 +1,37 @@
+package com.epam.esm.configuration;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.event.EventListener;
+
+import java.lang.management.ManagementFactory;
+
+/**
+ * @author VChaikovski
+ * @project certificates-shop-backend
+ * The type StartupExitConfig.
+ * <p>
+ * This class stops the application as soon as it's ready to serve requests. It's used by the training run
+ * that records the class data sharing archive and by the startup benchmark of the fast-startup build.
+ */
+@Configuration
+@ConditionalOnProperty(name = "application.startup.exit-after-ready", havingValue = "true")
+public class StartupExitConfig {
+    private static final Logger logger = LogManager.getLogger();
+
+    /**
+     * Exit.
+     *
+     * @param event the application ready event
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void exit(ApplicationReadyEvent event) {
+        logger.info("Ready to serve requests in {} ms since JVM start, exiting",
+                System.currentTimeMillis() - ManagementFactory.getRuntimeMXBean().getStartTime());
+        System.exit(SpringApplication.exit(event.getApplicationContext(), () -> 0));
+    }
+}
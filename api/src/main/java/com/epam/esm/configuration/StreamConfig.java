@@ -0,0 +1,50 @@
+package com.epam.esm.configuration;
+
+import com.epam.esm.util.TrafficClassContext;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.web.servlet.config.annotation.AsyncSupportConfigurer;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+/**
+ * @author VChaikovski
+ * @project certificates-shop-backend
+ * The type StreamConfig.
+ * <p>
+ * This class configures the bounded executor that writes streamed responses, so request threads are released
+ * as soon as a stream is started and the number of concurrently written streams is limited.
+ * Streams are written with the traffic class of their request, so they use the connections of that class.
+ */
+@Configuration
+public class StreamConfig implements WebMvcConfigurer {
+    @Value("${application.stream.pool-size:16}")
+    private int poolSize;
+    @Value("${application.stream.queue-capacity:1000}")
+    private int queueCapacity;
+    @Value("${application.stream.timeout-ms:300000}")
+    private long timeoutMs;
+
+    /**
+     * Stream executor thread pool task executor.
+     *
+     * @return the thread pool task executor
+     */
+    @Bean
+    public ThreadPoolTaskExecutor streamExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("stream-");
+        executor.setTaskDecorator(TrafficClassContext::wrap);
+        return executor;
+    }
+
+    @Override
+    public void configureAsyncSupport(AsyncSupportConfigurer configurer) {
+        configurer.setTaskExecutor(streamExecutor());
+        configurer.setDefaultTimeout(timeoutMs);
+    }
+}
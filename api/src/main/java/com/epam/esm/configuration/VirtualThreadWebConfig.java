@@ -0,0 +1,30 @@
+package com.epam.esm.configuration;
+
+import org.springframework.boot.web.embedded.tomcat.TomcatProtocolHandlerCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+
+import static com.epam.esm.configuration.ModelConfig.VIRTUAL_THREADS_PROFILE;
+
+/**
+ * @author VChaikovski
+ * @project certificates-shop-backend
+ * The type VirtualThreadWebConfig.
+ * <p>
+ * This class includes the web configuration for virtual-threads profile. Every request is handled on its own
+ * virtual thread instead of the thread pool of the embedded Tomcat.
+ */
+@Configuration
+@Profile(VIRTUAL_THREADS_PROFILE)
+public class VirtualThreadWebConfig {
+    /**
+     * Virtual thread protocol handler customizer tomcat protocol handler customizer.
+     *
+     * @return the tomcat protocol handler customizer
+     */
+    @Bean
+    public TomcatProtocolHandlerCustomizer<?> virtualThreadProtocolHandlerCustomizer() {
+        return protocolHandler -> protocolHandler.setExecutor(VirtualThreadConfig.newVirtualThreadPerTaskExecutor());
+    }
+}
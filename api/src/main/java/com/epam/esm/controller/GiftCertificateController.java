@@ -1,26 +1,38 @@
 package com.epam.esm.controller;
 
 import com.epam.esm.dto.GiftCertificateDto;
+import com.epam.esm.dto.MultiGetDto;
 import com.epam.esm.dto.PageDto;
 import com.epam.esm.entity.GiftCertificate;
 import com.epam.esm.entity.Order;
 import com.epam.esm.entity.Tag;
 import com.epam.esm.entity.User;
+import com.epam.esm.fieldsprovider.FieldsProvider;
 import com.epam.esm.linkprovider.LinkProvider;
 import com.epam.esm.service.GiftCertificateService;
+import com.epam.esm.stream.EntityStreamWriter;
+import com.epam.esm.util.CachedResult;
+import com.epam.esm.util.CatalogueVersion;
+import com.epam.esm.util.LastKnownGoodCache;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.converter.json.MappingJacksonValue;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.validation.BindingResult;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import javax.validation.Valid;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.TreeMap;
 
 import static com.epam.esm.dao.RequestParamName.*;
 
@@ -33,11 +45,22 @@ import static com.epam.esm.dao.RequestParamName.*;
 @RestController
 @RequestMapping(value = "/api/v1/certificates")
 public class GiftCertificateController {
+    private static final String CERTIFICATE_KEY = "certificate:";
+    private static final String CERTIFICATES_KEY = "certificates:";
+    private static final String STALE_WARNING = "110 - \"Response is Stale\"";
 
     @Autowired
     private GiftCertificateService certificateService;
     @Autowired
     private LinkProvider linkProvider;
+    @Autowired
+    private FieldsProvider fieldsProvider;
+    @Autowired
+    private EntityStreamWriter streamWriter;
+    @Autowired
+    private CatalogueVersion catalogueVersion;
+    @Autowired
+    private LastKnownGoodCache lastKnownGoodCache;
 
     /**
      * Create certificate response entity.
@@ -56,15 +79,54 @@ public class GiftCertificateController {
 
     /**
      * Find gift certificate by id gift certificate.
+     * <p>
+     * The response is tagged with the catalogue version. If the client already has the current version,
+     * 304 is returned without reading the certificate. Last-Modified isn't sent: the last update date of the certificate
+     * doesn't cover changes of its tags, so it can't validate the response. While database is unavailable
+     * the last known certificate is returned untagged with the stale warning.
      *
-     * @param id the id
+     * @param id         the id
+     * @param webRequest the web request
      * @return the giftCertificate
      */
     @GetMapping(value = "/{id}")
-    public HttpEntity<GiftCertificate> findGiftCertificateById(@PathVariable("id") long id) {
-        GiftCertificate certificate = certificateService.findCertificateById(id);
+    public HttpEntity<GiftCertificate> findGiftCertificateById(@PathVariable("id") long id, WebRequest webRequest) {
+        String entityTag = catalogueVersion.getEntityTag();
+        if (entityTag != null && webRequest.checkNotModified(entityTag)) {
+            return null;
+        }
+        CachedResult<GiftCertificate> result = lastKnownGoodCache.read(CERTIFICATE_KEY + id,
+                () -> certificateService.findCertificateById(id), lastKnownGoodCache.entityCopier(GiftCertificate.class));
+        GiftCertificate certificate = result.getValue();
         linkProvider.addLinkToCertificate(certificate);
-        return new ResponseEntity<>(certificate, HttpStatus.OK);
+        if (result.isStale()) {
+            return ResponseEntity.ok()
+                    .header(HttpHeaders.WARNING, STALE_WARNING)
+                    .cacheControl(CacheControl.noCache())
+                    .body(certificate);
+        }
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .cacheControl(CacheControl.noCache());
+        if (entityTag != null) {
+            response.eTag(entityTag);
+        }
+        return response.body(certificate);
+    }
+
+    /**
+     * Find certificates by ids multiGetDto.
+     * <p>
+     * All certificates are read with one query and returned in the order of given ids, the ids of absent certificates
+     * are returned in the notFoundIds list.
+     *
+     * @param ids the ids
+     * @return the multiGetDto
+     */
+    @GetMapping(params = "ids")
+    public MultiGetDto<GiftCertificate> findCertificatesByIds(@RequestParam("ids") List<Long> ids) {
+        MultiGetDto<GiftCertificate> foundGiftCertificates = certificateService.findCertificatesByIds(ids);
+        foundGiftCertificates.getContent().forEach(linkProvider::addLinkToCertificate);
+        return foundGiftCertificates;
     }
 
     /**
@@ -110,6 +172,10 @@ public class GiftCertificateController {
 
     /**
      * Find certificates pageDto.
+     * <p>
+     * The response is tagged with the catalogue version, so a client that already has the current version gets 304
+     * without a query. Certificates filtered by user aren't tagged, because orders change independently of the catalogue.
+     * While database is unavailable the last known page is returned untagged with the stale warning.
      *
      * @param name        the name
      * @param description the description
@@ -119,17 +185,26 @@ public class GiftCertificateController {
      * @param sortParams  the sort params
      * @param limit       the limit
      * @param page        the page
+     * @param fields      the fields
+     * @param webRequest  the web request
      * @return the pageDto
      */
     @GetMapping
-    public PageDto<GiftCertificate> findCertificates(@RequestParam(value = "name", required = false) String name,
+    public HttpEntity<MappingJacksonValue> findCertificates(@RequestParam(value = "name", required = false) String name,
                                                      @RequestParam(value = "description", required = false) String description,
                                                      @RequestParam(value = "partOfWord", required = false) String partOfWord,
                                                      @RequestParam(value = "tags", required = false) String tags,
                                                      @RequestParam(value = "userId", required = false) Long userId,
                                                      @RequestParam(value = "sortParams", required = false) String sortParams,
                                                      @RequestParam(value = "limit", required = false) Integer limit,
-                                                     @RequestParam(value = "page", required = false) Integer page) {
+                                                     @RequestParam(value = "page", required = false) Integer page,
+                                                     @RequestParam(value = "fields", required = false) String fields,
+                                                     WebRequest webRequest) {
+        String entityTag = catalogueVersion.getEntityTag();
+        boolean conditional = userId == null && entityTag != null;
+        if (conditional && webRequest.checkNotModified(entityTag)) {
+            return null;
+        }
         Map<String, Object> params = new HashMap<>();
         params.put(NAME, name);
         params.put(DESCRIPTION, description);
@@ -139,9 +214,58 @@ public class GiftCertificateController {
         params.put(LIMIT, limit);
         params.put(PAGE, page);
         params.put(SORT_PARAMS, sortParams);
-        PageDto<GiftCertificate> certificatesPage = certificateService.findCertificates(params);
-        certificatesPage.getContent().forEach(linkProvider::addLinkToCertificate);
-        return certificatesPage;
+        List<String> fieldList = fieldsProvider.parseFields(fields);
+        params.put(FIELDS, fieldList);
+        CachedResult<PageDto<GiftCertificate>> result = lastKnownGoodCache.read(CERTIFICATES_KEY + new TreeMap<>(params),
+                () -> certificateService.findCertificates(params), lastKnownGoodCache.pageCopier(GiftCertificate.class));
+        PageDto<GiftCertificate> certificatesPage = result.getValue();
+        if (fieldList == null || fieldList.contains(LINKS)) {
+            certificatesPage.getContent().forEach(linkProvider::addLinkToCertificate);
+        }
+        MappingJacksonValue body = fieldsProvider.applyFields(certificatesPage, fieldList);
+        if (result.isStale()) {
+            return ResponseEntity.ok()
+                    .header(HttpHeaders.WARNING, STALE_WARNING)
+                    .cacheControl(CacheControl.noCache())
+                    .body(body);
+        }
+        return conditional ? ResponseEntity.ok().eTag(entityTag).cacheControl(CacheControl.noCache()).body(body) :
+                ResponseEntity.ok(body);
+    }
+
+    /**
+     * Find top certificates list.
+     * <p>
+     * The most purchased gift certificates are taken from the in-memory bestseller ranking.
+     *
+     * @param limit the limit
+     * @return the list
+     */
+    @GetMapping(value = "/top")
+    public List<GiftCertificate> findTopCertificates(@RequestParam(value = "limit", defaultValue = "10") int limit) {
+        List<GiftCertificate> certificates = certificateService.findTopCertificates(limit);
+        certificates.forEach(linkProvider::addLinkToCertificate);
+        return certificates;
+    }
+
+    /**
+     * Stream certificates response entity.
+     * <p>
+     * Certificates are written as newline delimited JSON in id order. A client can resume the stream
+     * from the id of the last received certificate.
+     *
+     * @param afterId the id of the last received certificate
+     * @param limit   the chunk size
+     * @return the responseEntity
+     */
+    @GetMapping(value = "/stream", produces = EntityStreamWriter.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamCertificates(@RequestParam(value = "afterId", defaultValue = "0") long afterId,
+                                                                    @RequestParam(value = "limit", defaultValue = "100") int limit) {
+        List<GiftCertificate> firstChunk = certificateService.findCertificatesAfterId(afterId, limit);
+        return ResponseEntity.ok()
+                .contentType(EntityStreamWriter.APPLICATION_NDJSON)
+                .body(streamWriter.stream(firstChunk, limit, certificateService::findCertificatesAfterId,
+                        linkProvider::addLinkToCertificate));
     }
 
     /**
@@ -1,15 +1,21 @@
 package com.epam.esm.controller;
 
 import com.epam.esm.dto.OrderDto;
+import com.epam.esm.dto.MultiGetDto;
 import com.epam.esm.dto.PageDto;
 import com.epam.esm.entity.GiftCertificate;
 import com.epam.esm.entity.Order;
+import com.epam.esm.entity.OrderLine;
 import com.epam.esm.entity.User;
+import com.epam.esm.fieldsprovider.FieldsProvider;
 import com.epam.esm.linkprovider.LinkProvider;
+import com.epam.esm.ratelimit.TrafficPartition;
 import com.epam.esm.service.OrderService;
+import com.epam.esm.util.TrafficClass;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.converter.json.MappingJacksonValue;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 
@@ -34,6 +40,8 @@ public class OrderController {
     private OrderService orderService;
     @Autowired
     private LinkProvider linkProvider;
+    @Autowired
+    private FieldsProvider fieldsProvider;
 
     /**
      * Find order by id order.
@@ -49,6 +57,23 @@ public class OrderController {
         return new ResponseEntity<>(order, HttpStatus.OK);
     }
 
+    /**
+     * Find orders by ids multiGetDto.
+     * <p>
+     * All orders are read with one query and returned in the order of given ids, the ids of absent orders
+     * are returned in the notFoundIds list.
+     *
+     * @param ids the ids
+     * @return the multiGetDto
+     */
+    @GetMapping(params = "ids")
+    @PreAuthorize("hasAnyRole('ROLE_ADMIN', 'ROLE_USER')")
+    public MultiGetDto<Order> findOrdersByIds(@RequestParam("ids") List<Long> ids) {
+        MultiGetDto<Order> foundOrders = orderService.findOrdersByIds(ids);
+        foundOrders.getContent().forEach(linkProvider::addLinkToOrder);
+        return foundOrders;
+    }
+
     /**
      * Find orders pageDto.
      *
@@ -57,24 +82,30 @@ public class OrderController {
      * @param userId     the user id
      * @param page       the page
      * @param limit      the limit
+     * @param fields     the fields
      * @return the pageDto
      */
     @GetMapping
     @PreAuthorize("hasAnyRole('ROLE_ADMIN', 'ROLE_USER')")
-    public PageDto<Order> findOrders(@RequestParam(value = "cost", required = false) List<BigDecimal> cost,
-                                     @RequestParam(value = "createDate", required = false) List<String> createDate,
-                                     @RequestParam(value = "userId", required = false) Long userId,
-                                     @RequestParam(value = "page", required = false) Integer page,
-                                     @RequestParam(value = "limit", required = false) Integer limit) {
+    public MappingJacksonValue findOrders(@RequestParam(value = "cost", required = false) List<BigDecimal> cost,
+                                          @RequestParam(value = "createDate", required = false) List<String> createDate,
+                                          @RequestParam(value = "userId", required = false) Long userId,
+                                          @RequestParam(value = "page", required = false) Integer page,
+                                          @RequestParam(value = "limit", required = false) Integer limit,
+                                          @RequestParam(value = "fields", required = false) String fields) {
         Map<String, Object> params = new HashMap<>();
         params.put(COST, cost);
         params.put(CREATE_DATE, createDate);
         params.put(USER_ID, userId);
         params.put(PAGE, page);
         params.put(LIMIT, limit);
+        List<String> fieldList = fieldsProvider.parseFields(fields);
+        params.put(FIELDS, fieldList);
         PageDto<Order> ordersPage = orderService.findOrders(params);
-        ordersPage.getContent().forEach(linkProvider::addLinkToOrder);
-        return ordersPage;
+        if (fieldList == null || fieldList.contains(LINKS)) {
+            ordersPage.getContent().forEach(linkProvider::addLinkToOrder);
+        }
+        return fieldsProvider.applyFields(ordersPage, fieldList);
     }
 
     /**
@@ -91,6 +122,20 @@ public class OrderController {
         return certificates;
     }
 
+    /**
+     * Find lines by order id list.
+     *
+     * @param id the id
+     * @return the list
+     */
+    @GetMapping("/{id}/lines")
+    @PreAuthorize("hasAnyRole('ROLE_ADMIN', 'ROLE_USER')")
+    public List<OrderLine> findLinesByOrderId(@PathVariable("id") long id) {
+        List<OrderLine> lines = orderService.findOrderLines(id);
+        lines.forEach(linkProvider::addLinkToOrderLine);
+        return lines;
+    }
+
     /**
      * Find user by order id user.
      *
@@ -107,14 +152,22 @@ public class OrderController {
 
     /**
      * Create order response entity.
+     * <p>
+     * If the Idempotency-Key header is present and an order has been already created with the same key,
+     * the previously created order is returned.
      *
-     * @param orderDto the order dto
+     * @param orderDto       the order dto
+     * @param idempotencyKey the idempotency key
      * @return the responseEntity
      */
     @PostMapping
     @PreAuthorize("hasAnyRole('ROLE_ADMIN', 'ROLE_USER')")
-    public ResponseEntity<Order> createOrder(@RequestBody OrderDto orderDto, Principal principal) {
+    @TrafficPartition(TrafficClass.CHECKOUT)
+    public ResponseEntity<Order> createOrder(@RequestBody OrderDto orderDto,
+                                             @RequestHeader(value = "Idempotency-Key", required = false) String idempotencyKey,
+                                             Principal principal) {
         orderDto.setUsername(principal.getName());
+        orderDto.setIdempotencyKey(idempotencyKey);
         Order order = orderService.addOrder(orderDto);
         linkProvider.addLinkToOrder(order);
         return new ResponseEntity<>(order, HttpStatus.CREATED);
@@ -1,19 +1,31 @@
 package com.epam.esm.controller;
 
+import com.epam.esm.dto.MultiGetDto;
 import com.epam.esm.dto.PageDto;
+import com.epam.esm.dto.TrendingTagDto;
 import com.epam.esm.entity.GiftCertificate;
 import com.epam.esm.entity.Tag;
+import com.epam.esm.fieldsprovider.FieldsProvider;
 import com.epam.esm.linkprovider.LinkProvider;
 import com.epam.esm.service.TagService;
+import com.epam.esm.stream.EntityStreamWriter;
+import com.epam.esm.util.CachedResult;
+import com.epam.esm.util.LastKnownGoodCache;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.converter.json.MappingJacksonValue;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.TreeMap;
 
 import static com.epam.esm.dao.RequestParamName.*;
 
@@ -26,46 +38,131 @@ import static com.epam.esm.dao.RequestParamName.*;
 @RestController
 @RequestMapping(value = "/api/v1/tags")
 public class TagController {
+    private static final String TAG_KEY = "tag:";
+    private static final String TAGS_KEY = "tags:";
+    private static final String STALE_WARNING = "110 - \"Response is Stale\"";
+
     @Autowired
     private TagService tagService;
     @Autowired
     private LinkProvider linkProvider;
+    @Autowired
+    private FieldsProvider fieldsProvider;
+    @Autowired
+    private EntityStreamWriter streamWriter;
+    @Autowired
+    private LastKnownGoodCache lastKnownGoodCache;
 
     /**
      * Find tag by id tag.
+     * <p>
+     * While database is unavailable the last known tag is returned with the stale warning.
      *
      * @param id the id
      * @return the tag
      */
     @GetMapping("/{id}")
     public HttpEntity<Tag> findTagById(@PathVariable("id") long id) {
-        Tag tag = tagService.findTagById(id);
+        CachedResult<Tag> result = lastKnownGoodCache.read(TAG_KEY + id, () -> tagService.findTagById(id),
+                lastKnownGoodCache.entityCopier(Tag.class));
+        Tag tag = result.getValue();
         linkProvider.addLinkToTag(tag);
+        if (result.isStale()) {
+            return ResponseEntity.ok()
+                    .header(HttpHeaders.WARNING, STALE_WARNING)
+                    .cacheControl(CacheControl.noCache())
+                    .body(tag);
+        }
         return new ResponseEntity<>(tag, HttpStatus.OK);
     }
 
+    /**
+     * Find tags by ids multiGetDto.
+     * <p>
+     * All tags are read with one query and returned in the order of given ids, the ids of absent tags
+     * are returned in the notFoundIds list.
+     *
+     * @param ids the ids
+     * @return the multiGetDto
+     */
+    @GetMapping(params = "ids")
+    public MultiGetDto<Tag> findTagsByIds(@RequestParam("ids") List<Long> ids) {
+        MultiGetDto<Tag> foundTags = tagService.findTagsByIds(ids);
+        foundTags.getContent().forEach(linkProvider::addLinkToTag);
+        return foundTags;
+    }
+
     /**
      * Find tags list.
+     * <p>
+     * While database is unavailable the last known page is returned with the stale warning.
      *
      * @param name          the name
      * @param certificateId the certificate id
      * @param limit         the limit
      * @param page          the page
+     * @param fields        the fields
      * @return the list
      */
     @GetMapping
-    public PageDto<Tag> findTags(@RequestParam(value = "name", required = false) String name,
-                                 @RequestParam(value = "certificateId", required = false) Long certificateId,
-                                 @RequestParam(value = "limit", required = false) Integer limit,
-                                 @RequestParam(value = "page", required = false) Integer page) {
+    public HttpEntity<MappingJacksonValue> findTags(@RequestParam(value = "name", required = false) String name,
+                                        @RequestParam(value = "certificateId", required = false) Long certificateId,
+                                        @RequestParam(value = "limit", required = false) Integer limit,
+                                        @RequestParam(value = "page", required = false) Integer page,
+                                        @RequestParam(value = "fields", required = false) String fields) {
         Map<String, Object> params = new HashMap<>();
         params.put(TAG_NAME, name);
         params.put(CERTIFICATE_ID, certificateId);
         params.put(LIMIT, limit);
         params.put(PAGE, page);
-        PageDto<Tag> tagsPage = tagService.findTags(params);
-        tagsPage.getContent().forEach(linkProvider::addLinkToTag);
-        return tagsPage;
+        List<String> fieldList = fieldsProvider.parseFields(fields);
+        params.put(FIELDS, fieldList);
+        CachedResult<PageDto<Tag>> result = lastKnownGoodCache.read(TAGS_KEY + new TreeMap<>(params),
+                () -> tagService.findTags(params), lastKnownGoodCache.pageCopier(Tag.class));
+        PageDto<Tag> tagsPage = result.getValue();
+        if (fieldList == null || fieldList.contains(LINKS)) {
+            tagsPage.getContent().forEach(linkProvider::addLinkToTag);
+        }
+        MappingJacksonValue body = fieldsProvider.applyFields(tagsPage, fieldList);
+        if (result.isStale()) {
+            return ResponseEntity.ok()
+                    .header(HttpHeaders.WARNING, STALE_WARNING)
+                    .cacheControl(CacheControl.noCache())
+                    .body(body);
+        }
+        return ResponseEntity.ok(body);
+    }
+
+    /**
+     * Suggest tags list.
+     * <p>
+     * Tags which names start with given prefix are found in memory and ordered by usage.
+     *
+     * @param prefix the prefix
+     * @param limit  the limit
+     * @return the list
+     */
+    @GetMapping(value = "/suggest")
+    public List<Tag> suggestTags(@RequestParam(value = "prefix") String prefix,
+                                 @RequestParam(value = "limit", defaultValue = "10") int limit) {
+        List<Tag> tags = tagService.suggestTags(prefix, limit);
+        tags.forEach(linkProvider::addLinkToTag);
+        return tags;
+    }
+
+    /**
+     * Get the most purchased tags in a time window.
+     *
+     * @param window the window: hour, day or week
+     * @param limit  the limit
+     * @return the list
+     */
+    @GetMapping(value = "/trending")
+    public List<TrendingTagDto> getTrendingTags(@RequestParam(value = "window", defaultValue = "day") String window,
+                                                @RequestParam(value = "limit", defaultValue = "10") int limit) {
+        List<TrendingTagDto> trendingTags = tagService.findTrendingTags(window, limit);
+        trendingTags.forEach(t -> linkProvider.addLinkToTag(t.getTag()));
+        return trendingTags;
     }
 
     /**
@@ -98,4 +195,23 @@ public class TagController {
         certificates.forEach(linkProvider::addLinkToCertificate);
         return certificates;
     }
+
+    /**
+     * Stream tags response entity.
+     * <p>
+     * Tags are written as newline delimited JSON in id order. A client can resume the stream
+     * from the id of the last received tag.
+     *
+     * @param afterId the id of the last received tag
+     * @param limit   the chunk size
+     * @return the responseEntity
+     */
+    @GetMapping(value = "/stream", produces = EntityStreamWriter.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamTags(@RequestParam(value = "afterId", defaultValue = "0") long afterId,
+                                                            @RequestParam(value = "limit", defaultValue = "100") int limit) {
+        List<Tag> firstChunk = tagService.findTagsAfterId(afterId, limit);
+        return ResponseEntity.ok()
+                .contentType(EntityStreamWriter.APPLICATION_NDJSON)
+                .body(streamWriter.stream(firstChunk, limit, tagService::findTagsAfterId, linkProvider::addLinkToTag));
+    }
 }
\ No newline at end of file
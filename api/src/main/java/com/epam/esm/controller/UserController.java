@@ -1,22 +1,27 @@
 package com.epam.esm.controller;
 
+import com.epam.esm.dto.MultiGetDto;
 import com.epam.esm.dto.PageDto;
 import com.epam.esm.dto.UserDto;
 import com.epam.esm.entity.GiftCertificate;
 import com.epam.esm.entity.Order;
 import com.epam.esm.entity.User;
+import com.epam.esm.entity.UserOrderSummary;
+import com.epam.esm.fieldsprovider.FieldsProvider;
 import com.epam.esm.linkprovider.LinkProvider;
 import com.epam.esm.service.UserService;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpEntity;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.converter.json.MappingJacksonValue;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.validation.BindingResult;
 import org.springframework.web.bind.annotation.*;
 
 import javax.validation.Valid;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 
@@ -34,6 +39,8 @@ public class UserController {
     private UserService userService;
     @Autowired
     private LinkProvider linkProvider;
+    @Autowired
+    private FieldsProvider fieldsProvider;
 
     /**
      * Gets user by id.
@@ -49,6 +56,23 @@ public class UserController {
         return new ResponseEntity<>(user, HttpStatus.OK);
     }
 
+    /**
+     * Find users by ids multiGetDto.
+     * <p>
+     * All users are read with one query and returned in the order of given ids, the ids of absent users
+     * are returned in the notFoundIds list.
+     *
+     * @param ids the ids
+     * @return the multiGetDto
+     */
+    @GetMapping(params = "ids")
+    @PreAuthorize("hasAnyRole('ROLE_ADMIN', 'ROLE_USER')")
+    public MultiGetDto<User> findUsersByIds(@RequestParam("ids") List<Long> ids) {
+        MultiGetDto<User> foundUsers = userService.findUsersByIds(ids);
+        foundUsers.getContent().forEach(linkProvider::addLinkToUser);
+        return foundUsers;
+    }
+
     /**
      * Gets all users pageDto.
      *
@@ -58,16 +82,18 @@ public class UserController {
      * @param certificateId the certificate id
      * @param page          the page
      * @param limit         the limit
+     * @param fields        the fields
      * @return the pageDto
      */
     @GetMapping
     @PreAuthorize("hasAnyRole('ROLE_ADMIN', 'ROLE_USER')")
-    public PageDto<User> getAllUsers(@RequestParam(value = "email", required = false) String email,
-                                      @RequestParam(value = "firstName", required = false) String firstName,
-                                      @RequestParam(value = "lastName", required = false) String lastName,
-                                      @RequestParam(value = "certificateId", required = false) Long certificateId,
-                                      @RequestParam(value = "page", required = false) Integer page,
-                                      @RequestParam(value = "limit", required = false) Integer limit) {
+    public MappingJacksonValue getAllUsers(@RequestParam(value = "email", required = false) String email,
+                                           @RequestParam(value = "firstName", required = false) String firstName,
+                                           @RequestParam(value = "lastName", required = false) String lastName,
+                                           @RequestParam(value = "certificateId", required = false) Long certificateId,
+                                           @RequestParam(value = "page", required = false) Integer page,
+                                           @RequestParam(value = "limit", required = false) Integer limit,
+                                           @RequestParam(value = "fields", required = false) String fields) {
         Map<String, Object> params = new HashMap<>();
         params.put(EMAIL, email);
         params.put(FIRST_NAME, firstName);
@@ -75,9 +101,13 @@ public class UserController {
         params.put(CERTIFICATE_ID, certificateId);
         params.put(PAGE, page);
         params.put(LIMIT, limit);
+        List<String> fieldList = fieldsProvider.parseFields(fields);
+        params.put(FIELDS, fieldList);
         PageDto<User> usersPage = userService.findUsers(params);
-        usersPage.getContent().forEach(linkProvider::addLinkToUser);
-        return usersPage;
+        if (fieldList == null || fieldList.contains(LINKS)) {
+            usersPage.getContent().forEach(linkProvider::addLinkToUser);
+        }
+        return fieldsProvider.applyFields(usersPage, fieldList);
     }
 
     /**
@@ -94,6 +124,22 @@ public class UserController {
         return orders;
     }
 
+    /**
+     * Find summary by user id user order summary.
+     * <p>
+     * The summary of orders is read by the user id without reading the orders.
+     *
+     * @param userId the id
+     * @return the user order summary
+     */
+    @GetMapping(value = "/{id}/summary")
+    @PreAuthorize("hasAnyRole('ROLE_ADMIN', 'ROLE_USER')")
+    public UserOrderSummary findSummaryByUserId(@PathVariable("id") long userId) {
+        UserOrderSummary summary = userService.findUserSummary(userId);
+        linkProvider.addLinkToUserSummary(summary);
+        return summary;
+    }
+
     /**
      * Find certificates by user id set.
      *
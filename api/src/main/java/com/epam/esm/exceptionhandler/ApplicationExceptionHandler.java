@@ -3,8 +3,13 @@ package com.epam.esm.exceptionhandler;
 import com.epam.esm.exception.ApplicationDuplicateException;
 import com.epam.esm.exception.ApplicationNotFoundException;
 import com.epam.esm.exception.ApplicationNotValidDataException;
+import com.epam.esm.exception.ApplicationOverloadedException;
+import com.epam.esm.exception.ApplicationUnprocessableException;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.support.ResourceBundleMessageSource;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.security.authentication.BadCredentialsException;
@@ -14,6 +19,7 @@ import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
 import org.springframework.web.servlet.mvc.method.annotation.ResponseEntityExceptionHandler;
 
+import javax.servlet.http.HttpServletResponse;
 import java.util.Locale;
 
 import static com.epam.esm.exception.ErrorAttribute.*;
@@ -69,6 +75,30 @@ public class ApplicationExceptionHandler extends ResponseEntityExceptionHandler
         return new ApplicationError(CONFLICT_CODE, prepareMessage(e.getMessage(), e.getParam(), locale));
     }
 
+    /**
+     * ConcurrentModificationError ApplicationError.
+     *
+     * @param e the e
+     * @return the ApplicationError
+     */
+    @ExceptionHandler({OptimisticLockingFailureException.class, DataIntegrityViolationException.class})
+    @ResponseStatus(HttpStatus.CONFLICT)
+    public ApplicationError concurrentModificationError(Exception e, Locale locale) {
+        return new ApplicationError(CONFLICT_CODE, messageSource.getMessage(CONCURRENT_MODIFICATION_MESSAGE_KEY, null, locale));
+    }
+
+    /**
+     * UnprocessableError ApplicationError.
+     *
+     * @param e the e
+     * @return the ApplicationError
+     */
+    @ExceptionHandler(ApplicationUnprocessableException.class)
+    @ResponseStatus(HttpStatus.UNPROCESSABLE_ENTITY)
+    public ApplicationError unprocessableError(ApplicationUnprocessableException e, Locale locale) {
+        return new ApplicationError(UNPROCESSABLE_ENTITY_CODE, prepareMessage(e.getMessage(), e.getParam(), locale));
+    }
+
     /**
      * AccessForbiddenError ApplicationError.
      *
@@ -93,6 +123,22 @@ public class ApplicationExceptionHandler extends ResponseEntityExceptionHandler
         return new ApplicationError(ACCESS_FORBIDDEN_CODE, messageSource.getMessage(NOT_VALID_AUTH_DATA_MESSAGE_KEY, null, locale));
     }
 
+    /**
+     * OverloadedError ApplicationError.
+     *
+     * @param e        the e
+     * @param response the response
+     * @return the ApplicationError
+     */
+    @ExceptionHandler(ApplicationOverloadedException.class)
+    @ResponseStatus(HttpStatus.SERVICE_UNAVAILABLE)
+    public ApplicationError overloadedError(ApplicationOverloadedException e, HttpServletResponse response, Locale locale) {
+        if (e.getRetryAfterSec() > 0) {
+            response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(e.getRetryAfterSec()));
+        }
+        return new ApplicationError(SERVICE_UNAVAILABLE_CODE, prepareMessage(e.getMessage(), e.getParam(), locale));
+    }
+
     /**
      * ServerError ApplicationError.
      *
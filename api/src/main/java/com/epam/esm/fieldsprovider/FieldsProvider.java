@@ -0,0 +1,36 @@
+package com.epam.esm.fieldsprovider;
+
+import com.epam.esm.dto.PageDto;
+import org.springframework.http.converter.json.MappingJacksonValue;
+
+import java.util.List;
+
+/**
+ * @author VChaikovski
+ * @project certificates-shop-backend
+ * The interface Fields provider.
+ * <p>
+ * This interface includes methods that support sparse fieldsets: a client lists the fields it needs
+ * in the fields request parameter and gets only these fields of page entities.
+ */
+public interface FieldsProvider {
+    /**
+     * Parse fields list.
+     *
+     * @param fields the comma separated field names
+     * @return the list of field names or null if fields aren't requested
+     */
+    List<String> parseFields(String fields);
+
+    /**
+     * Apply fields mapping jackson value.
+     * <p>
+     * The entities of the page are written with the id and given fields only, nested entities and other
+     * page data are written as usual. If fields aren't requested the page is written as usual.
+     *
+     * @param page   the page
+     * @param fields the field names
+     * @return the mapping jackson value
+     */
+    MappingJacksonValue applyFields(PageDto<?> page, List<String> fields);
+}
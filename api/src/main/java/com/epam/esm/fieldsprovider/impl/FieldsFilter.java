@@ -0,0 +1,52 @@
+package com.epam.esm.fieldsprovider.impl;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.PropertyWriter;
+import com.fasterxml.jackson.databind.ser.impl.SimpleBeanPropertyFilter;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Set;
+
+/**
+ * @author VChaikovski
+ * @project certificates-shop-backend
+ * The type Fields filter.
+ * <p>
+ * This class writes only given fields of given entities. Other objects that use the same filter id,
+ * like entities nested in filtered ones, are written in full.
+ */
+public class FieldsFilter extends SimpleBeanPropertyFilter {
+    private static final char HAL_PREFIX = '_';
+
+    private final Set<String> fields;
+    private final Set<Object> filteredEntities;
+
+    /**
+     * Instantiates a new Fields filter.
+     *
+     * @param fields           the fields
+     * @param filteredEntities the filtered entities
+     */
+    public FieldsFilter(Set<String> fields, Collection<?> filteredEntities) {
+        this.fields = fields;
+        this.filteredEntities = Collections.newSetFromMap(new IdentityHashMap<>());
+        this.filteredEntities.addAll(filteredEntities);
+    }
+
+    @Override
+    public void serializeAsField(Object pojo, JsonGenerator generator, SerializerProvider provider, PropertyWriter writer)
+            throws Exception {
+        if (!filteredEntities.contains(pojo) || fields.contains(normalizeName(writer.getName()))) {
+            writer.serializeAsField(pojo, generator, provider);
+        } else if (!generator.canOmitFields()) {
+            writer.serializeAsOmittedField(pojo, generator, provider);
+        }
+    }
+
+    private String normalizeName(String name) {
+        return !name.isEmpty() && name.charAt(0) == HAL_PREFIX ? name.substring(1) : name;
+    }
+}
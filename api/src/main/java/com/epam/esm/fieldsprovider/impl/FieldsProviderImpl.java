@@ -0,0 +1,50 @@
+package com.epam.esm.fieldsprovider.impl;
+
+import com.epam.esm.dto.PageDto;
+import com.epam.esm.entity.AbstractEntity;
+import com.epam.esm.fieldsprovider.FieldsProvider;
+import com.fasterxml.jackson.databind.ser.impl.SimpleFilterProvider;
+import org.springframework.http.converter.json.MappingJacksonValue;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+import static com.epam.esm.dao.RequestParamName.ID;
+
+/**
+ * @author VChaikovski
+ * @project certificates-shop-backend
+ * The type Fields provider.
+ * This class implements the FieldsProvider interface.
+ */
+@Component
+public class FieldsProviderImpl implements FieldsProvider {
+    private static final String DELIMITER = ",";
+
+    @Override
+    public List<String> parseFields(String fields) {
+        if (fields == null || fields.isBlank()) {
+            return null;
+        }
+        return Arrays.stream(fields.split(DELIMITER))
+                .map(String::trim)
+                .filter(f -> !f.isEmpty())
+                .distinct()
+                .toList();
+    }
+
+    @Override
+    public MappingJacksonValue applyFields(PageDto<?> page, List<String> fields) {
+        MappingJacksonValue value = new MappingJacksonValue(page);
+        if (fields != null) {
+            Set<String> filteredFields = new LinkedHashSet<>(fields);
+            filteredFields.add(ID);
+            value.setFilters(new SimpleFilterProvider()
+                    .addFilter(AbstractEntity.FIELDS_FILTER, new FieldsFilter(filteredFields, page.getContent())));
+        }
+        return value;
+    }
+}
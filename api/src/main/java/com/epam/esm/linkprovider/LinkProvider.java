@@ -2,8 +2,10 @@ package com.epam.esm.linkprovider;
 
 import com.epam.esm.entity.GiftCertificate;
 import com.epam.esm.entity.Order;
+import com.epam.esm.entity.OrderLine;
 import com.epam.esm.entity.Tag;
 import com.epam.esm.entity.User;
+import com.epam.esm.entity.UserOrderSummary;
 
 /**
  * @author VChaikovski
@@ -22,11 +24,20 @@ public interface LinkProvider {
 
     /**
      * Add link to order.
+     * <p>
+     * Archived orders get no links, as their certificates, lines and user can't be requested by the order id.
      *
      * @param order the order
      */
     void addLinkToOrder(Order order);
 
+    /**
+     * Add link to order line.
+     *
+     * @param orderLine the order line
+     */
+    void addLinkToOrderLine(OrderLine orderLine);
+
     /**
      * Add link to user.
      *
@@ -34,6 +45,13 @@ public interface LinkProvider {
      */
     void addLinkToUser(User user);
 
+    /**
+     * Add link to user summary.
+     *
+     * @param summary the user order summary
+     */
+    void addLinkToUserSummary(UserOrderSummary summary);
+
     /**
      * Add link to certificate.
      *
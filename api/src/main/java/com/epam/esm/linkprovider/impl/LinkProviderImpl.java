@@ -6,8 +6,10 @@ import com.epam.esm.controller.TagController;
 import com.epam.esm.controller.UserController;
 import com.epam.esm.entity.GiftCertificate;
 import com.epam.esm.entity.Order;
+import com.epam.esm.entity.OrderLine;
 import com.epam.esm.entity.Tag;
 import com.epam.esm.entity.User;
+import com.epam.esm.entity.UserOrderSummary;
 import com.epam.esm.linkprovider.LinkProvider;
 import org.springframework.stereotype.Component;
 
@@ -27,7 +29,10 @@ public class LinkProviderImpl implements LinkProvider {
     public static final String CERTIFICATES = "certificates";
     public static final String USERS = "users";
     public static final String ORDERS = "orders";
+    public static final String LINES = "lines";
     private static final String USER = "user";
+    private static final String CERTIFICATE = "certificate";
+    private static final String SUMMARY = "summary";
 
     @Override
     public void addLinkToTag(Tag tag) {
@@ -36,14 +41,30 @@ public class LinkProviderImpl implements LinkProvider {
 
     @Override
     public void addLinkToOrder(Order order) {
+        if (order.isArchived()) {
+            return;
+        }
         order.add(linkTo(methodOn(OrderController.class).findCertificatesByOrderId(order.getId())).withRel(CERTIFICATES));
         order.add(linkTo(methodOn(OrderController.class).findUserByOrderId(order.getId())).withRel(USER));
+        order.add(linkTo(methodOn(OrderController.class).findLinesByOrderId(order.getId())).withRel(LINES));
+    }
+
+    @Override
+    public void addLinkToOrderLine(OrderLine orderLine) {
+        orderLine.add(linkTo(methodOn(GiftCertificateController.class).findGiftCertificateById(orderLine.getCertificateId(), null)).withRel(CERTIFICATE));
     }
 
     @Override
     public void addLinkToUser(User user) {
         user.add(linkTo(methodOn(UserController.class).findOrdersByUserId(user.getId())).withRel(ORDERS));
         user.add(linkTo(methodOn(UserController.class).findCertificatesByUserId(user.getId())).withRel(CERTIFICATES));
+        user.add(linkTo(methodOn(UserController.class).findSummaryByUserId(user.getId())).withRel(SUMMARY));
+    }
+
+    @Override
+    public void addLinkToUserSummary(UserOrderSummary summary) {
+        summary.add(linkTo(methodOn(UserController.class).getUserById(summary.getUserId())).withRel(USER));
+        summary.add(linkTo(methodOn(UserController.class).findOrdersByUserId(summary.getUserId())).withRel(ORDERS));
     }
 
     @Override
@@ -0,0 +1,91 @@
+package com.epam.esm.ratelimit;
+
+import com.epam.esm.exception.ApplicationOverloadedException;
+import com.epam.esm.util.Bulkhead;
+import com.epam.esm.util.TrafficClass;
+import com.epam.esm.util.TrafficClassContext;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
+
+import javax.servlet.DispatcherType;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+
+import static com.epam.esm.exception.ErrorAttribute.OVERLOADED_MESSAGE_KEY;
+
+/**
+ * @author VChaikovski
+ * @project certificates-shop-backend
+ * The type Bulkhead interceptor.
+ * <p>
+ * This class finds the traffic class of a request, takes a permit of the class in the bulkhead before a controller
+ * method is called and frees it after the request is completed. The class is bound to the request thread,
+ * so database connections are taken from the pool of the class. Controller methods marked with TrafficPartition
+ * get the class of the annotation, requests of administrators get the admin class, all others the public class.
+ */
+public class BulkheadInterceptor implements AsyncHandlerInterceptor {
+    private static final String PARTITION_ATTRIBUTE = BulkheadInterceptor.class.getName() + ".partition";
+    private static final String ADMIN_AUTHORITY = "ROLE_ADMIN";
+    private static final String BULKHEAD = "%s requests";
+    private static final long RETRY_AFTER_SEC = 1;
+
+    private final Bulkhead bulkhead;
+
+    /**
+     * Instantiates a new Bulkhead interceptor.
+     *
+     * @param bulkhead the bulkhead
+     */
+    public BulkheadInterceptor(Bulkhead bulkhead) {
+        this.bulkhead = bulkhead;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (request.getDispatcherType() == DispatcherType.ASYNC || !(handler instanceof HandlerMethod handlerMethod)) {
+            return true;
+        }
+        TrafficClass trafficClass = classify(handlerMethod);
+        TrafficClass partition = bulkhead.tryAcquire(trafficClass);
+        if (partition == null) {
+            throw new ApplicationOverloadedException(OVERLOADED_MESSAGE_KEY,
+                    String.format(BULKHEAD, trafficClass.name().toLowerCase()), RETRY_AFTER_SEC);
+        }
+        request.setAttribute(PARTITION_ATTRIBUTE, partition);
+        TrafficClassContext.set(trafficClass);
+        return true;
+    }
+
+    @Override
+    public void afterConcurrentHandlingStarted(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        TrafficClassContext.clear();
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        Object partition = request.getAttribute(PARTITION_ATTRIBUTE);
+        if (partition != null) {
+            request.removeAttribute(PARTITION_ATTRIBUTE);
+            bulkhead.release((TrafficClass) partition);
+        }
+        TrafficClassContext.clear();
+    }
+
+    private TrafficClass classify(HandlerMethod handlerMethod) {
+        TrafficPartition trafficPartition = handlerMethod.getMethodAnnotation(TrafficPartition.class);
+        if (trafficPartition != null) {
+            return trafficPartition.value();
+        }
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.getAuthorities()
+                .stream()
+                .map(GrantedAuthority::getAuthority)
+                .anyMatch(ADMIN_AUTHORITY::equals)) {
+            return TrafficClass.ADMIN;
+        }
+        return TrafficClass.PUBLIC;
+    }
+}
@@ -0,0 +1,72 @@
+package com.epam.esm.ratelimit;
+
+import com.epam.esm.exception.ApplicationOverloadedException;
+import com.epam.esm.util.AdaptiveConcurrencyLimiter;
+import com.epam.esm.util.TrafficClass;
+import com.epam.esm.util.TrafficClassContext;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
+
+import javax.servlet.DispatcherType;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+
+import static com.epam.esm.exception.ErrorAttribute.OVERLOADED_MESSAGE_KEY;
+
+/**
+ * @author VChaikovski
+ * @project certificates-shop-backend
+ * The type Concurrency limit interceptor.
+ * <p>
+ * This class takes a place in the adaptive concurrency limiter before a controller method is called and frees it
+ * after the request is completed, so the limiter measures the latency of service calls. If there is no place
+ * the request is rejected at once with the 503 status. Streamed responses free their place as soon as
+ * the stream is started, they are limited by the stream executor. Placing orders isn't limited here,
+ * it's protected by its own partition of the bulkhead.
+ */
+public class ConcurrencyLimitInterceptor implements AsyncHandlerInterceptor {
+    private static final String START_ATTRIBUTE = ConcurrencyLimitInterceptor.class.getName() + ".start";
+    private static final String CONCURRENCY_LIMIT = "concurrency limit";
+    private static final long RETRY_AFTER_SEC = 1;
+
+    private final AdaptiveConcurrencyLimiter limiter;
+
+    /**
+     * Instantiates a new Concurrency limit interceptor.
+     *
+     * @param limiter the limiter
+     */
+    public ConcurrencyLimitInterceptor(AdaptiveConcurrencyLimiter limiter) {
+        this.limiter = limiter;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (request.getDispatcherType() == DispatcherType.ASYNC || !(handler instanceof HandlerMethod)
+                || TrafficClassContext.get() == TrafficClass.CHECKOUT) {
+            return true;
+        }
+        if (!limiter.tryAcquire()) {
+            throw new ApplicationOverloadedException(OVERLOADED_MESSAGE_KEY, CONCURRENCY_LIMIT, RETRY_AFTER_SEC);
+        }
+        request.setAttribute(START_ATTRIBUTE, System.nanoTime());
+        return true;
+    }
+
+    @Override
+    public void afterConcurrentHandlingStarted(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (request.getAttribute(START_ATTRIBUTE) != null) {
+            request.removeAttribute(START_ATTRIBUTE);
+            limiter.release(0);
+        }
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        Object start = request.getAttribute(START_ATTRIBUTE);
+        if (start != null) {
+            request.removeAttribute(START_ATTRIBUTE);
+            limiter.release(System.nanoTime() - (long) start);
+        }
+    }
+}
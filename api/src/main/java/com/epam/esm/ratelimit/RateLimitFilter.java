@@ -0,0 +1,81 @@
+package com.epam.esm.ratelimit;
+
+import com.epam.esm.exceptionhandler.ApplicationError;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.context.support.ResourceBundleMessageSource;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+import static com.epam.esm.exception.ErrorAttribute.TOO_MANY_REQUESTS_CODE;
+import static com.epam.esm.exception.ErrorAttribute.TOO_MANY_REQUESTS_MESSAGE_KEY;
+
+/**
+ * @author VChaikovski
+ * @project certificates-shop-backend
+ * The type Rate limit filter.
+ * <p>
+ * This class limits the rate of API requests of every client before they reach security, controllers and database.
+ * A client is identified by the remote address. Headers sent by the client aren't used for that, because a client
+ * could get a new full bucket with every new header value. The filter runs before security, so the principal
+ * isn't known here, and rejected requests don't cost authentication. Behind a trusted proxy the remote address
+ * is taken from forwarded headers by the server, see the server.forward-headers-strategy property.
+ * Rejected requests get the 429 status with the Retry-After header.
+ */
+public class RateLimitFilter extends OncePerRequestFilter {
+    private static final String API_PATH = "/api/";
+    private static final String ADDRESS_PREFIX = "ip:";
+
+    private final RateLimiter rateLimiter;
+    private final ResourceBundleMessageSource messageSource;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * Instantiates a new Rate limit filter.
+     *
+     * @param rateLimiter    the rate limiter
+     * @param messageSource  the message source
+     * @param objectMapper   the object mapper
+     */
+    public RateLimitFilter(RateLimiter rateLimiter, ResourceBundleMessageSource messageSource, ObjectMapper objectMapper) {
+        this.rateLimiter = rateLimiter;
+        this.messageSource = messageSource;
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !request.getRequestURI().startsWith(API_PATH);
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        long waitNanos = rateLimiter.tryAcquire(findClientKey(request));
+        if (waitNanos == 0) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+        long retryAfterSec = Math.max(1, TimeUnit.NANOSECONDS.toSeconds(waitNanos + TimeUnit.SECONDS.toNanos(1) - 1));
+        response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSec));
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        String message = String.format(messageSource.getMessage(TOO_MANY_REQUESTS_MESSAGE_KEY, null, request.getLocale()),
+                retryAfterSec);
+        objectMapper.writeValue(response.getOutputStream(), new ApplicationError(TOO_MANY_REQUESTS_CODE, message));
+    }
+
+    private String findClientKey(HttpServletRequest request) {
+        return ADDRESS_PREFIX + request.getRemoteAddr();
+    }
+}
@@ -0,0 +1,93 @@
+package com.epam.esm.ratelimit;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * @author VChaikovski
+ * @project certificates-shop-backend
+ * The type Rate limiter.
+ * <p>
+ * This class keeps a token bucket per client. Buckets are held in a concurrent map, which is striped
+ * by key hash, and are taken without locks. Buckets that stayed full for the idle time are evicted periodically.
+ * The number of buckets is bounded: when the map is full new clients share one overflow bucket,
+ * so a flood of addresses can't exhaust memory.
+ */
+@Component
+public class RateLimiter {
+    private static final String REQUESTS_METRIC = "rate.limiter.requests";
+    private static final String CLIENTS_METRIC = "rate.limiter.clients";
+    private static final String RESULT_TAG = "result";
+
+    private final Map<String, TokenBucket> buckets = new ConcurrentHashMap<>();
+    private final double requestsPerSecond;
+    private final int burst;
+    private final long idleNanos;
+    private final int maxClients;
+    private final TokenBucket overflowBucket;
+    private final Counter allowedCounter;
+    private final Counter rejectedCounter;
+
+    /**
+     * Instantiates a new Rate limiter.
+     *
+     * @param requestsPerSecond the requests per second of a client
+     * @param burst             the max number of requests of a client at once
+     * @param idleEvictionMs    the time after which an unused bucket is evicted
+     * @param maxClients        the max number of buckets
+     * @param meterRegistry     the meter registry
+     */
+    @Autowired
+    public RateLimiter(@Value("${application.rate-limit.requests-per-second:50}") double requestsPerSecond,
+                       @Value("${application.rate-limit.burst:100}") int burst,
+                       @Value("${application.rate-limit.idle-eviction-ms:60000}") long idleEvictionMs,
+                       @Value("${application.rate-limit.max-clients:100000}") int maxClients,
+                       MeterRegistry meterRegistry) {
+        this.requestsPerSecond = requestsPerSecond;
+        this.burst = burst;
+        this.idleNanos = TimeUnit.MILLISECONDS.toNanos(idleEvictionMs);
+        this.maxClients = maxClients;
+        overflowBucket = new TokenBucket(requestsPerSecond, burst, System.nanoTime());
+        allowedCounter = meterRegistry.counter(REQUESTS_METRIC, RESULT_TAG, "allowed");
+        rejectedCounter = meterRegistry.counter(REQUESTS_METRIC, RESULT_TAG, "rejected");
+        Gauge.builder(CLIENTS_METRIC, buckets, Map::size).register(meterRegistry);
+    }
+
+    /**
+     * Try acquire long.
+     *
+     * @param clientKey the client key
+     * @return 0 if the request is allowed, otherwise the time in nanoseconds after which the client may repeat it
+     */
+    public long tryAcquire(String clientKey) {
+        long now = System.nanoTime();
+        TokenBucket bucket = buckets.get(clientKey);
+        if (bucket == null) {
+            bucket = buckets.size() < maxClients
+                    ? buckets.computeIfAbsent(clientKey, k -> new TokenBucket(requestsPerSecond, burst, now))
+                    : overflowBucket;
+        }
+        long wait = bucket.tryAcquire(now);
+        (wait == 0 ? allowedCounter : rejectedCounter).increment();
+        return wait;
+    }
+
+    /**
+     * Evict idle buckets.
+     */
+    @Scheduled(fixedDelayString = "${application.rate-limit.idle-eviction-ms:60000}",
+            initialDelayString = "${application.rate-limit.idle-eviction-ms:60000}")
+    public void evictIdleBuckets() {
+        long now = System.nanoTime();
+        buckets.values().removeIf(b -> b.isIdle(now, idleNanos));
+    }
+}
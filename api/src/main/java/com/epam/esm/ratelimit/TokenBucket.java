@@ -0,0 +1,62 @@
+package com.epam.esm.ratelimit;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * @author VChaikovski
+ * @project certificates-shop-backend
+ * The type Token bucket.
+ * <p>
+ * This class is a lock-free token bucket. Instead of the number of tokens it keeps the time when the bucket
+ * becomes full again (the generic cell rate algorithm), so the whole state is one long that is changed
+ * with compare-and-set and no refill thread is needed.
+ */
+public class TokenBucket {
+    private final long intervalNanos;
+    private final long capacityNanos;
+    private final AtomicLong fullAt;
+
+    /**
+     * Instantiates a new Token bucket.
+     *
+     * @param tokensPerSecond the tokens added per second
+     * @param capacity        the max number of tokens
+     * @param nowNanos        the current time in nanoseconds
+     */
+    public TokenBucket(double tokensPerSecond, int capacity, long nowNanos) {
+        intervalNanos = (long) (1_000_000_000L / tokensPerSecond);
+        capacityNanos = intervalNanos * capacity;
+        fullAt = new AtomicLong(nowNanos);
+    }
+
+    /**
+     * Try acquire long.
+     *
+     * @param nowNanos the current time in nanoseconds
+     * @return 0 if a token was taken, otherwise the time in nanoseconds after which a token will be available
+     */
+    public long tryAcquire(long nowNanos) {
+        while (true) {
+            long current = fullAt.get();
+            long next = Math.max(current, nowNanos) + intervalNanos;
+            long wait = next - nowNanos - capacityNanos;
+            if (wait > 0) {
+                return wait;
+            }
+            if (fullAt.compareAndSet(current, next)) {
+                return 0;
+            }
+        }
+    }
+
+    /**
+     * Is idle boolean.
+     *
+     * @param nowNanos  the current time in nanoseconds
+     * @param idleNanos the time the bucket must stay full
+     * @return true if the bucket has been full for at least given time, so dropping it changes nothing
+     */
+    public boolean isIdle(long nowNanos, long idleNanos) {
+        return nowNanos - fullAt.get() >= idleNanos;
+    }
+}
@@ -0,0 +1,34 @@
+package com.epam.esm.ratelimit;
+
+import com.epam.esm.util.TrafficClass;
+import com.epam.esm.util.TrafficClassContext;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+
+/**
+ * @author VChaikovski
+ * @project certificates-shop-backend
+ * The type Traffic class filter.
+ * <p>
+ * This class binds the public traffic class to every request thread before security runs, so logins, token issue
+ * and other database work done by filters take connections from the public pool. The bulkhead interceptor
+ * replaces the class for controller methods of checkout and administration. Only threads outside of requests,
+ * like scheduled jobs, are left without a class and use the background pool.
+ */
+public class TrafficClassFilter extends OncePerRequestFilter {
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        TrafficClassContext.set(TrafficClass.PUBLIC);
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            TrafficClassContext.clear();
+        }
+    }
+}
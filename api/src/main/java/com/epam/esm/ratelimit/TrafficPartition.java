@@ -0,0 +1,26 @@
+package com.epam.esm.ratelimit;
+
+import com.epam.esm.util.TrafficClass;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * @author VChaikovski
+ * @project certificates-shop-backend
+ * The annotation Traffic partition.
+ * <p>
+ * This annotation assigns the traffic class to requests of a controller method regardless of the user role.
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface TrafficPartition {
+    /**
+     * Value traffic class.
+     *
+     * @return the traffic class
+     */
+    TrafficClass value();
+}
@@ -1,11 +1,15 @@
 package com.epam.esm.security.config;
 
+import com.epam.esm.ratelimit.RateLimitFilter;
+import com.epam.esm.ratelimit.RateLimiter;
 import com.epam.esm.security.oauth.AuthUserDetailsService;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.web.servlet.FilterRegistrationBean;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.support.ResourceBundleMessageSource;
 import org.springframework.core.Ordered;
 import org.springframework.http.HttpMethod;
 import org.springframework.security.authentication.AuthenticationManager;
@@ -39,6 +43,10 @@ public class WebSecurityConfig extends WebSecurityConfigurerAdapter {
     private String tagsUri;
     @Value("${application.uri.certificates}")
     private String certificatesUri;
+    @Value("${application.uri.health}")
+    private String healthUri;
+    @Value("${application.rate-limit.enabled:true}")
+    private boolean rateLimitEnabled;
 
     @Autowired
     private AuthUserDetailsService userDetailsService;
@@ -70,7 +78,7 @@ public class WebSecurityConfig extends WebSecurityConfigurerAdapter {
     @Override
     public void configure(WebSecurity web) {
         web.ignoring()
-                .antMatchers(HttpMethod.GET, tagsUri, certificatesUri)
+                .antMatchers(HttpMethod.GET, tagsUri, certificatesUri, healthUri)
                 .antMatchers(HttpMethod.POST, usersUri)
                 .antMatchers(HttpMethod.OPTIONS);
     }
@@ -90,4 +98,27 @@ public class WebSecurityConfig extends WebSecurityConfigurerAdapter {
 
         return bean;
     }
+
+    /**
+     * Process rate limit filter filter registration bean.
+     * <p>
+     * The filter goes right after the CORS filter, so rejected requests still have CORS headers
+     * and don't reach security, controllers and database.
+     *
+     * @param rateLimiter   the rate limiter
+     * @param messageSource the message source
+     * @param objectMapper  the object mapper
+     * @return the filter registration bean
+     */
+    @Bean
+    public FilterRegistrationBean<Filter> processRateLimitFilter(RateLimiter rateLimiter,
+                                                                 ResourceBundleMessageSource messageSource,
+                                                                 ObjectMapper objectMapper) {
+        final FilterRegistrationBean<Filter> bean = new FilterRegistrationBean<>(
+                new RateLimitFilter(rateLimiter, messageSource, objectMapper));
+        bean.setOrder(Ordered.HIGHEST_PRECEDENCE + 1);
+        bean.setEnabled(rateLimitEnabled);
+
+        return bean;
+    }
 }
\ No newline at end of file
@@ -0,0 +1,81 @@
+package com.epam.esm.stream;
+
+import com.epam.esm.entity.AbstractEntity;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.util.List;
+import java.util.function.BiFunction;
+import java.util.function.Consumer;
+
+/**
+ * @author VChaikovski
+ * @project certificates-shop-backend
+ * The type Entity stream writer.
+ * <p>
+ * This class streams entities as newline delimited JSON. Entities are read chunk by chunk with keyset reading,
+ * every chunk in its own short read-only transaction, and every chunk is flushed before the next one is read.
+ * So the response is written outside the request thread, no database connection is held while the client reads
+ * and a slow client only slows down its own stream.
+ */
+@Component
+public class EntityStreamWriter {
+    /**
+     * The constant APPLICATION_NDJSON_VALUE.
+     */
+    public static final String APPLICATION_NDJSON_VALUE = "application/x-ndjson";
+    /**
+     * The constant APPLICATION_NDJSON.
+     */
+    public static final MediaType APPLICATION_NDJSON = MediaType.parseMediaType(APPLICATION_NDJSON_VALUE);
+    private static final char LINE_SEPARATOR = '\n';
+
+    private ObjectMapper objectMapper;
+
+    /**
+     * Instantiates a new Entity stream writer.
+     *
+     * @param objectMapper the object mapper
+     */
+    @Autowired
+    public EntityStreamWriter(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * Stream streaming response body.
+     *
+     * @param firstChunk  the first chunk, it's read before the response is started so not valid params are reported as usual
+     * @param limit       the chunk size
+     * @param chunkLoader the function that reads the chunk following the given id
+     * @param linkAdder   the function that adds links to an entity
+     * @param <T>         the type of entities
+     * @return the streaming response body
+     */
+    public <T extends AbstractEntity> StreamingResponseBody stream(List<T> firstChunk, int limit,
+                                                                   BiFunction<Long, Integer, List<T>> chunkLoader,
+                                                                   Consumer<T> linkAdder) {
+        return outputStream -> {
+            JsonGenerator generator = objectMapper.getFactory().createGenerator(outputStream);
+            generator.setRootValueSeparator(null);
+            List<T> chunk = firstChunk;
+            while (!chunk.isEmpty()) {
+                for (T entity : chunk) {
+                    linkAdder.accept(entity);
+                    generator.writeObject(entity);
+                    generator.writeRaw(LINE_SEPARATOR);
+                }
+                generator.flush();
+                if (chunk.size() < limit) {
+                    break;
+                }
+                chunk = chunkLoader.apply(chunk.get(chunk.size() - 1).getId(), limit);
+            }
+            generator.close();
+        };
+    }
+}
@@ -0,0 +1,203 @@
+package com.epam.esm.warmup;
+
+import com.epam.esm.configuration.TrafficClassRoutingDataSource;
+import com.epam.esm.entity.Tag;
+import com.epam.esm.util.BestsellerRanking;
+import com.epam.esm.util.TagDictionary;
+import com.zaxxer.hikari.HikariDataSource;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.availability.AvailabilityChangeEvent;
+import org.springframework.boot.availability.ReadinessState;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.core.env.Environment;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * @author VChaikovski
+ * @project certificates-shop-backend
+ * The type Warm up runner.
+ * <p>
+ * This class warms up a new instance before it accepts traffic. It runs after the web server is started
+ * but before the application is marked as ready, so the readiness probe keeps traffic away until it's done.
+ * It opens the minimum number of connections of every database pool, reads the hot gift certificates and tags,
+ * so they get into the caches, and replays a set of typical read requests through the whole stack of filters,
+ * interceptors and controllers, so the code they run is compiled by JIT before real requests come.
+ * Replayed requests are rate limited like any other client: when they're rejected the runner waits
+ * for the time given in the Retry-After header, so warm-up never gets past the limit.
+ * Warm-up is limited in time and its failures are only logged, it never stops the application.
+ */
+@Component
+@ConditionalOnProperty(name = "application.warm-up.enabled", havingValue = "true", matchIfMissing = true)
+public class WarmUpRunner implements ApplicationRunner {
+    private static final Logger logger = LogManager.getLogger();
+    private static final String BASE_URL = "http://localhost:";
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(5);
+
+    private ApplicationEventPublisher eventPublisher;
+    private Environment environment;
+    private DataSource dataSource;
+    private BestsellerRanking bestsellerRanking;
+    private TagDictionary tagDictionary;
+    @Value("${application.warm-up.iterations:200}")
+    private int iterations;
+    @Value("${application.warm-up.time-budget-ms:30000}")
+    private long timeBudgetMs;
+    @Value("${application.warm-up.hot-certificates:20}")
+    private int hotCertificates;
+    @Value("${application.warm-up.hot-tags:20}")
+    private int hotTags;
+    @Value("${application.warm-up.requests:}")
+    private List<String> requests;
+    @Value("${application.uri.certificates}")
+    private String certificatesUri;
+    @Value("${application.uri.tags}")
+    private String tagsUri;
+
+    /**
+     * Instantiates a new Warm up runner.
+     *
+     * @param eventPublisher    the event publisher
+     * @param environment       the environment
+     * @param dataSource        the data source
+     * @param bestsellerRanking the bestseller ranking
+     * @param tagDictionary     the tag dictionary
+     */
+    @Autowired
+    public WarmUpRunner(ApplicationEventPublisher eventPublisher, Environment environment, DataSource dataSource,
+                        BestsellerRanking bestsellerRanking, TagDictionary tagDictionary) {
+        this.eventPublisher = eventPublisher;
+        this.environment = environment;
+        this.dataSource = dataSource;
+        this.bestsellerRanking = bestsellerRanking;
+        this.tagDictionary = tagDictionary;
+    }
+
+    /**
+     * Instantiates a new Warm up runner.
+     */
+    public WarmUpRunner() {
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        AvailabilityChangeEvent.publish(eventPublisher, this, ReadinessState.REFUSING_TRAFFIC);
+        long start = System.currentTimeMillis();
+        long deadline = start + timeBudgetMs;
+        try {
+            int connections = openConnections();
+            List<String> paths = findPaths();
+            int[] result = replay(paths, deadline);
+            logger.info("Warm-up is done in {} ms: {} connections opened, {} requests sent, {} failed, {} throttled",
+                    System.currentTimeMillis() - start, connections, result[0], result[1], result[2]);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            logger.warn("Warm-up is interrupted");
+        } catch (RuntimeException | SQLException e) {
+            logger.warn("Warm-up failed, the application starts without it", e);
+        }
+    }
+
+    private int openConnections() throws SQLException {
+        int opened = 0;
+        for (HikariDataSource pool : findPools()) {
+            List<Connection> connections = new ArrayList<>();
+            try {
+                while (connections.size() < Math.max(1, pool.getMinimumIdle())) {
+                    connections.add(pool.getConnection());
+                }
+                opened += connections.size();
+            } finally {
+                for (Connection connection : connections) {
+                    connection.close();
+                }
+            }
+        }
+        return opened;
+    }
+
+    private Collection<HikariDataSource> findPools() throws SQLException {
+        if (dataSource.isWrapperFor(TrafficClassRoutingDataSource.class)) {
+            return dataSource.unwrap(TrafficClassRoutingDataSource.class).getPools();
+        }
+        if (dataSource.isWrapperFor(HikariDataSource.class)) {
+            return List.of(dataSource.unwrap(HikariDataSource.class));
+        }
+        return List.of();
+    }
+
+    private List<String> findPaths() {
+        String certificatesPath = certificatesUri.replace("/**", "/");
+        String tagsPath = tagsUri.replace("/**", "/");
+        List<String> paths = new ArrayList<>(requests);
+        bestsellerRanking.findTopIds(hotCertificates)
+                .forEach(id -> paths.add(certificatesPath + id));
+        tagDictionary.suggest("", hotTags)
+                .stream()
+                .map(Tag::getId)
+                .forEach(id -> paths.add(tagsPath + id));
+        return paths;
+    }
+
+    private int[] replay(List<String> paths, long deadline) throws InterruptedException {
+        int sent = 0;
+        int failed = 0;
+        int throttled = 0;
+        if (paths.isEmpty()) {
+            return new int[]{sent, failed, throttled};
+        }
+        String baseUrl = BASE_URL + environment.getRequiredProperty("local.server.port");
+        HttpClient client = HttpClient.newBuilder()
+                .connectTimeout(REQUEST_TIMEOUT)
+                .build();
+        for (int i = 0; i < iterations; i++) {
+            for (String path : paths) {
+                if (System.currentTimeMillis() >= deadline) {
+                    return new int[]{sent, failed, throttled};
+                }
+                HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + path))
+                        .timeout(REQUEST_TIMEOUT)
+                        .GET()
+                        .build();
+                sent++;
+                try {
+                    HttpResponse<Void> response = client.send(request, HttpResponse.BodyHandlers.discarding());
+                    if (response.statusCode() == HttpStatus.TOO_MANY_REQUESTS.value()) {
+                        throttled++;
+                        long retryAfterMs = TimeUnit.SECONDS.toMillis(response.headers()
+                                .firstValueAsLong(HttpHeaders.RETRY_AFTER)
+                                .orElse(1));
+                        Thread.sleep(Math.max(0, Math.min(retryAfterMs, deadline - System.currentTimeMillis())));
+                    } else if (response.statusCode() / 100 != 2) {
+                        failed++;
+                    }
+                } catch (IOException e) {
+                    failed++;
+                    logger.debug("Warm-up request failed: {}", path, e);
+                }
+            }
+        }
+        return new int[]{sent, failed, throttled};
+    }
+}
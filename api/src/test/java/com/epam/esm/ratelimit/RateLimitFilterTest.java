@@ -0,0 +1,78 @@
+package com.epam.esm.ratelimit;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.support.ResourceBundleMessageSource;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import javax.servlet.ServletException;
+import java.io.IOException;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+
+/**
+ * @author VChaikovski
+ * @project certificates-shop-backend
+ * The type RateLimitFilterTest.
+ * <p>
+ * This class includes methods for testing the RateLimitFilter class.
+ */
+class RateLimitFilterTest {
+    private static final int BURST = 3;
+    private static final String URI = "/api/v1/certificates";
+
+    private RateLimitFilter filter;
+
+    /**
+     * Initialization of fields.
+     */
+    @BeforeEach
+    void setUp() {
+        ResourceBundleMessageSource messageSource = new ResourceBundleMessageSource();
+        messageSource.setUseCodeAsDefaultMessage(true);
+        RateLimiter rateLimiter = new RateLimiter(0.001, BURST, 60000, 1000, new SimpleMeterRegistry());
+        filter = new RateLimitFilter(rateLimiter, messageSource, new ObjectMapper());
+    }
+
+    /**
+     * Testing the doFilter method rejects requests of an address over the burst.
+     */
+    @Test
+    void doFilterRejectsOverBurst() throws ServletException, IOException {
+        for (int i = 0; i < BURST; i++) {
+            assertEquals(HttpStatus.OK.value(), send("10.0.0.1", null).getStatus());
+        }
+        MockHttpServletResponse rejected = send("10.0.0.1", null);
+        assertEquals(HttpStatus.TOO_MANY_REQUESTS.value(), rejected.getStatus());
+        assertNotNull(rejected.getHeader("Retry-After"));
+        assertEquals(HttpStatus.OK.value(), send("10.0.0.2", null).getStatus());
+    }
+
+    /**
+     * Testing the doFilter method doesn't give a new bucket for a new client id header.
+     */
+    @Test
+    void doFilterIgnoresRotatedClientIdHeader() throws ServletException, IOException {
+        for (int i = 0; i < BURST; i++) {
+            assertEquals(HttpStatus.OK.value(), send("10.0.0.1", "client-" + i).getStatus());
+        }
+        assertEquals(HttpStatus.TOO_MANY_REQUESTS.value(), send("10.0.0.1", "client-new").getStatus());
+    }
+
+    private MockHttpServletResponse send(String address, String clientId) throws ServletException, IOException {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", URI);
+        request.setRemoteAddr(address);
+        if (clientId != null) {
+            request.addHeader("X-Client-Id", clientId);
+        }
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request, response, new MockFilterChain());
+        return response;
+    }
+}
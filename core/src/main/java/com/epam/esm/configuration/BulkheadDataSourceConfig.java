@@ -0,0 +1,91 @@
+package com.epam.esm.configuration;
+
+import com.epam.esm.util.TrafficClass;
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.env.Environment;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * @author VChaikovski
+ * @project certificates-shop-backend
+ * The type BulkheadDataSourceConfig.
+ * <p>
+ * This class splits the connection pool into a pool per traffic class, so catalogue browsing and administration
+ * can't take the connections needed to place orders. Background work, like scheduled jobs and event delivery,
+ * has its own pool, so it can't starve requests of administrators and the other way round. Unless it's configured,
+ * the background pool has a connection for every thread that runs background work, so they never wait for each other.
+ * Every pool gets the spring.datasource.hikari settings like the single pool does, only the pool name
+ * and the max pool size are set per traffic class.
+ */
+@Configuration
+@ConditionalOnProperty(name = "application.bulkhead.enabled", havingValue = "true", matchIfMissing = true)
+public class BulkheadDataSourceConfig {
+    private static final String POOL_NAME_SUFFIX = "-pool";
+    private static final String HIKARI_PREFIX = "spring.datasource.hikari";
+    private static final String BACKGROUND = "background";
+
+    @Value("${application.bulkhead.public.pool-size:6}")
+    private int publicPoolSize;
+    @Value("${application.bulkhead.checkout.pool-size:6}")
+    private int checkoutPoolSize;
+    @Value("${application.bulkhead.admin.pool-size:3}")
+    private int adminPoolSize;
+    @Value("${application.bulkhead.background.pool-size:0}")
+    private int backgroundPoolSize;
+    @Value("${spring.task.scheduling.pool.size:1}")
+    private int schedulerPoolSize;
+    @Value("${application.outbox.pool-size:2}")
+    private int outboxPoolSize;
+
+    /**
+     * Data source traffic class routing data source.
+     *
+     * @param properties  the data source properties
+     * @param environment the environment
+     * @return the traffic class routing data source
+     */
+    @Bean
+    @Primary
+    public TrafficClassRoutingDataSource dataSource(DataSourceProperties properties, Environment environment) {
+        Binder binder = Binder.get(environment);
+        Map<TrafficClass, HikariDataSource> pools = new EnumMap<>(TrafficClass.class);
+        for (TrafficClass trafficClass : TrafficClass.values()) {
+            pools.put(trafficClass, createPool(properties, binder, trafficClass.name().toLowerCase(),
+                    findPoolSize(trafficClass)));
+        }
+        return new TrafficClassRoutingDataSource(pools, createPool(properties, binder, BACKGROUND, findBackgroundPoolSize()));
+    }
+
+    private int findBackgroundPoolSize() {
+        // every scheduler and outbox thread, the catalogue refresh thread and the startup thread can hold a connection
+        return backgroundPoolSize > 0 ? backgroundPoolSize : schedulerPoolSize + outboxPoolSize + 2;
+    }
+
+    private int findPoolSize(TrafficClass trafficClass) {
+        return switch (trafficClass) {
+            case PUBLIC -> publicPoolSize;
+            case CHECKOUT -> checkoutPoolSize;
+            case ADMIN -> adminPoolSize;
+        };
+    }
+
+    private HikariDataSource createPool(DataSourceProperties properties, Binder binder, String name, int poolSize) {
+        HikariDataSource pool = properties.initializeDataSourceBuilder()
+                .type(HikariDataSource.class)
+                .build();
+        binder.bind(HIKARI_PREFIX, Bindable.ofInstance(pool));
+        pool.setPoolName(name.concat(POOL_NAME_SUFFIX));
+        pool.setMaximumPoolSize(poolSize);
+        return pool;
+    }
+}
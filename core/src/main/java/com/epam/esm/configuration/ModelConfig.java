@@ -1,11 +1,18 @@
 package com.epam.esm.configuration;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.ComponentScan;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.scheduling.annotation.EnableAsync;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.transaction.annotation.EnableTransactionManagement;
 
+import java.util.concurrent.ThreadPoolExecutor;
+
 /**
  * @author VChaikovski
  * @project certificates-shop-backend
@@ -16,7 +23,22 @@ import org.springframework.transaction.annotation.EnableTransactionManagement;
 @Configuration
 @ComponentScan(basePackages = {"com.epam.esm"})
 @EnableTransactionManagement
+@EnableAsync
+@EnableScheduling
 public class ModelConfig {
+    /**
+     * The constant ORDER_EVENT_EXECUTOR.
+     */
+    public static final String ORDER_EVENT_EXECUTOR = "orderEventExecutor";
+    /**
+     * The constant CATALOGUE_REFRESH_EXECUTOR.
+     */
+    public static final String CATALOGUE_REFRESH_EXECUTOR = "catalogueRefreshExecutor";
+    /**
+     * The constant VIRTUAL_THREADS_PROFILE.
+     */
+    public static final String VIRTUAL_THREADS_PROFILE = "virtual-threads";
+
     /**
      * BCryptPasswordEncoder bCryptPasswordEncoder.
      *
@@ -26,4 +48,48 @@ public class ModelConfig {
     public BCryptPasswordEncoder bCryptPasswordEncoder() {
         return new BCryptPasswordEncoder();
     }
-}
\ No newline at end of file
+
+    /**
+     * Order event executor thread pool task executor.
+     * <p>
+     * The pool and its queue are bounded. Events that don't fit into the queue are dropped here
+     * and delivered later from the outbox table, so the request thread never runs them.
+     *
+     * @param poolSize      the pool size
+     * @param queueCapacity the queue capacity
+     * @return the thread pool task executor
+     */
+    @Bean(name = ORDER_EVENT_EXECUTOR)
+    @Profile("!" + VIRTUAL_THREADS_PROFILE)
+    public ThreadPoolTaskExecutor orderEventExecutor(@Value("${application.outbox.pool-size:2}") int poolSize,
+                                                     @Value("${application.outbox.queue-capacity:1000}") int queueCapacity) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("order-event-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.DiscardPolicy());
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(10);
+        return executor;
+    }
+
+    /**
+     * Catalogue refresh executor thread pool task executor.
+     * <p>
+     * Refreshes of stale catalogue copies are run one at a time, a refresh that's requested while another one
+     * is waiting is dropped.
+     *
+     * @return the thread pool task executor
+     */
+    @Bean(name = CATALOGUE_REFRESH_EXECUTOR)
+    public ThreadPoolTaskExecutor catalogueRefreshExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(1);
+        executor.setMaxPoolSize(1);
+        executor.setQueueCapacity(1);
+        executor.setThreadNamePrefix("catalogue-refresh-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.DiscardPolicy());
+        return executor;
+    }
+}
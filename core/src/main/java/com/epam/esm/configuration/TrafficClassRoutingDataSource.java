@@ -0,0 +1,78 @@
+package com.epam.esm.configuration;
+
+import com.epam.esm.util.TrafficClass;
+import com.epam.esm.util.TrafficClassContext;
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * @author VChaikovski
+ * @project certificates-shop-backend
+ * The type Traffic class routing data source.
+ * <p>
+ * This class takes connections from the pool of the traffic class of the current thread, so every class
+ * has its own connections. Threads without a traffic class, like scheduled jobs, use the default pool,
+ * which belongs to no traffic class, so background work and requests can't take each other's connections.
+ */
+public class TrafficClassRoutingDataSource extends AbstractRoutingDataSource implements AutoCloseable {
+    private final Map<TrafficClass, HikariDataSource> pools;
+    private final HikariDataSource defaultPool;
+
+    /**
+     * Instantiates a new Traffic class routing data source.
+     *
+     * @param pools        the pools by traffic classes
+     * @param defaultPool the pool used by threads without a traffic class
+     */
+    public TrafficClassRoutingDataSource(Map<TrafficClass, HikariDataSource> pools, HikariDataSource defaultPool) {
+        this.pools = pools;
+        this.defaultPool = defaultPool;
+        setLenientFallback(false);
+        wrapPools(pool -> pool);
+    }
+
+    /**
+     * Wrap pools.
+     * <p>
+     * This method makes connections be taken through wrappers of the pools, like guards that limit waiting threads.
+     * The pools themselves are still returned by getPools and closed by close.
+     *
+     * @param wrapper the wrapper of a pool
+     */
+    public void wrapPools(Function<HikariDataSource, DataSource> wrapper) {
+        Map<Object, Object> targets = new HashMap<>();
+        pools.forEach((trafficClass, pool) -> targets.put(trafficClass, wrapper.apply(pool)));
+        setTargetDataSources(targets);
+        setDefaultTargetDataSource(wrapper.apply(defaultPool));
+        afterPropertiesSet();
+    }
+
+    /**
+     * Gets pools.
+     *
+     * @return the pools of all traffic classes and the default pool
+     */
+    public Collection<HikariDataSource> getPools() {
+        List<HikariDataSource> allPools = new ArrayList<>(pools.values());
+        allPools.add(defaultPool);
+        return allPools;
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        return TrafficClassContext.get();
+    }
+
+    @Override
+    public void close() {
+        getPools().forEach(HikariDataSource::close);
+    }
+}
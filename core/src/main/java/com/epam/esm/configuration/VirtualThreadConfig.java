@@ -0,0 +1,79 @@
+package com.epam.esm.configuration;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.core.task.support.TaskExecutorAdapter;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static com.epam.esm.configuration.ModelConfig.ORDER_EVENT_EXECUTOR;
+import static com.epam.esm.configuration.ModelConfig.VIRTUAL_THREADS_PROFILE;
+
+/**
+ * @author VChaikovski
+ * @project certificates-shop-backend
+ * The type VirtualThreadConfig.
+ * <p>
+ * This class includes the configuration for virtual-threads profile. It runs background work on virtual threads
+ * and guards the connection pool, so the number of threads that hold a database connection never exceeds the pool size.
+ * With bulkheads every pool of a traffic class gets its own guard.
+ * The profile requires Java 21 at runtime, while the code still compiles for Java 17.
+ */
+@Configuration
+@Profile(VIRTUAL_THREADS_PROFILE)
+public class VirtualThreadConfig {
+    private static final String NEW_VIRTUAL_THREAD_EXECUTOR = "newVirtualThreadPerTaskExecutor";
+
+    /**
+     * Order event executor task executor.
+     *
+     * @return the task executor
+     */
+    @Bean(name = ORDER_EVENT_EXECUTOR)
+    public TaskExecutor orderEventExecutor() {
+        return new TaskExecutorAdapter(newVirtualThreadPerTaskExecutor());
+    }
+
+    /**
+     * Connection guard post processor bean post processor.
+     *
+     * @param timeoutMs the time to wait for a free connection
+     * @return the bean post processor
+     */
+    @Bean
+    public static BeanPostProcessor connectionGuardPostProcessor(
+            @Value("${application.datasource.guard-timeout-ms:5000}") long timeoutMs) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof HikariDataSource hikariDataSource) {
+                    return new ConnectionGuardDataSource(hikariDataSource, hikariDataSource.getMaximumPoolSize(), timeoutMs);
+                }
+                if (bean instanceof TrafficClassRoutingDataSource routingDataSource) {
+                    routingDataSource.wrapPools(pool -> new ConnectionGuardDataSource(pool, pool.getMaximumPoolSize(),
+                            timeoutMs));
+                }
+                return bean;
+            }
+        };
+    }
+
+    /**
+     * New virtual thread per task executor executor service.
+     *
+     * @return the executor service
+     */
+    public static ExecutorService newVirtualThreadPerTaskExecutor() {
+        try {
+            return (ExecutorService) Executors.class.getMethod(NEW_VIRTUAL_THREAD_EXECUTOR).invoke(null);
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("Profile " + VIRTUAL_THREADS_PROFILE + " requires Java 21 or newer", e);
+        }
+    }
+}
@@ -0,0 +1,13 @@
+package com.epam.esm.dao;
+
+import com.epam.esm.entity.AuditEntry;
+
+/**
+ * @author VChaikovski
+ * @project certificates-shop-backend
+ * The interface Audit entry dao.
+ * <p>
+ * This interface includes methods that make and send queries to database to execute operations with audit entries.
+ */
+public interface AuditEntryDao extends BaseDao<AuditEntry> {
+}
@@ -0,0 +1,25 @@
+package com.epam.esm.dao;
+
+/**
+ * @author VChaikovski
+ * @project certificates-shop-backend
+ * The interface Catalogue revision dao.
+ * <p>
+ * This interface includes methods that make and send queries to database to execute operations with the catalogue revision.
+ */
+public interface CatalogueRevisionDao {
+    /**
+     * Find revision long.
+     *
+     * @return the stored catalogue revision, 0 if the catalogue wasn't changed yet
+     */
+    long findRevision();
+
+    /**
+     * Increase revision.
+     * <p>
+     * This method executes update operation that increments the stored catalogue revision, the row is created
+     * if it doesn't exist yet. The row stays locked until the end of the transaction.
+     */
+    void increaseRevision();
+}
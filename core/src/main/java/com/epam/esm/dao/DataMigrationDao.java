@@ -0,0 +1,25 @@
+package com.epam.esm.dao;
+
+import java.time.LocalDateTime;
+
+/**
+ * @author VChaikovski
+ * @project certificates-shop-backend
+ * The interface Data migration dao.
+ * <p>
+ * This interface includes methods that make and send queries to database to execute operations with applied data migrations.
+ */
+public interface DataMigrationDao {
+    /**
+     * Mark applied boolean.
+     * <p>
+     * This method executes create operation for the row of the migration with given name, if there is no such row yet.
+     * The row stays locked until the end of the transaction, so the same call from another transaction waits
+     * for it and returns false once it's committed.
+     *
+     * @param name        the name of the migration
+     * @param appliedDate the applied date
+     * @return true if the migration wasn't applied before and has to be applied in the current transaction
+     */
+    boolean markApplied(String name, LocalDateTime appliedDate);
+}
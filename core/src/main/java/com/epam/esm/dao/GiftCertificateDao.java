@@ -70,6 +70,43 @@ public interface GiftCertificateDao extends BaseDao<GiftCertificate> {
      */
     List<GiftCertificate> findAll(String sortParam);
 
+    /**
+     * Find all list.
+     * <p>
+     * This method executes read operation for given fields of all gift certificates from database and returns data
+     * that sorted by sortParam. Only the given fields are selected, other fields of returned certificates are empty
+     * and tags aren't loaded. The fields must be the names of certificate columns.
+     *
+     * @param fields    the fields
+     * @param sortParam the sort param
+     * @return the list
+     */
+    List<GiftCertificate> findAll(List<String> fields, String sortParam);
+
+    /**
+     * Find by id with version check gift certificate.
+     * <p>
+     * This method executes read operation from database by id and registers an optimistic version check
+     * of the found gift certificate that is verified when the current transaction commits.
+     *
+     * @param id the id
+     * @return the gift certificate
+     */
+    GiftCertificate findByIdWithVersionCheck(long id);
+
+    /**
+     * Find after id list.
+     * <p>
+     * This method executes read operation for the next chunk of gift certificates ordered by id.
+     * The chunk starts right after the certificate with given id, so the query uses the primary key index
+     * and doesn't depend on the number of skipped rows.
+     *
+     * @param afterId the id of the last read gift certificate
+     * @param limit   the limit
+     * @return the list
+     */
+    List<GiftCertificate> findAfterId(long afterId, int limit);
+
     /**
      * Update gift certificate.
      * <p>
@@ -79,4 +116,46 @@ public interface GiftCertificateDao extends BaseDao<GiftCertificate> {
      * @return the gift certificate
      */
     GiftCertificate update(GiftCertificate giftCertificate);
+
+    /**
+     * Find by ids list.
+     * <p>
+     * This method executes read operation for all gift certificates that have given ids with one query.
+     *
+     * @param ids the ids
+     * @return the list in no particular order
+     */
+    List<GiftCertificate> findByIds(List<Long> ids);
+
+    /**
+     * Find top by popularity list.
+     * <p>
+     * This method executes read operation for the most popular gift certificates. Only ids and popularity
+     * of gift certificates are read, so the query is served by the popularity index.
+     *
+     * @param limit the limit
+     * @return the list ordered by popularity
+     */
+    List<GiftCertificate> findTopByPopularity(int limit);
+
+    /**
+     * Find popularity by ids list.
+     * <p>
+     * This method executes read operation for ids and popularity of gift certificates that have given ids.
+     *
+     * @param ids the ids
+     * @return the list in no particular order
+     */
+    List<GiftCertificate> findPopularityByIds(List<Long> ids);
+
+    /**
+     * Increase popularity by order id int.
+     * <p>
+     * This method executes update operation that adds quantities of all lines of the order with given id
+     * to the popularity of purchased gift certificates.
+     *
+     * @param orderId the order id
+     * @return the number of updated gift certificates
+     */
+    int increasePopularityByOrderId(long orderId);
 }
\ No newline at end of file
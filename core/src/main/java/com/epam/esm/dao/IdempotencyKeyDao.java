@@ -0,0 +1,38 @@
+package com.epam.esm.dao;
+
+import com.epam.esm.entity.IdempotencyKey;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * @author VChaikovski
+ * @project certificates-shop-backend
+ * The interface Idempotency key dao.
+ * <p>
+ * This interface includes methods that make and send queries to database to execute operations with idempotency keys of orders.
+ */
+public interface IdempotencyKeyDao extends BaseDao<IdempotencyKey> {
+    /**
+     * Find by key and user id list.
+     * <p>
+     * This method executes read operation for the idempotency key with given value that was sent by the user with given id.
+     * The order bound to the key is fetched in the same query. It is a locking read, so it sees the key
+     * committed by a concurrent request even inside a transaction that started before that commit.
+     *
+     * @param key    the key
+     * @param userId the user id
+     * @return the list
+     */
+    List<IdempotencyKey> findByKeyAndUserId(String key, long userId);
+
+    /**
+     * Delete created before int.
+     * <p>
+     * This method executes delete operation for idempotency keys created before given date.
+     *
+     * @param createdBefore the date before which keys were created
+     * @return the number of deleted keys
+     */
+    int deleteCreatedBefore(LocalDateTime createdBefore);
+}
@@ -1,7 +1,9 @@
 package com.epam.esm.dao;
 
 import com.epam.esm.entity.Order;
+import com.epam.esm.entity.OrderLine;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Map;
 
@@ -17,6 +19,10 @@ public interface OrderDao extends BaseDao<Order> {
      * Find order by cost and create date list.
      * <p>
      * This method executes read operation for all orders depend on given params.
+     * Archived orders are read too if the create date filter reaches them: a filter by orders created up to a date
+     * always does, a date range does if it starts before the archive age. Filters without a create date
+     * and date ranges that start after the archive age read only live orders.
+     * Archived orders are detached and marked as archived.
      *
      * @param filterParam the filter param
      * @return the list
@@ -33,6 +39,16 @@ public interface OrderDao extends BaseDao<Order> {
      */
     List<Order> findOrderByUserId(long userId);
 
+    /**
+     * Find order lines by order id list.
+     * <p>
+     * This method executes read operation for all lines of the order with given id.
+     *
+     * @param orderId the order id
+     * @return the list
+     */
+    List<OrderLine> findOrderLinesByOrderId(long orderId);
+
     /**
      * Find all list.
      * <p>
@@ -41,4 +57,39 @@ public interface OrderDao extends BaseDao<Order> {
      * @return the list
      */
     List<Order> findAll();
+
+    /**
+     * Find by ids list.
+     * <p>
+     * This method executes read operation for all orders that have given ids with one query.
+     *
+     * @param ids the ids
+     * @return the list in no particular order
+     */
+    List<Order> findByIds(List<Long> ids);
+
+    /**
+     * Find ids to archive list.
+     * <p>
+     * This method reads the next chunk of ids of orders created before given date. Ids are read in ascending order
+     * starting after given id, so chunks are read with an index range scan without offsets.
+     *
+     * @param afterId the id after which ids are read
+     * @param before  the date before which orders were created
+     * @param limit   the max number of ids
+     * @return the list
+     */
+    List<Long> findIdsToArchive(long afterId, LocalDateTime before, int limit);
+
+    /**
+     * Archive int.
+     * <p>
+     * This method copies orders with given ids, their lines and gift certificate links to archive tables
+     * and deletes them from the live tables.
+     *
+     * @param ids          the ids
+     * @param archivedDate the archived date
+     * @return the number of archived orders
+     */
+    int archive(List<Long> ids, LocalDateTime archivedDate);
 }
\ No newline at end of file
@@ -0,0 +1,47 @@
+package com.epam.esm.dao;
+
+import com.epam.esm.entity.OutboxEvent;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * @author VChaikovski
+ * @project certificates-shop-backend
+ * The interface Outbox event dao.
+ * <p>
+ * This interface includes methods that make and send queries to database to execute operations with outbox events.
+ */
+public interface OutboxEventDao extends BaseDao<OutboxEvent> {
+    /**
+     * Find by id for update outbox event.
+     * <p>
+     * This method executes read operation by id and locks the found row till the end of the current transaction,
+     * so the same event can't be processed by two threads at once.
+     *
+     * @param id the id
+     * @return the outbox event
+     */
+    OutboxEvent findByIdForUpdate(long id);
+
+    /**
+     * Find not processed list.
+     * <p>
+     * This method executes read operation for the oldest not processed events that were created before given date.
+     *
+     * @param createdBefore the created before
+     * @param limit         the limit
+     * @return the list
+     */
+    List<OutboxEvent> findNotProcessed(LocalDateTime createdBefore, int limit);
+
+    /**
+     * Delete processed int.
+     * <p>
+     * This method executes delete operation for all processed events that were processed before given date.
+     *
+     * @param processedBefore the processed before
+     * @return the number of deleted events
+     */
+    int deleteProcessed(LocalDateTime processedBefore);
+}
@@ -25,6 +25,10 @@ public final class QueryStorage {
      * The constant ORDER_BY.
      */
     public static final String ORDER_BY = " ORDER BY ";
+    /**
+     * The constant SELECT.
+     */
+    public static final String SELECT = "SELECT ";
 
     //tag queries
     /**
@@ -39,6 +43,18 @@ public final class QueryStorage {
      * The constant FIND_TAGS_BY_CERTIFICATE_ID.
      */
     public static final String FIND_TAGS_BY_CERTIFICATE_ID = "FROM Tag t JOIN FETCH t.certificates c WHERE c.id = :certificateId";
+    /**
+     * The constant FIND_TAGS_BY_IDS.
+     */
+    public static final String FIND_TAGS_BY_IDS = "FROM Tag t WHERE t.id IN :ids";
+    /**
+     * The constant FIND_TAGS_BY_NAMES.
+     */
+    public static final String FIND_TAGS_BY_NAMES = "FROM Tag t WHERE t.name IN :names";
+    /**
+     * The constant FIND_TAGS_AFTER_ID.
+     */
+    public static final String FIND_TAGS_AFTER_ID = "FROM Tag t WHERE t.id > ?1 ORDER BY t.id";
     /**
      * The constant FIND_MOST_WIDELY_USED_TAG_IN_USER_WITH_HIGHEST_COST_OF_ORDERS.
      */
@@ -65,12 +81,49 @@ public final class QueryStorage {
                     "(SELECT MAX(sum_c.sum_cost) FROM " +
                     "(SELECT SUM(o3.cost) AS sum_cost FROM orders AS o3 GROUP BY o3.user_id) AS sum_c)) AS user) " +
                     "GROUP BY t3.tag_name) AS t4)) AS t1)";
+    /**
+     * The constant INCREASE_TAG_PURCHASE_COUNT_BY_ORDER_ID.
+     */
+    public static final String INCREASE_TAG_PURCHASE_COUNT_BY_ORDER_ID =
+            "UPDATE tags AS t JOIN " +
+                    "(SELECT c_t.tag_id AS tag_id, SUM(l.quantity) AS purchased FROM order_lines AS l " +
+                    "JOIN gift_certificates_tags AS c_t ON l.certificate_id=c_t.certificate_id " +
+                    "WHERE l.order_id = ?1 GROUP BY c_t.tag_id) AS p ON t.id=p.tag_id " +
+                    "SET t.purchase_count = t.purchase_count + p.purchased";
+    /**
+     * The constant INCREASE_TAG_CERTIFICATE_COUNT.
+     */
+    public static final String INCREASE_TAG_CERTIFICATE_COUNT =
+            "UPDATE Tag t SET t.certificateCount = t.certificateCount + 1 WHERE t.id IN :ids";
+    /**
+     * The constant DECREASE_TAG_CERTIFICATE_COUNT.
+     */
+    public static final String DECREASE_TAG_CERTIFICATE_COUNT =
+            "UPDATE Tag t SET t.certificateCount = t.certificateCount - 1 WHERE t.id IN :ids AND t.certificateCount > 0";
+    /**
+     * The constant FIND_UNUSED_TAG_IDS.
+     */
+    public static final String FIND_UNUSED_TAG_IDS = "SELECT t.id FROM Tag t WHERE t.id IN :ids AND t.certificateCount = 0";
+    /**
+     * The constant DELETE_TAGS_BY_IDS.
+     */
+    public static final String DELETE_TAGS_BY_IDS = "DELETE FROM Tag t WHERE t.id IN :ids";
+    /**
+     * The constant RECOUNT_TAG_CERTIFICATES.
+     */
+    public static final String RECOUNT_TAG_CERTIFICATES =
+            "UPDATE tags AS t SET t.certificate_count = " +
+                    "(SELECT COUNT(*) FROM gift_certificates_tags AS c_t WHERE c_t.tag_id = t.id)";
 
     //certificate queries
     /**
      * The constant GET_ALL_CERTIFICATES.
      */
     public static final String GET_ALL_CERTIFICATES = "FROM GiftCertificate";
+    /**
+     * The constant FIND_CERTIFICATES_BY_IDS.
+     */
+    public static final String FIND_CERTIFICATES_BY_IDS = "FROM GiftCertificate g WHERE g.id IN :ids";
     /**
      * The constant FIND_CERTIFICATE_BY_NAME.
      */
@@ -83,6 +136,28 @@ public final class QueryStorage {
      * The constant FIND_CERTIFICATE_BY_TAG_NAME.
      */
     public static final String FIND_CERTIFICATE_BY_TAG_NAME = "FROM GiftCertificate g JOIN FETCH g.tags t WHERE t.name IN ";
+    /**
+     * The constant FIND_CERTIFICATES_AFTER_ID.
+     */
+    public static final String FIND_CERTIFICATES_AFTER_ID = "FROM GiftCertificate g WHERE g.id > ?1 ORDER BY g.id";
+    /**
+     * The constant FIND_TOP_CERTIFICATE_POPULARITY.
+     */
+    public static final String FIND_TOP_CERTIFICATE_POPULARITY =
+            "SELECT g.id, g.popularity FROM GiftCertificate g WHERE g.popularity > 0 ORDER BY g.popularity DESC, g.id";
+    /**
+     * The constant FIND_CERTIFICATE_POPULARITY_BY_IDS.
+     */
+    public static final String FIND_CERTIFICATE_POPULARITY_BY_IDS =
+            "SELECT g.id, g.popularity FROM GiftCertificate g WHERE g.id IN :ids";
+    /**
+     * The constant INCREASE_CERTIFICATE_POPULARITY_BY_ORDER_ID.
+     */
+    public static final String INCREASE_CERTIFICATE_POPULARITY_BY_ORDER_ID =
+            "UPDATE gift_certificates AS g JOIN " +
+                    "(SELECT l.certificate_id AS certificate_id, SUM(l.quantity) AS purchased FROM order_lines AS l " +
+                    "WHERE l.order_id = ?1 GROUP BY l.certificate_id) AS p ON g.id=p.certificate_id " +
+                    "SET g.popularity = g.popularity + p.purchased";
     /**
      * The constant FIND_CERTIFICATE_BY_USER_ID.
      */
@@ -93,6 +168,10 @@ public final class QueryStorage {
      * The constant GET_ALL_USERS.
      */
     public static final String GET_ALL_USERS = "FROM User";
+    /**
+     * The constant FIND_USERS_BY_IDS.
+     */
+    public static final String FIND_USERS_BY_IDS = "FROM User u WHERE u.id IN :ids";
     /**
      * The constant FIND_USER_BY_FIRST_NAME.
      */
@@ -120,6 +199,10 @@ public final class QueryStorage {
      * The constant GET_ALL_ORDERS.
      */
     public static final String GET_ALL_ORDERS = "FROM Order";
+    /**
+     * The constant FIND_ORDERS_BY_IDS.
+     */
+    public static final String FIND_ORDERS_BY_IDS = "FROM Order o WHERE o.id IN :ids";
     /**
      * The constant FIND_ORDER_BY_USER_ID.
      */
@@ -136,6 +219,144 @@ public final class QueryStorage {
      * The constant BY_CREATING_DATE.
      */
     public static final String BY_CREATING_DATE = "o.createDate";
+    /**
+     * The constant FIND_ORDER_LINES_BY_ORDER_ID.
+     */
+    public static final String FIND_ORDER_LINES_BY_ORDER_ID = "FROM OrderLine l WHERE l.order.id = ?1 ORDER BY l.id";
+    /**
+     * The constant FIND_ORDER_IDS_TO_ARCHIVE.
+     */
+    public static final String FIND_ORDER_IDS_TO_ARCHIVE = "SELECT o.id FROM Order o WHERE o.id > ?1 AND o.createDate < ?2 ORDER BY o.id";
+    /**
+     * The constant ARCHIVE_ORDERS.
+     */
+    public static final String ARCHIVE_ORDERS = "INSERT INTO archived_orders (id, cost, create_date, user_id, archived_date) " +
+            "SELECT o.id, o.cost, o.create_date, o.user_id, :archivedDate FROM orders AS o WHERE o.id IN (:ids)";
+    /**
+     * The constant ARCHIVE_ORDER_LINES.
+     */
+    public static final String ARCHIVE_ORDER_LINES = "INSERT INTO archived_order_lines " +
+            "(id, order_id, certificate_id, unit_price, quantity) " +
+            "SELECT l.id, l.order_id, l.certificate_id, l.unit_price, l.quantity FROM order_lines AS l WHERE l.order_id IN (:ids)";
+    /**
+     * The constant ARCHIVE_ORDER_CERTIFICATES.
+     */
+    public static final String ARCHIVE_ORDER_CERTIFICATES = "INSERT INTO archived_orders_gift_certificates (order_id, certificate_id) " +
+            "SELECT o_c.order_id, o_c.certificate_id FROM orders_gift_certificates AS o_c WHERE o_c.order_id IN (:ids)";
+    /**
+     * The constant DELETE_ARCHIVED_ORDER_CERTIFICATES.
+     */
+    public static final String DELETE_ARCHIVED_ORDER_CERTIFICATES = "DELETE FROM orders_gift_certificates WHERE order_id IN (:ids)";
+    /**
+     * The constant DELETE_ARCHIVED_ORDER_LINES.
+     */
+    public static final String DELETE_ARCHIVED_ORDER_LINES = "DELETE FROM order_lines WHERE order_id IN (:ids)";
+    /**
+     * The constant DELETE_ARCHIVED_ORDER_IDEMPOTENCY_KEYS.
+     */
+    public static final String DELETE_ARCHIVED_ORDER_IDEMPOTENCY_KEYS = "DELETE FROM order_idempotency_keys WHERE order_id IN (:ids)";
+    /**
+     * The constant DELETE_ARCHIVED_ORDERS.
+     */
+    public static final String DELETE_ARCHIVED_ORDERS = "DELETE FROM orders WHERE id IN (:ids)";
+    /**
+     * The constant FIND_ARCHIVED_ORDER.
+     */
+    public static final String FIND_ARCHIVED_ORDER = "FROM ArchivedOrder o WHERE ";
+
+    //idempotency key queries
+    /**
+     * The constant FIND_IDEMPOTENCY_KEY_BY_KEY_AND_USER_ID.
+     */
+    public static final String FIND_IDEMPOTENCY_KEY_BY_KEY_AND_USER_ID = "FROM IdempotencyKey k JOIN FETCH k.order o " +
+            "WHERE k.key = ?1 AND k.user.id = ?2";
+    /**
+     * The constant DELETE_IDEMPOTENCY_KEYS_CREATED_BEFORE.
+     */
+    public static final String DELETE_IDEMPOTENCY_KEYS_CREATED_BEFORE = "DELETE FROM IdempotencyKey k WHERE k.createDate < ?1";
+
+    //outbox event queries
+    /**
+     * The constant FIND_NOT_PROCESSED_OUTBOX_EVENTS.
+     */
+    public static final String FIND_NOT_PROCESSED_OUTBOX_EVENTS = "FROM OutboxEvent e WHERE e.processed = false " +
+            "AND e.createDate < ?1 ORDER BY e.createDate";
+    /**
+     * The constant DELETE_PROCESSED_OUTBOX_EVENTS.
+     */
+    public static final String DELETE_PROCESSED_OUTBOX_EVENTS = "DELETE FROM OutboxEvent e WHERE e.processed = true " +
+            "AND e.processedDate < ?1";
+
+    //user order summary queries
+    /**
+     * The constant INSERT_MISSING_USER_ORDER_SUMMARIES.
+     */
+    public static final String INSERT_MISSING_USER_ORDER_SUMMARIES = "INSERT INTO user_order_summaries " +
+            "(user_id, order_count, total_spend, last_order_date, distinct_certificates) " +
+            "SELECT u.id, (SELECT COUNT(*) FROM orders AS o WHERE o.user_id = u.id), " +
+            "(SELECT COALESCE(SUM(o.cost), 0) FROM orders AS o WHERE o.user_id = u.id), " +
+            "(SELECT MAX(o.create_date) FROM orders AS o WHERE o.user_id = u.id), " +
+            "(SELECT COUNT(DISTINCT l.certificate_id) FROM order_lines AS l JOIN orders AS o ON l.order_id = o.id " +
+            "WHERE o.user_id = u.id) " +
+            "FROM users AS u WHERE NOT EXISTS (SELECT 1 FROM user_order_summaries AS s WHERE s.user_id = u.id)";
+    /**
+     * The constant INSERT_EMPTY_USER_ORDER_SUMMARY.
+     */
+    public static final String INSERT_EMPTY_USER_ORDER_SUMMARY = "INSERT IGNORE INTO user_order_summaries " +
+            "(user_id, order_count, total_spend, distinct_certificates) VALUES (?1, 0, 0, 0)";
+    /**
+     * The constant RECOUNT_USER_ORDER_SUMMARY.
+     */
+    public static final String RECOUNT_USER_ORDER_SUMMARY = "UPDATE user_order_summaries AS s SET " +
+            "s.order_count = (SELECT COUNT(*) FROM orders AS o WHERE o.user_id = s.user_id), " +
+            "s.total_spend = (SELECT COALESCE(SUM(o.cost), 0) FROM orders AS o WHERE o.user_id = s.user_id), " +
+            "s.last_order_date = (SELECT MAX(o.create_date) FROM orders AS o WHERE o.user_id = s.user_id), " +
+            "s.distinct_certificates = (SELECT COUNT(DISTINCT l.certificate_id) FROM order_lines AS l " +
+            "JOIN orders AS o ON l.order_id = o.id WHERE o.user_id = s.user_id) " +
+            "WHERE s.user_id = ?1";
+    /**
+     * The constant COUNT_PURCHASED_CERTIFICATES.
+     */
+    public static final String COUNT_PURCHASED_CERTIFICATES = "SELECT COUNT(DISTINCT l.certificateId) FROM OrderLine l " +
+            "WHERE l.order.user.id = ?1 AND l.order.id <> ?2 AND l.certificateId IN ?3";
+    /**
+     * The constant FIND_LAST_ORDER_DATE.
+     */
+    public static final String FIND_LAST_ORDER_DATE = "SELECT MAX(o.createDate) FROM Order o WHERE o.user.id = ?1 AND o.id <> ?2";
+
+    //tag trend bucket queries
+    /**
+     * The constant ADD_TAG_TREND_BUCKET_PURCHASES.
+     */
+    public static final String ADD_TAG_TREND_BUCKET_PURCHASES = "UPDATE TagTrendBucket b SET b.purchases = b.purchases + ?1 " +
+            "WHERE b.bucketMinutes = ?2 AND b.slot = ?3 AND b.tagId = ?4";
+    /**
+     * The constant FIND_TAG_TREND_BUCKETS_FROM_SLOT.
+     */
+    public static final String FIND_TAG_TREND_BUCKETS_FROM_SLOT = "FROM TagTrendBucket b WHERE b.bucketMinutes = ?1 AND b.slot >= ?2";
+    /**
+     * The constant DELETE_TAG_TREND_BUCKETS_BEFORE_SLOT.
+     */
+    public static final String DELETE_TAG_TREND_BUCKETS_BEFORE_SLOT = "DELETE FROM TagTrendBucket b WHERE b.bucketMinutes = ?1 " +
+            "AND b.slot < ?2";
+
+    //catalogue revision queries
+    /**
+     * The constant FIND_CATALOGUE_REVISION.
+     */
+    public static final String FIND_CATALOGUE_REVISION = "SELECT r.revision FROM catalogue_revisions AS r WHERE r.id = 1";
+    /**
+     * The constant INCREASE_CATALOGUE_REVISION.
+     */
+    public static final String INCREASE_CATALOGUE_REVISION = "INSERT INTO catalogue_revisions (id, revision) VALUES (1, 1) " +
+            "ON DUPLICATE KEY UPDATE revision = revision + 1";
+
+    //data migration queries
+    /**
+     * The constant INSERT_DATA_MIGRATION.
+     */
+    public static final String INSERT_DATA_MIGRATION = "INSERT IGNORE INTO data_migrations (name, applied_date) VALUES (?1, ?2)";
+
     /**
      * Instantiates a new Query storage.
      */
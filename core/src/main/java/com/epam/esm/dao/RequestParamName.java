@@ -39,6 +39,10 @@ public final class RequestParamName {
      * The constant LAST_UPDATE_DATE.
      */
     public static final String LAST_UPDATE_DATE = "lastUpdateDate";
+    /**
+     * The constant POPULARITY.
+     */
+    public static final String POPULARITY = "popularity";
     /**
      * The constant PRICE.
      */
@@ -75,6 +79,10 @@ public final class RequestParamName {
      * The constant LIMIT.
      */
     public static final String LIMIT = "limit";
+    /**
+     * The constant AFTER_ID.
+     */
+    public static final String AFTER_ID = "afterId";
     /**
      * The constant SORT_PARAMS.
      */
@@ -95,10 +103,44 @@ public final class RequestParamName {
      * The constant TOKEN.
      */
     public static final String TOKEN = "token";
+    /**
+     * The constant FIELDS.
+     */
+    public static final String FIELDS = "fields";
+    /**
+     * The constant LINKS.
+     */
+    public static final String LINKS = "links";
+    /**
+     * The constant IDS.
+     */
+    public static final String IDS = "ids";
+    /**
+     * The constant NAMES.
+     */
+    public static final String NAMES = "names";
+    /**
+     * The constant PREFIX.
+     */
+    public static final String PREFIX = "prefix";
+    /**
+     * The constant WINDOW.
+     */
+    public static final String WINDOW = "window";
+    /**
+     * The constant ID.
+     */
+    public static final String ID = "id";
     /**
      * The constant CERTIFICATE_PARAM_LIST.
      */
-    public static final List<String> CERTIFICATE_PARAM_LIST = List.of(NAME, DESCRIPTION, DURATION, PRICE, CREATE_DATE, LAST_UPDATE_DATE);
+    public static final List<String> CERTIFICATE_PARAM_LIST = List.of(NAME, DESCRIPTION, DURATION, PRICE, CREATE_DATE, LAST_UPDATE_DATE,
+            POPULARITY);
+    /**
+     * The constant CERTIFICATE_COLUMN_FIELD_LIST.
+     */
+    public static final List<String> CERTIFICATE_COLUMN_FIELD_LIST = List.of(ID, NAME, DESCRIPTION, DURATION, PRICE, CREATE_DATE,
+            LAST_UPDATE_DATE, POPULARITY);
 
     private RequestParamName() {
     }
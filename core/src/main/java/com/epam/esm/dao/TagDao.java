@@ -23,6 +23,16 @@ public interface TagDao extends BaseDao<Tag> {
      */
     List<Tag> findByName(String name);
 
+    /**
+     * Find by names list.
+     * <p>
+     * This method executes read operation for all tags that have one of given names with one query.
+     *
+     * @param names the names
+     * @return the list
+     */
+    List<Tag> findByNames(List<String> names);
+
     /**
      * Find tag by certificate id list.
      * <p>
@@ -40,6 +50,60 @@ public interface TagDao extends BaseDao<Tag> {
      */
     List<Tag> findMostWidelyUsedTagOfUserWithHighestCostOfOrders();
 
+    /**
+     * Increase purchase count by order id int.
+     * <p>
+     * This method executes update operation that adds quantities of all lines of the order with given id
+     * to the purchase counters of the tags of purchased gift certificates.
+     *
+     * @param orderId the order id
+     * @return the number of updated tags
+     */
+    int increasePurchaseCountByOrderId(long orderId);
+
+    /**
+     * Increase certificate count int.
+     * <p>
+     * This method executes update operation that adds one to the certificate counters of the tags with given ids.
+     * It's called when the tags are linked to a gift certificate.
+     *
+     * @param ids the ids
+     * @return the number of updated tags
+     */
+    int increaseCertificateCount(List<Long> ids);
+
+    /**
+     * Decrease certificate count int.
+     * <p>
+     * This method executes update operation that subtracts one from the certificate counters of the tags with given ids.
+     * It's called when the tags are unlinked from a gift certificate.
+     *
+     * @param ids the ids
+     * @return the number of updated tags
+     */
+    int decreaseCertificateCount(List<Long> ids);
+
+    /**
+     * Delete unused int.
+     * <p>
+     * This method executes delete operation for the tags with given ids that aren't used by any gift certificate.
+     * The unused tags are selected with a lock, so a tag that is linked again by a concurrent transaction isn't deleted.
+     *
+     * @param ids the ids
+     * @return the ids of deleted tags
+     */
+    List<Long> deleteUnused(List<Long> ids);
+
+    /**
+     * Recount certificates int.
+     * <p>
+     * This method executes update operation that sets the certificate counters of all tags
+     * to the number of their links to gift certificates.
+     *
+     * @return the number of updated tags
+     */
+    int recountCertificates();
+
     /**
      * Find all list.
      * <p>
@@ -48,4 +112,26 @@ public interface TagDao extends BaseDao<Tag> {
      * @return the list
      */
     List<Tag> findAll();
+
+    /**
+     * Find after id list.
+     * <p>
+     * This method executes read operation for the next chunk of tags ordered by id.
+     * The chunk starts right after the tag with given id.
+     *
+     * @param afterId the id of the last read tag
+     * @param limit   the limit
+     * @return the list
+     */
+    List<Tag> findAfterId(long afterId, int limit);
+
+    /**
+     * Find by ids list.
+     * <p>
+     * This method executes read operation for all tags that have given ids with one query.
+     *
+     * @param ids the ids
+     * @return the list in no particular order
+     */
+    List<Tag> findByIds(List<Long> ids);
 }
\ No newline at end of file
@@ -0,0 +1,47 @@
+package com.epam.esm.dao;
+
+import com.epam.esm.entity.TagTrendBucket;
+
+import java.util.List;
+
+/**
+ * @author VChaikovski
+ * @project certificates-shop-backend
+ * The interface Tag trend bucket dao.
+ * <p>
+ * This interface includes methods that make and send queries to database to execute operations with tag trend buckets.
+ */
+public interface TagTrendBucketDao extends BaseDao<TagTrendBucket> {
+    /**
+     * Add purchases int.
+     * <p>
+     * This method executes update operation that adds purchases of given bucket to the stored bucket
+     * with the same length, slot and tag.
+     *
+     * @param bucket the bucket
+     * @return the number of updated buckets, 0 if there is no such bucket yet
+     */
+    int addPurchases(TagTrendBucket bucket);
+
+    /**
+     * Find from slot list.
+     * <p>
+     * This method executes read operation for all buckets with given length starting from given slot.
+     *
+     * @param bucketMinutes the bucket length in minutes
+     * @param slot          the first slot
+     * @return the list
+     */
+    List<TagTrendBucket> findFromSlot(int bucketMinutes, long slot);
+
+    /**
+     * Delete before slot int.
+     * <p>
+     * This method executes delete operation for all buckets with given length that are older than given slot.
+     *
+     * @param bucketMinutes the bucket length in minutes
+     * @param slot          the first slot that is kept
+     * @return the number of deleted buckets
+     */
+    int deleteBeforeSlot(int bucketMinutes, long slot);
+}
@@ -78,4 +78,14 @@ public interface UserDao extends BaseDao<User> {
      * @return the user
      */
     User updateUser(User user);
+
+    /**
+     * Find by ids list.
+     * <p>
+     * This method executes read operation for all users that have given ids with one query.
+     *
+     * @param ids the ids
+     * @return the list in no particular order
+     */
+    List<User> findByIds(List<Long> ids);
 }
\ No newline at end of file
@@ -0,0 +1,64 @@
+package com.epam.esm.dao;
+
+import com.epam.esm.entity.UserOrderSummary;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+
+/**
+ * @author VChaikovski
+ * @project certificates-shop-backend
+ * The interface User order summary dao.
+ * <p>
+ * This interface includes methods that make and send queries to database to execute operations with order summaries of users.
+ */
+public interface UserOrderSummaryDao {
+    /**
+     * Find by user id user order summary.
+     *
+     * @param userId the user id
+     * @return the summary or null if there is no summary of the user
+     */
+    UserOrderSummary findByUserId(long userId);
+
+    /**
+     * Find by user id for update user order summary.
+     * <p>
+     * This method locks the summary until the end of the transaction, so concurrent orders of the same user
+     * change it one after another. If the user has no summary yet it's created from the stored orders:
+     * the row is inserted unless it's present, so a concurrent transaction that creates the same summary
+     * waits for this one and then locks the row it created.
+     *
+     * @param userId the user id
+     * @return the summary or null if there is no such user
+     */
+    UserOrderSummary findByUserIdForUpdate(long userId);
+
+    /**
+     * Insert missing int.
+     * <p>
+     * This method creates the summaries of all users that have no summary from their stored orders.
+     *
+     * @return the number of created summaries
+     */
+    int insertMissing();
+
+    /**
+     * Count purchased certificates long.
+     *
+     * @param userId          the user id
+     * @param excludedOrderId the id of the order that isn't counted
+     * @param certificateIds  the certificate ids
+     * @return the number of given gift certificates the user ordered in other orders
+     */
+    long countPurchasedCertificates(long userId, long excludedOrderId, Collection<Long> certificateIds);
+
+    /**
+     * Find last order date local date time.
+     *
+     * @param userId          the user id
+     * @param excludedOrderId the id of the order that isn't taken into account
+     * @return the create date of the last other order of the user or null if there are no other orders
+     */
+    LocalDateTime findLastOrderDate(long userId, long excludedOrderId);
+}
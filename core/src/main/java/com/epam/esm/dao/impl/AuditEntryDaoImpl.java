@@ -0,0 +1,46 @@
+package com.epam.esm.dao.impl;
+
+import com.epam.esm.dao.AuditEntryDao;
+import com.epam.esm.entity.AuditEntry;
+import org.springframework.context.annotation.EnableAspectJAutoProxy;
+import org.springframework.stereotype.Repository;
+
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
+
+/**
+ * @author VChaikovski
+ * @project certificates-shop-backend
+ * The type Audit entry dao.
+ * <p>
+ * This class implements the AuditEntryDao interface.
+ * This class makes and sends queries to database to execute create, read and delete operations with audit entries.
+ */
+@Repository()
+@EnableAspectJAutoProxy(proxyTargetClass = true)
+public class AuditEntryDaoImpl implements AuditEntryDao {
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    /**
+     * Instantiates a new Audit entry dao.
+     */
+    public AuditEntryDaoImpl() {
+        //default constructor without parameters
+    }
+
+    @Override
+    public AuditEntry insert(AuditEntry auditEntry) {
+        return entityManager.merge(auditEntry);
+    }
+
+    @Override
+    public void delete(AuditEntry auditEntry) {
+        entityManager.remove(auditEntry);
+    }
+
+    @Override
+    public AuditEntry findById(long id) {
+        return entityManager.find(AuditEntry.class, id);
+    }
+}
@@ -0,0 +1,45 @@
+package com.epam.esm.dao.impl;
+
+import com.epam.esm.dao.CatalogueRevisionDao;
+import org.springframework.context.annotation.EnableAspectJAutoProxy;
+import org.springframework.stereotype.Repository;
+
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
+import java.util.List;
+
+import static com.epam.esm.dao.QueryStorage.FIND_CATALOGUE_REVISION;
+import static com.epam.esm.dao.QueryStorage.INCREASE_CATALOGUE_REVISION;
+
+/**
+ * @author VChaikovski
+ * @project certificates-shop-backend
+ * The type Catalogue revision dao.
+ * <p>
+ * This class implements the CatalogueRevisionDao interface.
+ * This class makes and sends queries to database to execute read and update operations with the catalogue revision.
+ */
+@Repository()
+@EnableAspectJAutoProxy(proxyTargetClass = true)
+public class CatalogueRevisionDaoImpl implements CatalogueRevisionDao {
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    /**
+     * Instantiates a new Catalogue revision dao.
+     */
+    public CatalogueRevisionDaoImpl() {
+        //default constructor without parameters
+    }
+
+    @Override
+    public long findRevision() {
+        List<?> revisions = entityManager.createNativeQuery(FIND_CATALOGUE_REVISION).getResultList();
+        return revisions.isEmpty() ? 0 : ((Number) revisions.get(0)).longValue();
+    }
+
+    @Override
+    public void increaseRevision() {
+        entityManager.createNativeQuery(INCREASE_CATALOGUE_REVISION).executeUpdate();
+    }
+}
@@ -0,0 +1,41 @@
+package com.epam.esm.dao.impl;
+
+import com.epam.esm.dao.DataMigrationDao;
+import org.springframework.context.annotation.EnableAspectJAutoProxy;
+import org.springframework.stereotype.Repository;
+
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
+import java.time.LocalDateTime;
+
+import static com.epam.esm.dao.QueryStorage.INSERT_DATA_MIGRATION;
+
+/**
+ * @author VChaikovski
+ * @project certificates-shop-backend
+ * The type Data migration dao.
+ * <p>
+ * This class implements the DataMigrationDao interface.
+ * This class makes and sends queries to database to execute create operations with applied data migrations.
+ */
+@Repository()
+@EnableAspectJAutoProxy(proxyTargetClass = true)
+public class DataMigrationDaoImpl implements DataMigrationDao {
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    /**
+     * Instantiates a new Data migration dao.
+     */
+    public DataMigrationDaoImpl() {
+        //default constructor without parameters
+    }
+
+    @Override
+    public boolean markApplied(String name, LocalDateTime appliedDate) {
+        return entityManager.createNativeQuery(INSERT_DATA_MIGRATION)
+                .setParameter(1, name)
+                .setParameter(2, appliedDate)
+                .executeUpdate() > 0;
+    }
+}
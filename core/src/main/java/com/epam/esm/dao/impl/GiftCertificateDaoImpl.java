@@ -6,10 +6,15 @@ import org.springframework.context.annotation.EnableAspectJAutoProxy;
 import org.springframework.stereotype.Repository;
 
 import javax.persistence.EntityManager;
+import javax.persistence.LockModeType;
 import javax.persistence.PersistenceContext;
+import javax.persistence.Tuple;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
 import java.util.List;
 
 import static com.epam.esm.dao.QueryStorage.*;
+import static com.epam.esm.dao.RequestParamName.*;
 
 /**
  * @author VChaikovski
@@ -22,6 +27,8 @@ import static com.epam.esm.dao.QueryStorage.*;
 @Repository()
 @EnableAspectJAutoProxy(proxyTargetClass = true)
 public class GiftCertificateDaoImpl implements GiftCertificateDao {
+    private static final List<String> POPULARITY_FIELD_LIST = List.of(ID, POPULARITY);
+
     @PersistenceContext
     private EntityManager entityManager;
 
@@ -37,6 +44,19 @@ public class GiftCertificateDaoImpl implements GiftCertificateDao {
         return entityManager.find(GiftCertificate.class, id);
     }
 
+    @Override
+    public GiftCertificate findByIdWithVersionCheck(long id) {
+        return entityManager.find(GiftCertificate.class, id, LockModeType.OPTIMISTIC);
+    }
+
+    @Override
+    public List<GiftCertificate> findAfterId(long afterId, int limit) {
+        return entityManager.createQuery(FIND_CERTIFICATES_AFTER_ID, GiftCertificate.class)
+                .setParameter(1, afterId)
+                .setMaxResults(limit)
+                .getResultList();
+    }
+
     @Override
     public List<GiftCertificate> findByName(String name, String sortParam) {
         return entityManager.createQuery(buildSortQuery(FIND_CERTIFICATE_BY_NAME, sortParam), GiftCertificate.class)
@@ -70,6 +90,43 @@ public class GiftCertificateDaoImpl implements GiftCertificateDao {
                 .getResultList();
     }
 
+    @Override
+    public List<GiftCertificate> findAll(List<String> fields, String sortParam) {
+        String query = new StringBuilder(SELECT).append(String.join(", ", fields))
+                .append(' ')
+                .append(GET_ALL_CERTIFICATES)
+                .toString();
+        return entityManager.createQuery(buildSortQuery(query, sortParam), Tuple.class)
+                .getResultStream()
+                .map(t -> buildCertificate(fields, t))
+                .toList();
+    }
+
+    @Override
+    public List<GiftCertificate> findTopByPopularity(int limit) {
+        return entityManager.createQuery(FIND_TOP_CERTIFICATE_POPULARITY, Tuple.class)
+                .setMaxResults(limit)
+                .getResultStream()
+                .map(t -> buildCertificate(POPULARITY_FIELD_LIST, t))
+                .toList();
+    }
+
+    @Override
+    public List<GiftCertificate> findPopularityByIds(List<Long> ids) {
+        return entityManager.createQuery(FIND_CERTIFICATE_POPULARITY_BY_IDS, Tuple.class)
+                .setParameter(IDS, ids)
+                .getResultStream()
+                .map(t -> buildCertificate(POPULARITY_FIELD_LIST, t))
+                .toList();
+    }
+
+    @Override
+    public int increasePopularityByOrderId(long orderId) {
+        return entityManager.createNativeQuery(INCREASE_CERTIFICATE_POPULARITY_BY_ORDER_ID)
+                .setParameter(1, orderId)
+                .executeUpdate();
+    }
+
     @Override
     public GiftCertificate update(GiftCertificate giftCertificate) {
         return entityManager.merge(giftCertificate);
@@ -85,6 +142,25 @@ public class GiftCertificateDaoImpl implements GiftCertificateDao {
         entityManager.remove(certificate);
     }
 
+    private GiftCertificate buildCertificate(List<String> fields, Tuple tuple) {
+        GiftCertificate certificate = new GiftCertificate();
+        for (int i = 0; i < fields.size(); i++) {
+            Object value = tuple.get(i);
+            switch (fields.get(i)) {
+                case ID -> certificate.setId((Long) value);
+                case NAME -> certificate.setName((String) value);
+                case DESCRIPTION -> certificate.setDescription((String) value);
+                case DURATION -> certificate.setDuration((Integer) value);
+                case PRICE -> certificate.setPrice((BigDecimal) value);
+                case CREATE_DATE -> certificate.setCreateDate((LocalDateTime) value);
+                case LAST_UPDATE_DATE -> certificate.setLastUpdateDate((LocalDateTime) value);
+                case POPULARITY -> certificate.setPopularity((Long) value);
+                default -> throw new IllegalArgumentException(fields.get(i));
+            }
+        }
+        return certificate;
+    }
+
     private String buildFindByTagNameQuery(List<String> tags, String sortParam) {
         char opBr = '(';
         char clBr = ')';
@@ -113,4 +189,11 @@ public class GiftCertificateDaoImpl implements GiftCertificateDao {
         }
         return sortQuery;
     }
+
+    @Override
+    public List<GiftCertificate> findByIds(List<Long> ids) {
+        return entityManager.createQuery(FIND_CERTIFICATES_BY_IDS, GiftCertificate.class)
+                .setParameter(IDS, ids)
+                .getResultList();
+    }
 }
\ No newline at end of file
@@ -0,0 +1,68 @@
+package com.epam.esm.dao.impl;
+
+import com.epam.esm.dao.IdempotencyKeyDao;
+import com.epam.esm.entity.IdempotencyKey;
+import org.springframework.context.annotation.EnableAspectJAutoProxy;
+import org.springframework.stereotype.Repository;
+
+import javax.persistence.EntityManager;
+import javax.persistence.LockModeType;
+import javax.persistence.PersistenceContext;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static com.epam.esm.dao.QueryStorage.DELETE_IDEMPOTENCY_KEYS_CREATED_BEFORE;
+import static com.epam.esm.dao.QueryStorage.FIND_IDEMPOTENCY_KEY_BY_KEY_AND_USER_ID;
+
+/**
+ * @author VChaikovski
+ * @project certificates-shop-backend
+ * The type Idempotency key dao.
+ * <p>
+ * This class implements the IdempotencyKeyDao interface.
+ * This class makes and sends queries to database to execute create, read and delete operations with idempotency keys data.
+ */
+@Repository()
+@EnableAspectJAutoProxy(proxyTargetClass = true)
+public class IdempotencyKeyDaoImpl implements IdempotencyKeyDao {
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    /**
+     * Instantiates a new Idempotency key dao.
+     */
+    public IdempotencyKeyDaoImpl() {
+        //default constructor without parameters
+    }
+
+    @Override
+    public IdempotencyKey insert(IdempotencyKey idempotencyKey) {
+        return entityManager.merge(idempotencyKey);
+    }
+
+    @Override
+    public void delete(IdempotencyKey idempotencyKey) {
+        entityManager.remove(idempotencyKey);
+    }
+
+    @Override
+    public IdempotencyKey findById(long id) {
+        return entityManager.find(IdempotencyKey.class, id);
+    }
+
+    @Override
+    public List<IdempotencyKey> findByKeyAndUserId(String key, long userId) {
+        return entityManager.createQuery(FIND_IDEMPOTENCY_KEY_BY_KEY_AND_USER_ID, IdempotencyKey.class)
+                .setParameter(1, key)
+                .setParameter(2, userId)
+                .setLockMode(LockModeType.PESSIMISTIC_READ)
+                .getResultList();
+    }
+
+    @Override
+    public int deleteCreatedBefore(LocalDateTime createdBefore) {
+        return entityManager.createQuery(DELETE_IDEMPOTENCY_KEYS_CREATED_BEFORE)
+                .setParameter(1, createdBefore)
+                .executeUpdate();
+    }
+}
@@ -1,18 +1,28 @@
 package com.epam.esm.dao.impl;
 
 import com.epam.esm.dao.OrderDao;
+import com.epam.esm.entity.ArchivedOrder;
 import com.epam.esm.entity.Order;
+import com.epam.esm.entity.OrderLine;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.EnableAspectJAutoProxy;
 import org.springframework.stereotype.Repository;
 
 import javax.persistence.EntityManager;
 import javax.persistence.PersistenceContext;
+import javax.persistence.TypedQuery;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 
 import static com.epam.esm.dao.QueryStorage.*;
 import static com.epam.esm.dao.RequestParamName.COST;
 import static com.epam.esm.dao.RequestParamName.CREATE_DATE;
+import static com.epam.esm.dao.RequestParamName.IDS;
 
 /**
  * @author VChaikovski
@@ -26,14 +36,27 @@ import static com.epam.esm.dao.RequestParamName.CREATE_DATE;
 @Repository()
 @EnableAspectJAutoProxy(proxyTargetClass = true)
 public class OrderDaoImpl implements OrderDao {
+    private static final String ARCHIVED_DATE_PARAM = "archivedDate";
+
     @PersistenceContext
     private EntityManager entityManager;
+    private long archiveAgeDays;
 
     /**
      * Instantiates a new Order dao.
      */
     public OrderDaoImpl() {
-        //default constructor without parameters
+        archiveAgeDays = 365;
+    }
+
+    /**
+     * Instantiates a new Order dao.
+     *
+     * @param archiveAgeDays the age of orders that are moved to archive
+     */
+    @Autowired
+    public OrderDaoImpl(@Value("${application.archive.order-age-days:365}") long archiveAgeDays) {
+        this.archiveAgeDays = archiveAgeDays;
     }
 
     @Override
@@ -58,7 +81,18 @@ public class OrderDaoImpl implements OrderDao {
 
     @Override
     public List<Order> findOrderByCostAndCreateDate(Map<String, List<?>> filterParam) {
-        return entityManager.createQuery(buildFindOrderByCostAndCreateDateQuery(filterParam), Order.class).getResultList();
+        String condition = buildCostAndCreateDateCondition(filterParam);
+        TypedQuery<Order> query = entityManager.createQuery(FIND_ORDER + condition, Order.class);
+        bindParams(query, filterParam);
+        List<Order> orders = query.getResultList();
+        if (reachesArchive(filterParam.get(CREATE_DATE))) {
+            TypedQuery<ArchivedOrder> archiveQuery = entityManager.createQuery(FIND_ARCHIVED_ORDER + condition, ArchivedOrder.class);
+            bindParams(archiveQuery, filterParam);
+            List<Order> allOrders = new ArrayList<>(orders);
+            archiveQuery.getResultList().forEach(o -> allOrders.add(o.toOrder()));
+            orders = allOrders;
+        }
+        return orders;
     }
 
     @Override
@@ -68,31 +102,104 @@ public class OrderDaoImpl implements OrderDao {
                 .getResultList();
     }
 
-    private String buildFindOrderByCostAndCreateDateQuery(Map<String, List<?>> filterParam) {
-        StringBuilder query = new StringBuilder(FIND_ORDER);
+    @Override
+    public List<OrderLine> findOrderLinesByOrderId(long orderId) {
+        return entityManager.createQuery(FIND_ORDER_LINES_BY_ORDER_ID, OrderLine.class)
+                .setParameter(1, orderId)
+                .getResultList();
+    }
+
+    private String buildCostAndCreateDateCondition(Map<String, List<?>> filterParam) {
+        StringBuilder query = new StringBuilder();
         if (filterParam.containsKey(COST) && filterParam.containsKey(CREATE_DATE)) {
             query.append(BY_COST)
-                    .append(buildParamForQuery(filterParam.get(COST)))
+                    .append(buildParamForQuery(COST, filterParam.get(COST)))
                     .append(AND)
                     .append(BY_CREATING_DATE)
-                    .append(buildParamForQuery(filterParam.get(CREATE_DATE)));
+                    .append(buildParamForQuery(CREATE_DATE, filterParam.get(CREATE_DATE)));
         } else if (filterParam.containsKey(COST)) {
-            query.append(BY_COST).append(buildParamForQuery(filterParam.get(COST)));
+            query.append(BY_COST).append(buildParamForQuery(COST, filterParam.get(COST)));
         } else if (filterParam.containsKey(CREATE_DATE)) {
-            query.append(CREATE_DATE).append(buildParamForQuery(filterParam.get(CREATE_DATE)));
+            query.append(BY_CREATING_DATE).append(buildParamForQuery(CREATE_DATE, filterParam.get(CREATE_DATE)));
         }
         return query.toString();
     }
 
-    private String buildParamForQuery(List<?> params) {
+    private String buildParamForQuery(String name, List<?> params) {
         StringBuilder query = new StringBuilder();
         if (params != null && !params.isEmpty()) {
             if (params.size() == 1) {
-                query.append(LE).append('\'').append(params.get(0)).append('\'');
+                query.append(LE).append(':').append(name).append(0);
             } else {
-                query.append(BETWEEN).append('\'').append(params.get(0)).append('\'').append(AND).append('\'').append(params.get(1)).append('\'');
+                query.append(BETWEEN).append(':').append(name).append(0).append(AND).append(':').append(name).append(1);
             }
         }
         return query.toString();
     }
+
+    private void bindParams(TypedQuery<?> query, Map<String, List<?>> filterParam) {
+        bindParams(query, COST, filterParam.get(COST));
+        bindParams(query, CREATE_DATE, toStartsOfDays(filterParam.get(CREATE_DATE)));
+    }
+
+    private void bindParams(TypedQuery<?> query, String name, List<?> params) {
+        if (params != null && !params.isEmpty()) {
+            for (int i = 0; i < Math.min(params.size(), 2); i++) {
+                query.setParameter(name + i, params.get(i));
+            }
+        }
+    }
+
+    private List<?> toStartsOfDays(List<?> dates) {
+        return dates == null ? null : dates.stream()
+                .map(d -> d instanceof LocalDate date ? date.atStartOfDay() : d)
+                .toList();
+    }
+
+    private boolean reachesArchive(List<?> dates) {
+        if (dates == null || dates.isEmpty()) {
+            return false;
+        }
+        if (dates.size() < 2) {
+            return true;
+        }
+        LocalDateTime from = (LocalDateTime) toStartsOfDays(dates).get(0);
+        return from.isBefore(LocalDateTime.now(ZoneId.systemDefault()).minusDays(archiveAgeDays));
+    }
+
+    @Override
+    public List<Long> findIdsToArchive(long afterId, LocalDateTime before, int limit) {
+        return entityManager.createQuery(FIND_ORDER_IDS_TO_ARCHIVE, Long.class)
+                .setParameter(1, afterId)
+                .setParameter(2, before)
+                .setMaxResults(limit)
+                .getResultList();
+    }
+
+    @Override
+    public int archive(List<Long> ids, LocalDateTime archivedDate) {
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        entityManager.createNativeQuery(ARCHIVE_ORDERS)
+                .setParameter(ARCHIVED_DATE_PARAM, archivedDate)
+                .setParameter(IDS, ids)
+                .executeUpdate();
+        for (String query : List.of(ARCHIVE_ORDER_LINES, ARCHIVE_ORDER_CERTIFICATES, DELETE_ARCHIVED_ORDER_CERTIFICATES,
+                DELETE_ARCHIVED_ORDER_LINES, DELETE_ARCHIVED_ORDER_IDEMPOTENCY_KEYS)) {
+            entityManager.createNativeQuery(query)
+                    .setParameter(IDS, ids)
+                    .executeUpdate();
+        }
+        return entityManager.createNativeQuery(DELETE_ARCHIVED_ORDERS)
+                .setParameter(IDS, ids)
+                .executeUpdate();
+    }
+
+    @Override
+    public List<Order> findByIds(List<Long> ids) {
+        return entityManager.createQuery(FIND_ORDERS_BY_IDS, Order.class)
+                .setParameter(IDS, ids)
+                .getResultList();
+    }
 }
\ No newline at end of file
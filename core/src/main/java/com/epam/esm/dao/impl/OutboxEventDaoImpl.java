@@ -0,0 +1,72 @@
+package com.epam.esm.dao.impl;
+
+import com.epam.esm.dao.OutboxEventDao;
+import com.epam.esm.entity.OutboxEvent;
+import org.springframework.context.annotation.EnableAspectJAutoProxy;
+import org.springframework.stereotype.Repository;
+
+import javax.persistence.EntityManager;
+import javax.persistence.LockModeType;
+import javax.persistence.PersistenceContext;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static com.epam.esm.dao.QueryStorage.DELETE_PROCESSED_OUTBOX_EVENTS;
+import static com.epam.esm.dao.QueryStorage.FIND_NOT_PROCESSED_OUTBOX_EVENTS;
+
+/**
+ * @author VChaikovski
+ * @project certificates-shop-backend
+ * The type Outbox event dao.
+ * <p>
+ * This class implements the OutboxEventDao interface.
+ * This class makes and sends queries to database to execute create, read, update and delete operations with outbox events.
+ */
+@Repository()
+@EnableAspectJAutoProxy(proxyTargetClass = true)
+public class OutboxEventDaoImpl implements OutboxEventDao {
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    /**
+     * Instantiates a new Outbox event dao.
+     */
+    public OutboxEventDaoImpl() {
+        //default constructor without parameters
+    }
+
+    @Override
+    public OutboxEvent insert(OutboxEvent event) {
+        return entityManager.merge(event);
+    }
+
+    @Override
+    public void delete(OutboxEvent event) {
+        entityManager.remove(event);
+    }
+
+    @Override
+    public OutboxEvent findById(long id) {
+        return entityManager.find(OutboxEvent.class, id);
+    }
+
+    @Override
+    public OutboxEvent findByIdForUpdate(long id) {
+        return entityManager.find(OutboxEvent.class, id, LockModeType.PESSIMISTIC_WRITE);
+    }
+
+    @Override
+    public List<OutboxEvent> findNotProcessed(LocalDateTime createdBefore, int limit) {
+        return entityManager.createQuery(FIND_NOT_PROCESSED_OUTBOX_EVENTS, OutboxEvent.class)
+                .setParameter(1, createdBefore)
+                .setMaxResults(limit)
+                .getResultList();
+    }
+
+    @Override
+    public int deleteProcessed(LocalDateTime processedBefore) {
+        return entityManager.createQuery(DELETE_PROCESSED_OUTBOX_EVENTS)
+                .setParameter(1, processedBefore)
+                .executeUpdate();
+    }
+}
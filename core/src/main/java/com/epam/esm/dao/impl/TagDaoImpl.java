@@ -5,12 +5,15 @@ import com.epam.esm.entity.Tag;
 import org.springframework.stereotype.Repository;
 
 import javax.persistence.EntityManager;
+import javax.persistence.LockModeType;
 import javax.persistence.PersistenceContext;
 import java.util.List;
 
 import static com.epam.esm.dao.QueryStorage.*;
 import static com.epam.esm.dao.RequestParamName.CERTIFICATE_ID;
+import static com.epam.esm.dao.RequestParamName.IDS;
 import static com.epam.esm.dao.RequestParamName.NAME;
+import static com.epam.esm.dao.RequestParamName.NAMES;
 
 /**
  * @author VChaikovski
@@ -37,6 +40,14 @@ public class TagDaoImpl implements TagDao {
         return entityManager.createQuery(GET_ALL_TAGS, Tag.class).getResultList();
     }
 
+    @Override
+    public List<Tag> findAfterId(long afterId, int limit) {
+        return entityManager.createQuery(FIND_TAGS_AFTER_ID, Tag.class)
+                .setParameter(1, afterId)
+                .setMaxResults(limit)
+                .getResultList();
+    }
+
     @Override
     public Tag findById(long id) {
         return entityManager.find(Tag.class, id);
@@ -47,6 +58,11 @@ public class TagDaoImpl implements TagDao {
         return entityManager.createQuery(FIND_TAG_BY_NAME, Tag.class).setParameter(NAME, name).getResultList();
     }
 
+    @Override
+    public List<Tag> findByNames(List<String> names) {
+        return entityManager.createQuery(FIND_TAGS_BY_NAMES, Tag.class).setParameter(NAMES, names).getResultList();
+    }
+
     @Override
     public Tag insert(Tag tag) {
         return entityManager.merge(tag);
@@ -68,4 +84,53 @@ public class TagDaoImpl implements TagDao {
     public List<Tag> findMostWidelyUsedTagOfUserWithHighestCostOfOrders() {
         return entityManager.createNativeQuery(FIND_MOST_WIDELY_USED_TAG_IN_USER_WITH_HIGHEST_COST_OF_ORDERS, Tag.class).getResultList();
     }
+
+    @Override
+    public int increasePurchaseCountByOrderId(long orderId) {
+        return entityManager.createNativeQuery(INCREASE_TAG_PURCHASE_COUNT_BY_ORDER_ID)
+                .setParameter(1, orderId)
+                .executeUpdate();
+    }
+
+    @Override
+    public int increaseCertificateCount(List<Long> ids) {
+        return entityManager.createQuery(INCREASE_TAG_CERTIFICATE_COUNT)
+                .setParameter(IDS, ids)
+                .executeUpdate();
+    }
+
+    @Override
+    public int decreaseCertificateCount(List<Long> ids) {
+        return entityManager.createQuery(DECREASE_TAG_CERTIFICATE_COUNT)
+                .setParameter(IDS, ids)
+                .executeUpdate();
+    }
+
+    @Override
+    public List<Long> deleteUnused(List<Long> ids) {
+        // links of the tags that are removed in the current transaction must be deleted before the tags
+        entityManager.flush();
+        List<Long> unusedIds = entityManager.createQuery(FIND_UNUSED_TAG_IDS, Long.class)
+                .setParameter(IDS, ids)
+                .setLockMode(LockModeType.PESSIMISTIC_WRITE)
+                .getResultList();
+        if (!unusedIds.isEmpty()) {
+            entityManager.createQuery(DELETE_TAGS_BY_IDS)
+                    .setParameter(IDS, unusedIds)
+                    .executeUpdate();
+        }
+        return unusedIds;
+    }
+
+    @Override
+    public int recountCertificates() {
+        return entityManager.createNativeQuery(RECOUNT_TAG_CERTIFICATES).executeUpdate();
+    }
+
+    @Override
+    public List<Tag> findByIds(List<Long> ids) {
+        return entityManager.createQuery(FIND_TAGS_BY_IDS, Tag.class)
+                .setParameter(IDS, ids)
+                .getResultList();
+    }
 }
\ No newline at end of file
@@ -0,0 +1,77 @@
+package com.epam.esm.dao.impl;
+
+import com.epam.esm.dao.TagTrendBucketDao;
+import com.epam.esm.entity.TagTrendBucket;
+import org.springframework.context.annotation.EnableAspectJAutoProxy;
+import org.springframework.stereotype.Repository;
+
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
+import java.util.List;
+
+import static com.epam.esm.dao.QueryStorage.ADD_TAG_TREND_BUCKET_PURCHASES;
+import static com.epam.esm.dao.QueryStorage.DELETE_TAG_TREND_BUCKETS_BEFORE_SLOT;
+import static com.epam.esm.dao.QueryStorage.FIND_TAG_TREND_BUCKETS_FROM_SLOT;
+
+/**
+ * @author VChaikovski
+ * @project certificates-shop-backend
+ * The type Tag trend bucket dao.
+ * <p>
+ * This class implements the TagTrendBucketDao interface.
+ * This class makes and sends queries to database to execute create, read, update and delete operations with tag trend buckets.
+ */
+@Repository()
+@EnableAspectJAutoProxy(proxyTargetClass = true)
+public class TagTrendBucketDaoImpl implements TagTrendBucketDao {
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    /**
+     * Instantiates a new Tag trend bucket dao.
+     */
+    public TagTrendBucketDaoImpl() {
+        //default constructor without parameters
+    }
+
+    @Override
+    public TagTrendBucket insert(TagTrendBucket bucket) {
+        return entityManager.merge(bucket);
+    }
+
+    @Override
+    public void delete(TagTrendBucket bucket) {
+        entityManager.remove(bucket);
+    }
+
+    @Override
+    public TagTrendBucket findById(long id) {
+        return entityManager.find(TagTrendBucket.class, id);
+    }
+
+    @Override
+    public int addPurchases(TagTrendBucket bucket) {
+        return entityManager.createQuery(ADD_TAG_TREND_BUCKET_PURCHASES)
+                .setParameter(1, bucket.getPurchases())
+                .setParameter(2, bucket.getBucketMinutes())
+                .setParameter(3, bucket.getSlot())
+                .setParameter(4, bucket.getTagId())
+                .executeUpdate();
+    }
+
+    @Override
+    public List<TagTrendBucket> findFromSlot(int bucketMinutes, long slot) {
+        return entityManager.createQuery(FIND_TAG_TREND_BUCKETS_FROM_SLOT, TagTrendBucket.class)
+                .setParameter(1, bucketMinutes)
+                .setParameter(2, slot)
+                .getResultList();
+    }
+
+    @Override
+    public int deleteBeforeSlot(int bucketMinutes, long slot) {
+        return entityManager.createQuery(DELETE_TAG_TREND_BUCKETS_BEFORE_SLOT)
+                .setParameter(1, bucketMinutes)
+                .setParameter(2, slot)
+                .executeUpdate();
+    }
+}
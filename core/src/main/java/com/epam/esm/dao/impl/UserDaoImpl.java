@@ -10,6 +10,7 @@ import javax.persistence.PersistenceContext;
 import java.util.List;
 
 import static com.epam.esm.dao.QueryStorage.*;
+import static com.epam.esm.dao.RequestParamName.IDS;
 
 /**
  * @author VChaikovski
@@ -92,4 +93,11 @@ public class UserDaoImpl implements UserDao {
                 .setParameter(1, certificateId)
                 .getResultList();
     }
+
+    @Override
+    public List<User> findByIds(List<Long> ids) {
+        return entityManager.createQuery(FIND_USERS_BY_IDS, User.class)
+                .setParameter(IDS, ids)
+                .getResultList();
+    }
 }
\ No newline at end of file
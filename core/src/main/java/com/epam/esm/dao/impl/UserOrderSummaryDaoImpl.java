@@ -0,0 +1,81 @@
+package com.epam.esm.dao.impl;
+
+import com.epam.esm.dao.UserOrderSummaryDao;
+import com.epam.esm.entity.UserOrderSummary;
+import org.springframework.context.annotation.EnableAspectJAutoProxy;
+import org.springframework.stereotype.Repository;
+
+import javax.persistence.EntityManager;
+import javax.persistence.LockModeType;
+import javax.persistence.PersistenceContext;
+import java.time.LocalDateTime;
+import java.util.Collection;
+
+import static com.epam.esm.dao.QueryStorage.COUNT_PURCHASED_CERTIFICATES;
+import static com.epam.esm.dao.QueryStorage.FIND_LAST_ORDER_DATE;
+import static com.epam.esm.dao.QueryStorage.INSERT_EMPTY_USER_ORDER_SUMMARY;
+import static com.epam.esm.dao.QueryStorage.INSERT_MISSING_USER_ORDER_SUMMARIES;
+import static com.epam.esm.dao.QueryStorage.RECOUNT_USER_ORDER_SUMMARY;
+
+/**
+ * @author VChaikovski
+ * @project certificates-shop-backend
+ * The type User order summary dao.
+ * <p>
+ * This class implements the UserOrderSummaryDao interface.
+ * This class makes and sends queries to database to execute create, read and update operations with order summaries of users.
+ */
+@Repository()
+@EnableAspectJAutoProxy(proxyTargetClass = true)
+public class UserOrderSummaryDaoImpl implements UserOrderSummaryDao {
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    /**
+     * Instantiates a new User order summary dao.
+     */
+    public UserOrderSummaryDaoImpl() {
+        //default constructor without parameters
+    }
+
+    @Override
+    public UserOrderSummary findByUserId(long userId) {
+        return entityManager.find(UserOrderSummary.class, userId);
+    }
+
+    @Override
+    public UserOrderSummary findByUserIdForUpdate(long userId) {
+        // the row is created before it's locked: a locking read of an absent row takes a gap lock,
+        // and two transactions that hold it deadlock when both insert the row
+        if (entityManager.createNativeQuery(INSERT_EMPTY_USER_ORDER_SUMMARY)
+                .setParameter(1, userId)
+                .executeUpdate() > 0) {
+            entityManager.createNativeQuery(RECOUNT_USER_ORDER_SUMMARY)
+                    .setParameter(1, userId)
+                    .executeUpdate();
+        }
+        return entityManager.find(UserOrderSummary.class, userId, LockModeType.PESSIMISTIC_WRITE);
+    }
+
+    @Override
+    public int insertMissing() {
+        return entityManager.createNativeQuery(INSERT_MISSING_USER_ORDER_SUMMARIES).executeUpdate();
+    }
+
+    @Override
+    public long countPurchasedCertificates(long userId, long excludedOrderId, Collection<Long> certificateIds) {
+        return entityManager.createQuery(COUNT_PURCHASED_CERTIFICATES, Long.class)
+                .setParameter(1, userId)
+                .setParameter(2, excludedOrderId)
+                .setParameter(3, certificateIds)
+                .getSingleResult();
+    }
+
+    @Override
+    public LocalDateTime findLastOrderDate(long userId, long excludedOrderId) {
+        return entityManager.createQuery(FIND_LAST_ORDER_DATE, LocalDateTime.class)
+                .setParameter(1, userId)
+                .setParameter(2, excludedOrderId)
+                .getSingleResult();
+    }
+}
@@ -0,0 +1,46 @@
+package com.epam.esm.dto;
+
+import com.epam.esm.entity.AbstractEntity;
+
+import java.util.List;
+
+/**
+ * @author VChaikovski
+ * @project certificates-shop-backend
+ * <p>
+ * The type MultiGetDto.
+ * This class includes entities found by a list of ids in the order of requested ids and the ids that weren't found.
+ */
+public class MultiGetDto<T extends AbstractEntity> {
+    private final List<T> content;
+    private final List<Long> notFoundIds;
+
+    /**
+     * Instantiates a new MultiGetDto.
+     *
+     * @param content     the content
+     * @param notFoundIds the not found ids
+     */
+    public MultiGetDto(List<T> content, List<Long> notFoundIds) {
+        this.content = content;
+        this.notFoundIds = notFoundIds;
+    }
+
+    /**
+     * Gets content.
+     *
+     * @return the content
+     */
+    public List<T> getContent() {
+        return content;
+    }
+
+    /**
+     * Gets not found ids.
+     *
+     * @return the not found ids
+     */
+    public List<Long> getNotFoundIds() {
+        return notFoundIds;
+    }
+}
@@ -12,6 +12,7 @@ import java.util.List;
 public class OrderDto {
     private String username;
     private List<Long> certificatesId;
+    private String idempotencyKey;
 
     /**
      * Instantiates a new Order dto.
@@ -56,6 +57,24 @@ public class OrderDto {
         this.certificatesId = certificatesId;
     }
 
+    /**
+     * Gets idempotency key.
+     *
+     * @return the idempotency key
+     */
+    public String getIdempotencyKey() {
+        return idempotencyKey;
+    }
+
+    /**
+     * Sets idempotency key.
+     *
+     * @param idempotencyKey the idempotency key
+     */
+    public void setIdempotencyKey(String idempotencyKey) {
+        this.idempotencyKey = idempotencyKey;
+    }
+
     @Override
     public String toString() {
         return new StringBuilder("OrderDto{")
@@ -63,6 +82,8 @@ public class OrderDto {
                 .append(username)
                 .append(", certificatesId=")
                 .append(certificatesId)
+                .append(", idempotencyKey=")
+                .append(idempotencyKey)
                 .append('}')
                 .toString();
     }
@@ -0,0 +1,44 @@
+package com.epam.esm.dto;
+
+import com.epam.esm.entity.Tag;
+
+/**
+ * @author VChaikovski
+ * @project certificates-shop-backend
+ * <p>
+ * The type TrendingTagDto.
+ * This class includes a tag and the number of its purchases in a trending window.
+ */
+public class TrendingTagDto {
+    private final Tag tag;
+    private final long purchases;
+
+    /**
+     * Instantiates a new TrendingTagDto.
+     *
+     * @param tag       the tag
+     * @param purchases the purchases
+     */
+    public TrendingTagDto(Tag tag, long purchases) {
+        this.tag = tag;
+        this.purchases = purchases;
+    }
+
+    /**
+     * Gets tag.
+     *
+     * @return the tag
+     */
+    public Tag getTag() {
+        return tag;
+    }
+
+    /**
+     * Gets purchases.
+     *
+     * @return the purchases
+     */
+    public long getPurchases() {
+        return purchases;
+    }
+}
@@ -1,6 +1,7 @@
 package com.epam.esm.entity;
 
 import com.epam.esm.auditdata.AuditListener;
+import com.fasterxml.jackson.annotation.JsonFilter;
 import com.fasterxml.jackson.annotation.JsonFormat;
 import org.springframework.hateoas.RepresentationModel;
 
@@ -14,10 +15,17 @@ import java.util.Objects;
  * The type Abstract entity.
  * <p>
  * This class is the parent for other entity classes.
+ * Serialized entities can be narrowed to a set of fields by the filter with the FIELDS_FILTER id.
  */
 @EntityListeners(AuditListener.class)
 @MappedSuperclass
+@JsonFilter(AbstractEntity.FIELDS_FILTER)
 public class AbstractEntity extends RepresentationModel<AbstractEntity> {
+    /**
+     * The constant FIELDS_FILTER.
+     */
+    public static final String FIELDS_FILTER = "fieldsFilter";
+
     @Id
     @GeneratedValue(strategy = GenerationType.SEQUENCE)
     private long id;
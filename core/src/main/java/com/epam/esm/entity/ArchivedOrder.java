@@ -0,0 +1,148 @@
+package com.epam.esm.entity;
+
+import javax.persistence.*;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * The type Archived order.
+ *
+ * @author VChaikovski
+ * @project certificates-shop-backend
+ * <p>
+ * This class describes entity ArchivedOrder. It keeps an old order that was moved out of the orders table
+ * with the same id, so the live tables and their indexes only hold recent orders.
+ */
+@Entity
+@Table(name = "archived_orders", indexes = @Index(name = "archived_orders_create_date_idx", columnList = "create_date"))
+public class ArchivedOrder {
+    @Id
+    private long id;
+
+    private BigDecimal cost;
+
+    @Column(name = "create_date")
+    private LocalDateTime createDate;
+
+    @Column(name = "user_id", nullable = false)
+    private long userId;
+
+    @Column(name = "archived_date", nullable = false)
+    private LocalDateTime archivedDate;
+
+    @ElementCollection(fetch = FetchType.LAZY)
+    @CollectionTable(name = "archived_orders_gift_certificates", joinColumns = @JoinColumn(name = "order_id"))
+    @Column(name = "certificate_id")
+    private Set<Long> certificateIds;
+
+    /**
+     * Instantiates a new Archived order.
+     */
+    public ArchivedOrder() {
+    }
+
+    /**
+     * Gets id.
+     *
+     * @return the id
+     */
+    public long getId() {
+        return id;
+    }
+
+    /**
+     * Gets cost.
+     *
+     * @return the cost
+     */
+    public BigDecimal getCost() {
+        return cost;
+    }
+
+    /**
+     * Gets create date.
+     *
+     * @return the create date
+     */
+    public LocalDateTime getCreateDate() {
+        return createDate;
+    }
+
+    /**
+     * Gets user id.
+     *
+     * @return the user id
+     */
+    public long getUserId() {
+        return userId;
+    }
+
+    /**
+     * Gets archived date.
+     *
+     * @return the archived date
+     */
+    public LocalDateTime getArchivedDate() {
+        return archivedDate;
+    }
+
+    /**
+     * Gets certificate ids.
+     *
+     * @return the certificate ids
+     */
+    public Set<Long> getCertificateIds() {
+        return certificateIds;
+    }
+
+    /**
+     * To order order.
+     * <p>
+     * This method builds a detached order with the id, cost and create date of the archived order
+     * and marks it as archived. It isn't bound to the persistence context, so it must not be saved.
+     *
+     * @return the order
+     */
+    public Order toOrder() {
+        Order order = new Order();
+        order.setId(id);
+        order.setCost(cost);
+        order.setCreateDate(createDate);
+        order.setCertificates(new ArrayList<>());
+        order.setArchived(true);
+        return order;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        ArchivedOrder that = (ArchivedOrder) o;
+        return id == that.id && userId == that.userId && Objects.equals(cost, that.cost)
+                && Objects.equals(createDate, that.createDate) && Objects.equals(archivedDate, that.archivedDate);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(id, cost, createDate, userId, archivedDate);
+    }
+
+    @Override
+    public String toString() {
+        return new StringBuilder("ArchivedOrder{id=")
+                .append(id)
+                .append(", cost=")
+                .append(cost)
+                .append(", createDate=")
+                .append(createDate)
+                .append(", userId=")
+                .append(userId)
+                .append(", archivedDate=")
+                .append(archivedDate)
+                .append('}')
+                .toString();
+    }
+}
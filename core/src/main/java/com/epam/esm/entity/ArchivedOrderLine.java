@@ -0,0 +1,112 @@
+package com.epam.esm.entity;
+
+import javax.persistence.*;
+import java.math.BigDecimal;
+import java.util.Objects;
+
+/**
+ * The type Archived order line.
+ *
+ * @author VChaikovski
+ * @project certificates-shop-backend
+ * <p>
+ * This class describes entity ArchivedOrderLine. It keeps a line of an archived order with the same id.
+ */
+@Entity
+@Table(name = "archived_order_lines", indexes = @Index(name = "archived_order_lines_order_id_idx", columnList = "order_id"))
+public class ArchivedOrderLine {
+    @Id
+    private long id;
+
+    @Column(name = "order_id", nullable = false)
+    private long orderId;
+
+    @Column(name = "certificate_id", nullable = false)
+    private long certificateId;
+
+    @Column(name = "unit_price", nullable = false)
+    private BigDecimal unitPrice;
+
+    private int quantity;
+
+    /**
+     * Instantiates a new Archived order line.
+     */
+    public ArchivedOrderLine() {
+    }
+
+    /**
+     * Gets id.
+     *
+     * @return the id
+     */
+    public long getId() {
+        return id;
+    }
+
+    /**
+     * Gets order id.
+     *
+     * @return the order id
+     */
+    public long getOrderId() {
+        return orderId;
+    }
+
+    /**
+     * Gets certificate id.
+     *
+     * @return the certificate id
+     */
+    public long getCertificateId() {
+        return certificateId;
+    }
+
+    /**
+     * Gets unit price.
+     *
+     * @return the unit price
+     */
+    public BigDecimal getUnitPrice() {
+        return unitPrice;
+    }
+
+    /**
+     * Gets quantity.
+     *
+     * @return the quantity
+     */
+    public int getQuantity() {
+        return quantity;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        ArchivedOrderLine that = (ArchivedOrderLine) o;
+        return id == that.id && orderId == that.orderId && certificateId == that.certificateId
+                && quantity == that.quantity && Objects.equals(unitPrice, that.unitPrice);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(id, orderId, certificateId, unitPrice, quantity);
+    }
+
+    @Override
+    public String toString() {
+        return new StringBuilder("ArchivedOrderLine{id=")
+                .append(id)
+                .append(", orderId=")
+                .append(orderId)
+                .append(", certificateId=")
+                .append(certificateId)
+                .append(", unitPrice=")
+                .append(unitPrice)
+                .append(", quantity=")
+                .append(quantity)
+                .append('}')
+                .toString();
+    }
+}
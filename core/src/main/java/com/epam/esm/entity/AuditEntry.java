@@ -0,0 +1,181 @@
+package com.epam.esm.entity;
+
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.Index;
+import javax.persistence.Table;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Objects;
+
+/**
+ * The type Audit entry.
+ *
+ * @author VChaikovski
+ * @project certificates-shop-backend
+ * <p>
+ * This class describes entity AuditEntry. It records a business action made by a user, for example a created order.
+ * The audited entity is referenced by id only, so entries outlive archived and deleted entities.
+ */
+@Entity
+@Table(name = "audit_entries", indexes = @Index(name = "audit_entries_user_idx", columnList = "user_id, create_date"))
+public class AuditEntry extends AbstractEntity {
+    @Column(nullable = false)
+    private String action;
+
+    @Column(name = "entity_id", nullable = false)
+    private long entityId;
+
+    @Column(name = "user_id", nullable = false)
+    private long userId;
+
+    private BigDecimal amount;
+
+    @Column(name = "create_date", nullable = false)
+    private LocalDateTime createDate;
+
+    /**
+     * Instantiates a new Audit entry.
+     */
+    public AuditEntry() {
+    }
+
+    /**
+     * Instantiates a new Audit entry.
+     *
+     * @param action     the action
+     * @param entityId   the entity id
+     * @param userId     the user id
+     * @param amount     the amount
+     * @param createDate the create date
+     */
+    public AuditEntry(String action, long entityId, long userId, BigDecimal amount, LocalDateTime createDate) {
+        this.action = action;
+        this.entityId = entityId;
+        this.userId = userId;
+        this.amount = amount;
+        this.createDate = createDate;
+    }
+
+    /**
+     * Gets action.
+     *
+     * @return the action
+     */
+    public String getAction() {
+        return action;
+    }
+
+    /**
+     * Sets action.
+     *
+     * @param action the action
+     */
+    public void setAction(String action) {
+        this.action = action;
+    }
+
+    /**
+     * Gets entity id.
+     *
+     * @return the entity id
+     */
+    public long getEntityId() {
+        return entityId;
+    }
+
+    /**
+     * Sets entity id.
+     *
+     * @param entityId the entity id
+     */
+    public void setEntityId(long entityId) {
+        this.entityId = entityId;
+    }
+
+    /**
+     * Gets user id.
+     *
+     * @return the user id
+     */
+    public long getUserId() {
+        return userId;
+    }
+
+    /**
+     * Sets user id.
+     *
+     * @param userId the user id
+     */
+    public void setUserId(long userId) {
+        this.userId = userId;
+    }
+
+    /**
+     * Gets amount.
+     *
+     * @return the amount
+     */
+    public BigDecimal getAmount() {
+        return amount;
+    }
+
+    /**
+     * Sets amount.
+     *
+     * @param amount the amount
+     */
+    public void setAmount(BigDecimal amount) {
+        this.amount = amount;
+    }
+
+    /**
+     * Gets create date.
+     *
+     * @return the create date
+     */
+    public LocalDateTime getCreateDate() {
+        return createDate;
+    }
+
+    /**
+     * Sets create date.
+     *
+     * @param createDate the create date
+     */
+    public void setCreateDate(LocalDateTime createDate) {
+        this.createDate = createDate;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        if (!super.equals(o)) return false;
+        AuditEntry that = (AuditEntry) o;
+        return entityId == that.entityId && userId == that.userId && Objects.equals(action, that.action)
+                && Objects.equals(amount, that.amount) && Objects.equals(createDate, that.createDate);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(super.hashCode(), action, entityId, userId, amount, createDate);
+    }
+
+    @Override
+    public String toString() {
+        return new StringBuilder(super.toString())
+                .append(", action='")
+                .append(action)
+                .append("', entityId=")
+                .append(entityId)
+                .append(", userId=")
+                .append(userId)
+                .append(", amount=")
+                .append(amount)
+                .append(", createDate=")
+                .append(createDate)
+                .append('}')
+                .toString();
+    }
+}
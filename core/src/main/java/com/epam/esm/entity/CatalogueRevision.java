@@ -0,0 +1,91 @@
+package com.epam.esm.entity;
+
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.Table;
+import java.util.Objects;
+
+/**
+ * The type Catalogue revision.
+ *
+ * @author VChaikovski
+ * @project certificates-shop-backend
+ * <p>
+ * This class describes entity CatalogueRevision. Its only row keeps the number of committed changes
+ * of the gift certificate catalogue, so all application instances tag catalogue responses with the same version.
+ */
+@Entity
+@Table(name = "catalogue_revisions")
+public class CatalogueRevision {
+    @Id
+    private long id;
+
+    @Column(nullable = false)
+    private long revision;
+
+    /**
+     * Instantiates a new Catalogue revision.
+     */
+    public CatalogueRevision() {
+    }
+
+    /**
+     * Gets id.
+     *
+     * @return the id
+     */
+    public long getId() {
+        return id;
+    }
+
+    /**
+     * Sets id.
+     *
+     * @param id the id
+     */
+    public void setId(long id) {
+        this.id = id;
+    }
+
+    /**
+     * Gets revision.
+     *
+     * @return the revision
+     */
+    public long getRevision() {
+        return revision;
+    }
+
+    /**
+     * Sets revision.
+     *
+     * @param revision the revision
+     */
+    public void setRevision(long revision) {
+        this.revision = revision;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        CatalogueRevision that = (CatalogueRevision) o;
+        return id == that.id && revision == that.revision;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(id, revision);
+    }
+
+    @Override
+    public String toString() {
+        return new StringBuilder("CatalogueRevision{id=")
+                .append(id)
+                .append(", revision=")
+                .append(revision)
+                .append('}')
+                .toString();
+    }
+}
@@ -0,0 +1,92 @@
+package com.epam.esm.entity;
+
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.Table;
+import java.time.LocalDateTime;
+import java.util.Objects;
+
+/**
+ * The type Data migration.
+ *
+ * @author VChaikovski
+ * @project certificates-shop-backend
+ * <p>
+ * This class describes entity DataMigration. A row is written for every one-off data migration
+ * in the same transaction that applies it, so the migration is never applied to the same database twice.
+ */
+@Entity
+@Table(name = "data_migrations")
+public class DataMigration {
+    @Id
+    private String name;
+
+    @Column(name = "applied_date", nullable = false)
+    private LocalDateTime appliedDate;
+
+    /**
+     * Instantiates a new Data migration.
+     */
+    public DataMigration() {
+    }
+
+    /**
+     * Gets name.
+     *
+     * @return the name
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Sets name.
+     *
+     * @param name the name
+     */
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    /**
+     * Gets applied date.
+     *
+     * @return the applied date
+     */
+    public LocalDateTime getAppliedDate() {
+        return appliedDate;
+    }
+
+    /**
+     * Sets applied date.
+     *
+     * @param appliedDate the applied date
+     */
+    public void setAppliedDate(LocalDateTime appliedDate) {
+        this.appliedDate = appliedDate;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        DataMigration that = (DataMigration) o;
+        return Objects.equals(name, that.name) && Objects.equals(appliedDate, that.appliedDate);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(name, appliedDate);
+    }
+
+    @Override
+    public String toString() {
+        return new StringBuilder("DataMigration{name='")
+                .append(name)
+                .append("', appliedDate=")
+                .append(appliedDate)
+                .append('}')
+                .toString();
+    }
+}
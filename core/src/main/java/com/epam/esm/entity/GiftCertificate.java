@@ -19,7 +19,7 @@ import java.util.Set;
  * This class describes entity GiftCertificate
  */
 @Entity
-@Table(name = "gift_certificates")
+@Table(name = "gift_certificates", indexes = @Index(name = "gift_certificates_popularity_idx", columnList = "popularity"))
 public class GiftCertificate extends AbstractEntity {
     @Column(name = "certificate_name")
     private String name;
@@ -52,6 +52,13 @@ public class GiftCertificate extends AbstractEntity {
     @JsonIgnore
     private Set<Order> orders;
 
+    @Version
+    @JsonIgnore
+    private long version;
+
+    @Column(name = "popularity", nullable = false, updatable = false)
+    private long popularity;
+
     /**
      * Instantiates a new Gift certificate.
      */
@@ -227,6 +234,46 @@ public class GiftCertificate extends AbstractEntity {
         this.orders = orders;
     }
 
+    /**
+     * Gets version.
+     *
+     * @return the version
+     */
+    public long getVersion() {
+        return version;
+    }
+
+    /**
+     * Sets version.
+     *
+     * @param version the version
+     */
+    public void setVersion(long version) {
+        this.version = version;
+    }
+
+    /**
+     * Gets popularity.
+     * <p>
+     * The popularity is the number of purchased gift certificates. The counter is maintained in background
+     * after orders are created, so it's never overwritten by entity updates. It isn't a part of the catalogue version,
+     * so a response that is revalidated by its entity tag may show the popularity of the last catalogue change.
+     *
+     * @return the popularity
+     */
+    public long getPopularity() {
+        return popularity;
+    }
+
+    /**
+     * Sets popularity.
+     *
+     * @param popularity the popularity
+     */
+    public void setPopularity(long popularity) {
+        this.popularity = popularity;
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
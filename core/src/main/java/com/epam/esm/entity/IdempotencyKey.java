@@ -0,0 +1,188 @@
+package com.epam.esm.entity;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import org.hibernate.annotations.OnDelete;
+import org.hibernate.annotations.OnDeleteAction;
+
+import javax.persistence.*;
+import java.time.LocalDateTime;
+import java.util.Objects;
+
+/**
+ * The type Idempotency key.
+ *
+ * @author VChaikovski
+ * @project certificates-shop-backend
+ * <p>
+ * This class describes entity IdempotencyKey. It binds a key provided by a client with the order
+ * created for the first request that carried it and with the hash of that request, so the key
+ * can't be reused with another request.
+ * Keys are kept for the configured retention time only, a request repeated after that creates a new order.
+ */
+@Entity
+@Table(name = "order_idempotency_keys",
+        uniqueConstraints = @UniqueConstraint(columnNames = {"idempotency_key", "user_id"}),
+        indexes = @Index(name = "order_idempotency_keys_create_date_idx", columnList = "create_date"))
+public class IdempotencyKey extends AbstractEntity {
+    @Column(name = "idempotency_key", nullable = false)
+    private String key;
+
+    @Column(name = "request_hash", length = 64)
+    private String requestHash;
+
+    @Column(name = "create_date")
+    private LocalDateTime createDate;
+
+    @ManyToOne(fetch = FetchType.LAZY, optional = false)
+    @JoinColumn(name = "user_id", nullable = false)
+    @OnDelete(action = OnDeleteAction.CASCADE)
+    @JsonIgnore
+    private User user;
+
+    @OneToOne(fetch = FetchType.LAZY, optional = false)
+    @JoinColumn(name = "order_id", nullable = false)
+    @OnDelete(action = OnDeleteAction.CASCADE)
+    @JsonIgnore
+    private Order order;
+
+    /**
+     * Instantiates a new Idempotency key.
+     */
+    public IdempotencyKey() {
+    }
+
+    /**
+     * Instantiates a new Idempotency key.
+     *
+     * @param key         the key
+     * @param requestHash the request hash
+     * @param createDate  the create date
+     * @param user        the user
+     * @param order       the order
+     */
+    public IdempotencyKey(String key, String requestHash, LocalDateTime createDate, User user, Order order) {
+        this.key = key;
+        this.requestHash = requestHash;
+        this.createDate = createDate;
+        this.user = user;
+        this.order = order;
+    }
+
+    /**
+     * Gets key.
+     *
+     * @return the key
+     */
+    public String getKey() {
+        return key;
+    }
+
+    /**
+     * Sets key.
+     *
+     * @param key the key
+     */
+    public void setKey(String key) {
+        this.key = key;
+    }
+
+    /**
+     * Gets request hash.
+     *
+     * @return the request hash
+     */
+    public String getRequestHash() {
+        return requestHash;
+    }
+
+    /**
+     * Sets request hash.
+     *
+     * @param requestHash the request hash
+     */
+    public void setRequestHash(String requestHash) {
+        this.requestHash = requestHash;
+    }
+
+    /**
+     * Gets create date.
+     *
+     * @return the create date
+     */
+    public LocalDateTime getCreateDate() {
+        return createDate;
+    }
+
+    /**
+     * Sets create date.
+     *
+     * @param createDate the create date
+     */
+    public void setCreateDate(LocalDateTime createDate) {
+        this.createDate = createDate;
+    }
+
+    /**
+     * Gets user.
+     *
+     * @return the user
+     */
+    public User getUser() {
+        return user;
+    }
+
+    /**
+     * Sets user.
+     *
+     * @param user the user
+     */
+    public void setUser(User user) {
+        this.user = user;
+    }
+
+    /**
+     * Gets order.
+     *
+     * @return the order
+     */
+    public Order getOrder() {
+        return order;
+    }
+
+    /**
+     * Sets order.
+     *
+     * @param order the order
+     */
+    public void setOrder(Order order) {
+        this.order = order;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        if (!super.equals(o)) return false;
+        IdempotencyKey that = (IdempotencyKey) o;
+        return Objects.equals(key, that.key) && Objects.equals(requestHash, that.requestHash)
+                && Objects.equals(createDate, that.createDate);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(super.hashCode(), key, requestHash, createDate);
+    }
+
+    @Override
+    public String toString() {
+        return new StringBuilder(super.toString())
+                .append(", key='")
+                .append(key)
+                .append("', requestHash='")
+                .append(requestHash)
+                .append("', createDate=")
+                .append(createDate)
+                .append('}')
+                .toString();
+    }
+}
@@ -21,7 +21,7 @@ import java.util.Objects;
  * This class describe entity Order
  */
 @Entity
-@Table(name = "orders")
+@Table(name = "orders", indexes = @Index(name = "orders_create_date_idx", columnList = "create_date"))
 public class Order extends AbstractEntity {
     private BigDecimal cost;
 
@@ -36,12 +36,19 @@ public class Order extends AbstractEntity {
     @JsonIgnore
     private List<GiftCertificate> certificates;
 
+    @OneToMany(mappedBy = "order", cascade = {CascadeType.PERSIST, CascadeType.MERGE})
+    @JsonIgnore
+    private List<OrderLine> lines;
+
     @ManyToOne(fetch = FetchType.EAGER, optional = false)
     @JoinColumn(name = "user_id", nullable = false)
     @OnDelete(action = OnDeleteAction.CASCADE)
     @JsonIgnore
     private User user;
 
+    @Transient
+    private boolean archived;
+
     /**
      * Instantiates a new Order.
      *
@@ -55,6 +62,7 @@ public class Order extends AbstractEntity {
         this.createDate = createDate;
         this.certificates = certificates;
         this.user = user;
+        lines = new ArrayList<>();
     }
 
     /**
@@ -62,6 +70,7 @@ public class Order extends AbstractEntity {
      */
     public Order() {
         certificates = new ArrayList<>();
+        lines = new ArrayList<>();
     }
 
     /**
@@ -136,6 +145,47 @@ public class Order extends AbstractEntity {
         this.certificates = certificates;
     }
 
+    /**
+     * Gets lines.
+     *
+     * @return the lines
+     */
+    public List<OrderLine> getLines() {
+        return lines;
+    }
+
+    /**
+     * Sets lines.
+     * <p>
+     * This method also binds every line to this order.
+     *
+     * @param lines the lines
+     */
+    public void setLines(List<OrderLine> lines) {
+        lines.forEach(l -> l.setOrder(this));
+        this.lines = lines;
+    }
+
+    /**
+     * Is archived boolean.
+     * <p>
+     * Archived orders are read from the archive tables, their certificates, lines and user can't be requested by the order id.
+     *
+     * @return the boolean
+     */
+    public boolean isArchived() {
+        return archived;
+    }
+
+    /**
+     * Sets archived.
+     *
+     * @param archived the archived
+     */
+    public void setArchived(boolean archived) {
+        this.archived = archived;
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
@@ -0,0 +1,164 @@
+package com.epam.esm.entity;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import org.hibernate.annotations.OnDelete;
+import org.hibernate.annotations.OnDeleteAction;
+
+import javax.persistence.*;
+import java.math.BigDecimal;
+import java.util.Objects;
+
+/**
+ * The type Order line.
+ *
+ * @author VChaikovski
+ * @project certificates-shop-backend
+ * <p>
+ * This class describes entity OrderLine. It keeps the price of a gift certificate at the moment of purchase,
+ * so order data doesn't depend on the current state of the certificate.
+ */
+@Entity
+@Table(name = "order_lines", indexes = @Index(name = "order_lines_order_id_idx", columnList = "order_id"))
+public class OrderLine extends AbstractEntity {
+    @ManyToOne(fetch = FetchType.LAZY, optional = false)
+    @JoinColumn(name = "order_id", nullable = false)
+    @OnDelete(action = OnDeleteAction.CASCADE)
+    @JsonIgnore
+    private Order order;
+
+    @Column(name = "certificate_id", nullable = false)
+    private long certificateId;
+
+    @Column(name = "unit_price", nullable = false)
+    private BigDecimal unitPrice;
+
+    private int quantity;
+
+    /**
+     * Instantiates a new Order line.
+     */
+    public OrderLine() {
+    }
+
+    /**
+     * Instantiates a new Order line.
+     *
+     * @param certificateId the certificate id
+     * @param unitPrice     the unit price
+     * @param quantity      the quantity
+     */
+    public OrderLine(long certificateId, BigDecimal unitPrice, int quantity) {
+        this.certificateId = certificateId;
+        this.unitPrice = unitPrice;
+        this.quantity = quantity;
+    }
+
+    /**
+     * Gets order.
+     *
+     * @return the order
+     */
+    public Order getOrder() {
+        return order;
+    }
+
+    /**
+     * Sets order.
+     *
+     * @param order the order
+     */
+    public void setOrder(Order order) {
+        this.order = order;
+    }
+
+    /**
+     * Gets certificate id.
+     *
+     * @return the certificate id
+     */
+    public long getCertificateId() {
+        return certificateId;
+    }
+
+    /**
+     * Sets certificate id.
+     *
+     * @param certificateId the certificate id
+     */
+    public void setCertificateId(long certificateId) {
+        this.certificateId = certificateId;
+    }
+
+    /**
+     * Gets unit price.
+     *
+     * @return the unit price
+     */
+    public BigDecimal getUnitPrice() {
+        return unitPrice;
+    }
+
+    /**
+     * Sets unit price.
+     *
+     * @param unitPrice the unit price
+     */
+    public void setUnitPrice(BigDecimal unitPrice) {
+        this.unitPrice = unitPrice;
+    }
+
+    /**
+     * Gets quantity.
+     *
+     * @return the quantity
+     */
+    public int getQuantity() {
+        return quantity;
+    }
+
+    /**
+     * Sets quantity.
+     *
+     * @param quantity the quantity
+     */
+    public void setQuantity(int quantity) {
+        this.quantity = quantity;
+    }
+
+    /**
+     * Gets line cost.
+     *
+     * @return the line cost
+     */
+    public BigDecimal getLineCost() {
+        return unitPrice.multiply(BigDecimal.valueOf(quantity));
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        if (!super.equals(o)) return false;
+        OrderLine that = (OrderLine) o;
+        return certificateId == that.certificateId && quantity == that.quantity &&
+                ((unitPrice != null && that.unitPrice != null) ? unitPrice.compareTo(that.unitPrice) == 0 : unitPrice == that.unitPrice);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(super.hashCode(), certificateId, quantity);
+    }
+
+    @Override
+    public String toString() {
+        return new StringBuilder(super.toString())
+                .append(", certificateId=")
+                .append(certificateId)
+                .append(", unitPrice=")
+                .append(unitPrice)
+                .append(", quantity=")
+                .append(quantity)
+                .append('}')
+                .toString();
+    }
+}
@@ -0,0 +1,176 @@
+package com.epam.esm.entity;
+
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.Index;
+import javax.persistence.Table;
+import java.time.LocalDateTime;
+import java.util.Objects;
+
+/**
+ * The type Outbox event.
+ *
+ * @author VChaikovski
+ * @project certificates-shop-backend
+ * <p>
+ * This class describes entity OutboxEvent. It's written in the same transaction as the change it describes
+ * and is processed in background afterwards.
+ */
+@Entity
+@Table(name = "outbox_events", indexes = @Index(name = "outbox_events_processed_idx", columnList = "processed, create_date"))
+public class OutboxEvent extends AbstractEntity {
+    @Column(name = "event_type", nullable = false)
+    private String eventType;
+
+    @Column(name = "aggregate_id", nullable = false)
+    private long aggregateId;
+
+    @Column(name = "create_date", nullable = false)
+    private LocalDateTime createDate;
+
+    private boolean processed;
+
+    @Column(name = "processed_date")
+    private LocalDateTime processedDate;
+
+    /**
+     * Instantiates a new Outbox event.
+     */
+    public OutboxEvent() {
+    }
+
+    /**
+     * Instantiates a new Outbox event.
+     *
+     * @param eventType   the event type
+     * @param aggregateId the aggregate id
+     * @param createDate  the create date
+     */
+    public OutboxEvent(String eventType, long aggregateId, LocalDateTime createDate) {
+        this.eventType = eventType;
+        this.aggregateId = aggregateId;
+        this.createDate = createDate;
+    }
+
+    /**
+     * Gets event type.
+     *
+     * @return the event type
+     */
+    public String getEventType() {
+        return eventType;
+    }
+
+    /**
+     * Sets event type.
+     *
+     * @param eventType the event type
+     */
+    public void setEventType(String eventType) {
+        this.eventType = eventType;
+    }
+
+    /**
+     * Gets aggregate id.
+     *
+     * @return the aggregate id
+     */
+    public long getAggregateId() {
+        return aggregateId;
+    }
+
+    /**
+     * Sets aggregate id.
+     *
+     * @param aggregateId the aggregate id
+     */
+    public void setAggregateId(long aggregateId) {
+        this.aggregateId = aggregateId;
+    }
+
+    /**
+     * Gets create date.
+     *
+     * @return the create date
+     */
+    public LocalDateTime getCreateDate() {
+        return createDate;
+    }
+
+    /**
+     * Sets create date.
+     *
+     * @param createDate the create date
+     */
+    public void setCreateDate(LocalDateTime createDate) {
+        this.createDate = createDate;
+    }
+
+    /**
+     * Is processed boolean.
+     *
+     * @return the boolean
+     */
+    public boolean isProcessed() {
+        return processed;
+    }
+
+    /**
+     * Sets processed.
+     *
+     * @param processed the processed
+     */
+    public void setProcessed(boolean processed) {
+        this.processed = processed;
+    }
+
+    /**
+     * Gets processed date.
+     *
+     * @return the processed date
+     */
+    public LocalDateTime getProcessedDate() {
+        return processedDate;
+    }
+
+    /**
+     * Sets processed date.
+     *
+     * @param processedDate the processed date
+     */
+    public void setProcessedDate(LocalDateTime processedDate) {
+        this.processedDate = processedDate;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        if (!super.equals(o)) return false;
+        OutboxEvent that = (OutboxEvent) o;
+        return aggregateId == that.aggregateId && processed == that.processed && Objects.equals(eventType, that.eventType) &&
+                Objects.equals(createDate, that.createDate) && Objects.equals(processedDate, that.processedDate);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(super.hashCode(), eventType, aggregateId, createDate, processed, processedDate);
+    }
+
+    @Override
+    public String toString() {
+        return new StringBuilder(super.toString())
+                .append(", eventType='")
+                .append(eventType)
+                .append("', aggregateId=")
+                .append(aggregateId)
+                .append(", createDate=")
+                .append(createDate)
+                .append(", processed=")
+                .append(processed)
+                .append(", processedDate=")
+                .append(processedDate)
+                .append('}')
+                .toString();
+    }
+}
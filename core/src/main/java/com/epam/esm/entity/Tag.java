@@ -28,6 +28,13 @@ public class Tag extends AbstractEntity {
     @JsonIgnore
     private Set<GiftCertificate> certificates;
 
+    @Column(name = "purchase_count", nullable = false, updatable = false)
+    @JsonIgnore
+    private long purchaseCount;
+
+    @Column(name = "certificate_count", nullable = false, updatable = false)
+    private long certificateCount;
+
     /**
      * Instantiates a new Tag.
      */
@@ -72,6 +79,46 @@ public class Tag extends AbstractEntity {
         return certificates;
     }
 
+    /**
+     * Gets purchase count.
+     * <p>
+     * The counter is maintained in background after orders are created, so it's never overwritten by entity updates.
+     *
+     * @return the purchase count
+     */
+    public long getPurchaseCount() {
+        return purchaseCount;
+    }
+
+    /**
+     * Sets purchase count.
+     *
+     * @param purchaseCount the purchase count
+     */
+    public void setPurchaseCount(long purchaseCount) {
+        this.purchaseCount = purchaseCount;
+    }
+
+    /**
+     * Gets certificate count.
+     * <p>
+     * The counter is changed with the links between the tag and gift certificates, so it's never overwritten by entity updates.
+     *
+     * @return the certificate count
+     */
+    public long getCertificateCount() {
+        return certificateCount;
+    }
+
+    /**
+     * Sets certificate count.
+     *
+     * @param certificateCount the certificate count
+     */
+    public void setCertificateCount(long certificateCount) {
+        this.certificateCount = certificateCount;
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
@@ -0,0 +1,155 @@
+package com.epam.esm.entity;
+
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.Table;
+import javax.persistence.UniqueConstraint;
+import java.util.Objects;
+
+/**
+ * The type Tag trend bucket.
+ *
+ * @author VChaikovski
+ * @project certificates-shop-backend
+ * <p>
+ * This class describes entity TagTrendBucket. It keeps the number of purchases of a tag in one time bucket,
+ * so trending tag counters survive restarts and are shared by application instances.
+ */
+@Entity
+@Table(name = "tag_trend_buckets", uniqueConstraints = @UniqueConstraint(name = "tag_trend_buckets_bucket_uk",
+        columnNames = {"bucket_minutes", "slot", "tag_id"}))
+public class TagTrendBucket extends AbstractEntity {
+    @Column(name = "bucket_minutes", nullable = false)
+    private int bucketMinutes;
+
+    @Column(nullable = false)
+    private long slot;
+
+    @Column(name = "tag_id", nullable = false)
+    private long tagId;
+
+    @Column(nullable = false)
+    private long purchases;
+
+    /**
+     * Instantiates a new Tag trend bucket.
+     */
+    public TagTrendBucket() {
+    }
+
+    /**
+     * Instantiates a new Tag trend bucket.
+     *
+     * @param bucketMinutes the bucket length in minutes
+     * @param slot          the number of the bucket since epoch
+     * @param tagId         the tag id
+     * @param purchases     the purchases
+     */
+    public TagTrendBucket(int bucketMinutes, long slot, long tagId, long purchases) {
+        this.bucketMinutes = bucketMinutes;
+        this.slot = slot;
+        this.tagId = tagId;
+        this.purchases = purchases;
+    }
+
+    /**
+     * Gets bucket minutes.
+     *
+     * @return the bucket minutes
+     */
+    public int getBucketMinutes() {
+        return bucketMinutes;
+    }
+
+    /**
+     * Sets bucket minutes.
+     *
+     * @param bucketMinutes the bucket minutes
+     */
+    public void setBucketMinutes(int bucketMinutes) {
+        this.bucketMinutes = bucketMinutes;
+    }
+
+    /**
+     * Gets slot.
+     *
+     * @return the slot
+     */
+    public long getSlot() {
+        return slot;
+    }
+
+    /**
+     * Sets slot.
+     *
+     * @param slot the slot
+     */
+    public void setSlot(long slot) {
+        this.slot = slot;
+    }
+
+    /**
+     * Gets tag id.
+     *
+     * @return the tag id
+     */
+    public long getTagId() {
+        return tagId;
+    }
+
+    /**
+     * Sets tag id.
+     *
+     * @param tagId the tag id
+     */
+    public void setTagId(long tagId) {
+        this.tagId = tagId;
+    }
+
+    /**
+     * Gets purchases.
+     *
+     * @return the purchases
+     */
+    public long getPurchases() {
+        return purchases;
+    }
+
+    /**
+     * Sets purchases.
+     *
+     * @param purchases the purchases
+     */
+    public void setPurchases(long purchases) {
+        this.purchases = purchases;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        if (!super.equals(o)) return false;
+        TagTrendBucket that = (TagTrendBucket) o;
+        return bucketMinutes == that.bucketMinutes && slot == that.slot && tagId == that.tagId && purchases == that.purchases;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(super.hashCode(), bucketMinutes, slot, tagId, purchases);
+    }
+
+    @Override
+    public String toString() {
+        return new StringBuilder(super.toString())
+                .append(", bucketMinutes=")
+                .append(bucketMinutes)
+                .append(", slot=")
+                .append(slot)
+                .append(", tagId=")
+                .append(tagId)
+                .append(", purchases=")
+                .append(purchases)
+                .append('}')
+                .toString();
+    }
+}
@@ -0,0 +1,207 @@
+package com.epam.esm.entity;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import org.hibernate.annotations.OnDelete;
+import org.hibernate.annotations.OnDeleteAction;
+import org.springframework.hateoas.RepresentationModel;
+
+import javax.persistence.*;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Objects;
+
+/**
+ * The type User order summary.
+ *
+ * @author VChaikovski
+ * @project certificates-shop-backend
+ * <p>
+ * This class describes entity UserOrderSummary. It keeps the totals of orders of a user, so they are read
+ * by the user id without reading the orders. The summary is changed in the transactions that create and delete orders.
+ */
+@Entity
+@Table(name = "user_order_summaries")
+public class UserOrderSummary extends RepresentationModel<UserOrderSummary> {
+    @Id
+    @Column(name = "user_id")
+    private long userId;
+
+    @MapsId
+    @OneToOne(fetch = FetchType.LAZY, optional = false)
+    @JoinColumn(name = "user_id")
+    @OnDelete(action = OnDeleteAction.CASCADE)
+    @JsonIgnore
+    private User user;
+
+    @Column(name = "order_count", nullable = false)
+    private long orderCount;
+
+    @Column(name = "total_spend", nullable = false)
+    private BigDecimal totalSpend;
+
+    @Column(name = "last_order_date")
+    @JsonFormat(shape = JsonFormat.Shape.STRING, pattern = "yyyy-MM-dd'T'HH:mm:ss.SSS")
+    private LocalDateTime lastOrderDate;
+
+    @Column(name = "distinct_certificates", nullable = false)
+    private long distinctCertificates;
+
+    /**
+     * Instantiates a new User order summary.
+     */
+    public UserOrderSummary() {
+        totalSpend = BigDecimal.ZERO;
+    }
+
+    /**
+     * Instantiates a new empty User order summary.
+     *
+     * @param userId the user id
+     */
+    public UserOrderSummary(long userId) {
+        this.userId = userId;
+        totalSpend = BigDecimal.ZERO;
+    }
+
+    /**
+     * Gets user id.
+     *
+     * @return the user id
+     */
+    public long getUserId() {
+        return userId;
+    }
+
+    /**
+     * Sets user id.
+     *
+     * @param userId the user id
+     */
+    public void setUserId(long userId) {
+        this.userId = userId;
+    }
+
+    /**
+     * Gets user.
+     *
+     * @return the user
+     */
+    public User getUser() {
+        return user;
+    }
+
+    /**
+     * Sets user.
+     *
+     * @param user the user
+     */
+    public void setUser(User user) {
+        this.user = user;
+    }
+
+    /**
+     * Gets order count.
+     *
+     * @return the order count
+     */
+    public long getOrderCount() {
+        return orderCount;
+    }
+
+    /**
+     * Sets order count.
+     *
+     * @param orderCount the order count
+     */
+    public void setOrderCount(long orderCount) {
+        this.orderCount = orderCount;
+    }
+
+    /**
+     * Gets total spend.
+     *
+     * @return the total spend
+     */
+    public BigDecimal getTotalSpend() {
+        return totalSpend;
+    }
+
+    /**
+     * Sets total spend.
+     *
+     * @param totalSpend the total spend
+     */
+    public void setTotalSpend(BigDecimal totalSpend) {
+        this.totalSpend = totalSpend;
+    }
+
+    /**
+     * Gets last order date.
+     *
+     * @return the last order date
+     */
+    public LocalDateTime getLastOrderDate() {
+        return lastOrderDate;
+    }
+
+    /**
+     * Sets last order date.
+     *
+     * @param lastOrderDate the last order date
+     */
+    public void setLastOrderDate(LocalDateTime lastOrderDate) {
+        this.lastOrderDate = lastOrderDate;
+    }
+
+    /**
+     * Gets distinct certificates.
+     *
+     * @return the number of different gift certificates the user ordered
+     */
+    public long getDistinctCertificates() {
+        return distinctCertificates;
+    }
+
+    /**
+     * Sets distinct certificates.
+     *
+     * @param distinctCertificates the distinct certificates
+     */
+    public void setDistinctCertificates(long distinctCertificates) {
+        this.distinctCertificates = distinctCertificates;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        if (!super.equals(o)) return false;
+        UserOrderSummary that = (UserOrderSummary) o;
+        return userId == that.userId && orderCount == that.orderCount
+                && distinctCertificates == that.distinctCertificates
+                && Objects.equals(totalSpend, that.totalSpend)
+                && Objects.equals(lastOrderDate, that.lastOrderDate);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(super.hashCode(), userId, orderCount, totalSpend, lastOrderDate, distinctCertificates);
+    }
+
+    @Override
+    public String toString() {
+        return new StringBuilder("UserOrderSummary{userId=")
+                .append(userId)
+                .append(", orderCount=")
+                .append(orderCount)
+                .append(", totalSpend=")
+                .append(totalSpend)
+                .append(", lastOrderDate=")
+                .append(lastOrderDate)
+                .append(", distinctCertificates=")
+                .append(distinctCertificates)
+                .append('}')
+                .toString();
+    }
+}
@@ -0,0 +1,50 @@
+package com.epam.esm.event;
+
+import com.epam.esm.dao.GiftCertificateDao;
+import com.epam.esm.entity.Order;
+import com.epam.esm.entity.OrderLine;
+import com.epam.esm.util.BestsellerRanking;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * @author VChaikovski
+ * @project certificates-shop-backend
+ * The type Certificate popularity listener.
+ * <p>
+ * This class implements the OrderCreatedListener interface.
+ * This class adds purchased quantities to the popularity of gift certificates and offers their new popularity
+ * to the bestseller ranking. Popularity changes with every order, so it doesn't change the catalogue version:
+ * otherwise every purchase would invalidate all cached catalogue responses.
+ */
+@Component
+public class CertificatePopularityListener implements OrderCreatedListener {
+    private GiftCertificateDao certificateDao;
+    private BestsellerRanking bestsellerRanking;
+
+    /**
+     * Instantiates a new Certificate popularity listener.
+     *
+     * @param certificateDao    the gift certificate dao
+     * @param bestsellerRanking the bestseller ranking
+     */
+    @Autowired
+    public CertificatePopularityListener(GiftCertificateDao certificateDao, BestsellerRanking bestsellerRanking) {
+        this.certificateDao = certificateDao;
+        this.bestsellerRanking = bestsellerRanking;
+    }
+
+    @Override
+    public void onOrderCreated(Order order) {
+        if (certificateDao.increasePopularityByOrderId(order.getId()) > 0) {
+            List<Long> certificateIds = order.getLines()
+                    .stream()
+                    .map(OrderLine::getCertificateId)
+                    .distinct()
+                    .toList();
+            bestsellerRanking.offerAll(certificateDao.findPopularityByIds(certificateIds));
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package com.epam.esm.event;
+
+import com.epam.esm.dao.AuditEntryDao;
+import com.epam.esm.entity.AuditEntry;
+import com.epam.esm.entity.Order;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+/**
+ * @author VChaikovski
+ * @project certificates-shop-backend
+ * The type Order audit listener.
+ * <p>
+ * This class implements the OrderCreatedListener interface.
+ * This class writes an audit entry with the user and the cost of every created order.
+ */
+@Component
+public class OrderAuditListener implements OrderCreatedListener {
+    private AuditEntryDao auditEntryDao;
+
+    /**
+     * Instantiates a new Order audit listener.
+     *
+     * @param auditEntryDao the audit entry dao
+     */
+    @Autowired
+    public OrderAuditListener(AuditEntryDao auditEntryDao) {
+        this.auditEntryDao = auditEntryDao;
+    }
+
+    @Override
+    public void onOrderCreated(Order order) {
+        auditEntryDao.insert(new AuditEntry(OrderCreatedEvent.TYPE, order.getId(), order.getUser().getId(),
+                order.getCost(), order.getCreateDate()));
+    }
+}
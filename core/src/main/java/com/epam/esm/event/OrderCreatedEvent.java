@@ -0,0 +1,73 @@
+package com.epam.esm.event;
+
+import java.util.Objects;
+
+/**
+ * @author VChaikovski
+ * @project certificates-shop-backend
+ * The type Order created event.
+ * <p>
+ * This class describes the domain event that's published when a new order was created.
+ * It refers to the outbox event that was stored in the same transaction as the order.
+ */
+public class OrderCreatedEvent {
+    /**
+     * The constant TYPE.
+     */
+    public static final String TYPE = "ORDER_CREATED";
+
+    private final long outboxEventId;
+    private final long orderId;
+
+    /**
+     * Instantiates a new Order created event.
+     *
+     * @param outboxEventId the outbox event id
+     * @param orderId       the order id
+     */
+    public OrderCreatedEvent(long outboxEventId, long orderId) {
+        this.outboxEventId = outboxEventId;
+        this.orderId = orderId;
+    }
+
+    /**
+     * Gets outbox event id.
+     *
+     * @return the outbox event id
+     */
+    public long getOutboxEventId() {
+        return outboxEventId;
+    }
+
+    /**
+     * Gets order id.
+     *
+     * @return the order id
+     */
+    public long getOrderId() {
+        return orderId;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        OrderCreatedEvent that = (OrderCreatedEvent) o;
+        return outboxEventId == that.outboxEventId && orderId == that.orderId;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(outboxEventId, orderId);
+    }
+
+    @Override
+    public String toString() {
+        return new StringBuilder("OrderCreatedEvent{outboxEventId=")
+                .append(outboxEventId)
+                .append(", orderId=")
+                .append(orderId)
+                .append('}')
+                .toString();
+    }
+}
@@ -0,0 +1,21 @@
+package com.epam.esm.event;
+
+import com.epam.esm.entity.Order;
+
+/**
+ * @author VChaikovski
+ * @project certificates-shop-backend
+ * The interface Order created listener.
+ * <p>
+ * This interface is implemented by components that update derived data after an order was created.
+ * Listeners are called in background inside the transaction that marks the outbox event as processed,
+ * so they must not depend on the request that created the order.
+ */
+public interface OrderCreatedListener {
+    /**
+     * On order created.
+     *
+     * @param order the created order
+     */
+    void onOrderCreated(Order order);
+}
@@ -0,0 +1,93 @@
+package com.epam.esm.event;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+
+import static com.epam.esm.configuration.ModelConfig.ORDER_EVENT_EXECUTOR;
+
+/**
+ * @author VChaikovski
+ * @project certificates-shop-backend
+ * The type Order event dispatcher.
+ * <p>
+ * This class hands order events over to the processor off the request path.
+ * Events are dispatched to the bounded order event executor right after the order transaction was committed.
+ * Events that were lost on the way (rejected by a full executor, failed listener, application restart)
+ * are picked up from the outbox table by the periodic redelivery.
+ */
+@Component
+public class OrderEventDispatcher {
+    private static final Logger logger = LogManager.getLogger();
+
+    private OrderEventProcessor processor;
+    private long redeliveryAgeSec;
+    private int redeliveryBatchSize;
+    private long retentionHours;
+
+    /**
+     * Instantiates a new Order event dispatcher.
+     *
+     * @param processor           the processor
+     * @param redeliveryAgeSec    the age of not processed events that are redelivered
+     * @param redeliveryBatchSize the number of events redelivered at once
+     * @param retentionHours      the time processed events are kept
+     */
+    @Autowired
+    public OrderEventDispatcher(OrderEventProcessor processor,
+                                @Value("${application.outbox.redelivery-age-sec:60}") long redeliveryAgeSec,
+                                @Value("${application.outbox.redelivery-batch-size:100}") int redeliveryBatchSize,
+                                @Value("${application.outbox.retention-hours:24}") long retentionHours) {
+        this.processor = processor;
+        this.redeliveryAgeSec = redeliveryAgeSec;
+        this.redeliveryBatchSize = redeliveryBatchSize;
+        this.retentionHours = retentionHours;
+    }
+
+    /**
+     * On order created.
+     *
+     * @param event the event
+     */
+    @Async(ORDER_EVENT_EXECUTOR)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onOrderCreated(OrderCreatedEvent event) {
+        dispatch(event.getOutboxEventId());
+    }
+
+    /**
+     * Redeliver not processed events.
+     */
+    @Scheduled(fixedDelayString = "${application.outbox.redelivery-delay-ms:30000}",
+            initialDelayString = "${application.outbox.redelivery-delay-ms:30000}")
+    public void redeliverNotProcessedEvents() {
+        LocalDateTime createdBefore = LocalDateTime.now(ZoneId.systemDefault()).minusSeconds(redeliveryAgeSec);
+        processor.findNotProcessedEventIds(createdBefore, redeliveryBatchSize).forEach(this::dispatch);
+    }
+
+    /**
+     * Delete processed events.
+     */
+    @Scheduled(cron = "${application.outbox.cleanup-cron:0 0 * * * *}")
+    public void deleteProcessedEvents() {
+        int deleted = processor.deleteProcessedEvents(LocalDateTime.now(ZoneId.systemDefault()).minusHours(retentionHours));
+        logger.debug("Deleted {} processed outbox events", deleted);
+    }
+
+    private void dispatch(long outboxEventId) {
+        try {
+            processor.process(outboxEventId);
+        } catch (RuntimeException e) {
+            logger.warn("Outbox event {} wasn't processed and will be redelivered: {}", outboxEventId, e.getMessage());
+        }
+    }
+}
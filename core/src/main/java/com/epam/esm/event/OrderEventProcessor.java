@@ -0,0 +1,88 @@
+package com.epam.esm.event;
+
+import com.epam.esm.dao.OrderDao;
+import com.epam.esm.dao.OutboxEventDao;
+import com.epam.esm.entity.Order;
+import com.epam.esm.entity.OutboxEvent;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+
+/**
+ * @author VChaikovski
+ * @project certificates-shop-backend
+ * The type Order event processor.
+ * <p>
+ * This class processes stored order events. Every event is processed in its own transaction:
+ * the outbox row is locked, all order created listeners are called and the event is marked as processed,
+ * so an event that failed is left for the next redelivery and an event is never applied twice.
+ */
+@Component
+public class OrderEventProcessor {
+    private OutboxEventDao outboxEventDao;
+    private OrderDao orderDao;
+    private List<OrderCreatedListener> listeners;
+
+    /**
+     * Instantiates a new Order event processor.
+     *
+     * @param outboxEventDao the outbox event dao
+     * @param orderDao       the order dao
+     * @param listeners      the order created listeners
+     */
+    @Autowired
+    public OrderEventProcessor(OutboxEventDao outboxEventDao, OrderDao orderDao, List<OrderCreatedListener> listeners) {
+        this.outboxEventDao = outboxEventDao;
+        this.orderDao = orderDao;
+        this.listeners = listeners;
+    }
+
+    /**
+     * Process.
+     *
+     * @param outboxEventId the outbox event id
+     */
+    @Transactional(rollbackFor = Exception.class)
+    public void process(long outboxEventId) {
+        OutboxEvent event = outboxEventDao.findByIdForUpdate(outboxEventId);
+        if (event == null || event.isProcessed()) {
+            return;
+        }
+        Order order = orderDao.findById(event.getAggregateId());
+        if (order != null) {
+            listeners.forEach(l -> l.onOrderCreated(order));
+        }
+        event.setProcessed(true);
+        event.setProcessedDate(LocalDateTime.now(ZoneId.systemDefault()));
+    }
+
+    /**
+     * Find not processed event ids list.
+     *
+     * @param createdBefore the created before
+     * @param limit         the limit
+     * @return the list
+     */
+    @Transactional(readOnly = true)
+    public List<Long> findNotProcessedEventIds(LocalDateTime createdBefore, int limit) {
+        return outboxEventDao.findNotProcessed(createdBefore, limit)
+                .stream()
+                .map(OutboxEvent::getId)
+                .toList();
+    }
+
+    /**
+     * Delete processed events int.
+     *
+     * @param processedBefore the processed before
+     * @return the number of deleted events
+     */
+    @Transactional(rollbackFor = Exception.class)
+    public int deleteProcessedEvents(LocalDateTime processedBefore) {
+        return outboxEventDao.deleteProcessed(processedBefore);
+    }
+}
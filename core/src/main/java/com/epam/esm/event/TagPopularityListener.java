@@ -0,0 +1,34 @@
+package com.epam.esm.event;
+
+import com.epam.esm.dao.TagDao;
+import com.epam.esm.entity.Order;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+/**
+ * @author VChaikovski
+ * @project certificates-shop-backend
+ * The type Tag popularity listener.
+ * <p>
+ * This class implements the OrderCreatedListener interface.
+ * This class adds purchased quantities of gift certificates to the purchase counters of their tags.
+ */
+@Component
+public class TagPopularityListener implements OrderCreatedListener {
+    private TagDao tagDao;
+
+    /**
+     * Instantiates a new Tag popularity listener.
+     *
+     * @param tagDao the tag dao
+     */
+    @Autowired
+    public TagPopularityListener(TagDao tagDao) {
+        this.tagDao = tagDao;
+    }
+
+    @Override
+    public void onOrderCreated(Order order) {
+        tagDao.increasePurchaseCountByOrderId(order.getId());
+    }
+}
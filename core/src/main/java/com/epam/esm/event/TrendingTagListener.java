@@ -0,0 +1,55 @@
+package com.epam.esm.event;
+
+import com.epam.esm.entity.GiftCertificate;
+import com.epam.esm.entity.Order;
+import com.epam.esm.entity.OrderLine;
+import com.epam.esm.entity.Tag;
+import com.epam.esm.util.TrendingTagCounter;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * @author VChaikovski
+ * @project certificates-shop-backend
+ * The type Trending tag listener.
+ * <p>
+ * This class implements the OrderCreatedListener interface.
+ * This class adds purchased quantities of gift certificates to the trending counters of their tags
+ * at the time the order was created.
+ */
+@Component
+public class TrendingTagListener implements OrderCreatedListener {
+    private TrendingTagCounter trendingTagCounter;
+
+    /**
+     * Instantiates a new Trending tag listener.
+     *
+     * @param trendingTagCounter the trending tag counter
+     */
+    @Autowired
+    public TrendingTagListener(TrendingTagCounter trendingTagCounter) {
+        this.trendingTagCounter = trendingTagCounter;
+    }
+
+    @Override
+    public void onOrderCreated(Order order) {
+        Map<Long, GiftCertificate> certificates = order.getCertificates()
+                .stream()
+                .collect(Collectors.toMap(GiftCertificate::getId, Function.identity(), (first, second) -> first));
+        Map<Long, Long> purchases = new HashMap<>();
+        for (OrderLine line : order.getLines()) {
+            GiftCertificate certificate = certificates.get(line.getCertificateId());
+            if (certificate != null) {
+                for (Tag tag : certificate.getTags()) {
+                    purchases.merge(tag.getId(), (long) line.getQuantity(), Long::sum);
+                }
+            }
+        }
+        trendingTagCounter.record(purchases, trendingTagCounter.toMinute(order.getCreateDate()));
+    }
+}
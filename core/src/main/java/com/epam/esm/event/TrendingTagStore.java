@@ -0,0 +1,96 @@
+package com.epam.esm.event;
+
+import com.epam.esm.dao.TagTrendBucketDao;
+import com.epam.esm.entity.TagTrendBucket;
+import com.epam.esm.util.TrendingTagCounter;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.event.ContextRefreshedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * @author VChaikovski
+ * @project certificates-shop-backend
+ * The type Trending tag store.
+ * <p>
+ * This class keeps the trending tag counters in database, so a restart doesn't lose their history.
+ * Purchases counted since the previous flush are added to the stored buckets, buckets that left all windows
+ * are deleted and the counters are restored from the stored buckets, so they include the purchases
+ * counted by other instances.
+ */
+@Component
+public class TrendingTagStore {
+    private static final Logger logger = LogManager.getLogger();
+
+    private TagTrendBucketDao bucketDao;
+    private TrendingTagCounter trendingTagCounter;
+
+    /**
+     * Instantiates a new Trending tag store.
+     *
+     * @param bucketDao          the tag trend bucket dao
+     * @param trendingTagCounter the trending tag counter
+     */
+    @Autowired
+    public TrendingTagStore(TagTrendBucketDao bucketDao, TrendingTagCounter trendingTagCounter) {
+        this.bucketDao = bucketDao;
+        this.trendingTagCounter = trendingTagCounter;
+    }
+
+    /**
+     * Load.
+     * <p>
+     * This method restores the trending tag counters from the stored buckets.
+     */
+    @EventListener(ContextRefreshedEvent.class)
+    @Transactional(readOnly = true)
+    public void load() {
+        List<TagTrendBucket> stored = findStored(trendingTagCounter.currentMinute());
+        trendingTagCounter.restore(stored);
+        logger.debug("Trending tag counters are loaded, buckets: {}", stored.size());
+    }
+
+    /**
+     * Flush.
+     * <p>
+     * This method stores the purchases counted since the previous flush. If they couldn't be stored
+     * they are given back to the counter and stored next time.
+     */
+    @Scheduled(fixedDelayString = "${application.trending.flush-delay-ms:60000}",
+            initialDelayString = "${application.trending.flush-delay-ms:60000}")
+    @Transactional(rollbackFor = Exception.class)
+    public void flush() {
+        List<TagTrendBucket> changes = trendingTagCounter.drainChanges();
+        try {
+            for (TagTrendBucket bucket : changes) {
+                if (bucketDao.addPurchases(bucket) == 0) {
+                    bucketDao.insert(new TagTrendBucket(bucket.getBucketMinutes(), bucket.getSlot(),
+                            bucket.getTagId(), bucket.getPurchases()));
+                }
+            }
+            long minute = trendingTagCounter.currentMinute();
+            trendingTagCounter.getFirstSlots(minute).forEach(bucketDao::deleteBeforeSlot);
+            trendingTagCounter.restore(findStored(minute));
+        } catch (RuntimeException e) {
+            trendingTagCounter.returnChanges(changes);
+            throw e;
+        }
+        logger.debug("Trending tag counters are flushed, buckets: {}", changes.size());
+    }
+
+    private List<TagTrendBucket> findStored(long minute) {
+        List<TagTrendBucket> stored = new ArrayList<>();
+        for (Map.Entry<Integer, Long> firstSlot : trendingTagCounter.getFirstSlots(minute).entrySet()) {
+            stored.addAll(bucketDao.findFromSlot(firstSlot.getKey(), firstSlot.getValue()));
+        }
+        return stored;
+    }
+}
@@ -0,0 +1,60 @@
+package com.epam.esm.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+/**
+ * @author VChaikovski
+ * @project certificates-shop-backend
+ * The type ApplicationOverloadedException.
+ * <p>
+ * This exception is thrown when a request is rejected at once because the application or the database
+ * can't take more load at the moment.
+ */
+@ResponseStatus(HttpStatus.SERVICE_UNAVAILABLE)
+public class ApplicationOverloadedException extends RuntimeException {
+    private final transient Object param;
+    private final transient String message;
+    private final long retryAfterSec;
+
+    /**
+     * Instantiates a new ApplicationOverloadedException.
+     *
+     * @param message       the message
+     * @param param         the param
+     * @param retryAfterSec the time after which the request may be repeated
+     */
+    public ApplicationOverloadedException(String message, Object param, long retryAfterSec) {
+        this.message = message;
+        this.param = param;
+        this.retryAfterSec = retryAfterSec;
+    }
+
+    /**
+     * Gets message.
+     *
+     * @return the message
+     */
+    @Override
+    public String getMessage() {
+        return message;
+    }
+
+    /**
+     * Gets param.
+     *
+     * @return the param
+     */
+    public Object getParam() {
+        return param;
+    }
+
+    /**
+     * Gets retry after sec.
+     *
+     * @return the time after which the request may be repeated
+     */
+    public long getRetryAfterSec() {
+        return retryAfterSec;
+    }
+}
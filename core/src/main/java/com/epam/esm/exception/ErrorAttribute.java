@@ -33,6 +33,18 @@ public final class ErrorAttribute {
      * The constant INTERNAL_CODE.
      */
     public static final int INTERNAL_CODE = 50001;
+    /**
+     * The constant TOO_MANY_REQUESTS_CODE.
+     */
+    public static final int TOO_MANY_REQUESTS_CODE = 42901;
+    /**
+     * The constant SERVICE_UNAVAILABLE_CODE.
+     */
+    public static final int SERVICE_UNAVAILABLE_CODE = 50301;
+    /**
+     * The constant UNPROCESSABLE_ENTITY_CODE.
+     */
+    public static final int UNPROCESSABLE_ENTITY_CODE = 42201;
     /**
      * The constant INTERNAL_MESSAGE_KEY.
      */
@@ -93,6 +105,26 @@ public final class ErrorAttribute {
      * The constant ACCESS_FORBIDDEN_MESSAGE_KEY.
      */
     public static final String ACCESS_FORBIDDEN_MESSAGE_KEY = "ex.accessForbidden";
+    /**
+     * The constant CONCURRENT_MODIFICATION_MESSAGE_KEY.
+     */
+    public static final String CONCURRENT_MODIFICATION_MESSAGE_KEY = "ex.concurrentModification";
+    /**
+     * The constant TOO_MANY_REQUESTS_MESSAGE_KEY.
+     */
+    public static final String TOO_MANY_REQUESTS_MESSAGE_KEY = "ex.tooManyRequests";
+    /**
+     * The constant OVERLOADED_MESSAGE_KEY.
+     */
+    public static final String OVERLOADED_MESSAGE_KEY = "ex.overloaded";
+    /**
+     * The constant UNAVAILABLE_MESSAGE_KEY.
+     */
+    public static final String UNAVAILABLE_MESSAGE_KEY = "ex.unavailable";
+    /**
+     * The constant IDEMPOTENCY_KEY_REUSED_MESSAGE_KEY.
+     */
+    public static final String IDEMPOTENCY_KEY_REUSED_MESSAGE_KEY = "ex.idempotencyKeyReused";
 
 
     private ErrorAttribute() {
@@ -1,6 +1,7 @@
 package com.epam.esm.service;
 
 import com.epam.esm.dto.GiftCertificateDto;
+import com.epam.esm.dto.MultiGetDto;
 import com.epam.esm.dto.PageDto;
 import com.epam.esm.entity.GiftCertificate;
 import com.epam.esm.entity.User;
@@ -30,6 +31,19 @@ public interface GiftCertificateService {
      */
     GiftCertificate findCertificateById(long id);
 
+    /**
+     * Find certificate for order gift certificate.
+     * <p>
+     * This method calls a method from a dao class and must be called inside the transaction that creates an order.
+     * The version of the found certificate is checked again when the transaction commits, so a concurrent change
+     * of the certificate (for example of its price) makes the order creation fail instead of using stale data.
+     * If the data with given id is absent the ApplicationNotFoundException will be thrown.
+     *
+     * @param id the id
+     * @return the gift certificate
+     */
+    GiftCertificate findCertificateForOrder(long id);
+
     /**
      * Find all certificates pageDto.
      * <p>
@@ -41,6 +55,40 @@ public interface GiftCertificateService {
      */
     PageDto<GiftCertificate> findCertificates(Map<String, Object> params);
 
+    /**
+     * Find certificates after id list.
+     * <p>
+     * This method returns the next chunk of gift certificates ordered by id that starts right after
+     * the gift certificate with given id.
+     *
+     * @param afterId the id of the last read gift certificate
+     * @param limit   the limit
+     * @return the list
+     */
+    List<GiftCertificate> findCertificatesAfterId(long afterId, int limit);
+
+    /**
+     * Find gift certificates by ids multi get dto.
+     * <p>
+     * This method reads all gift certificates with given ids with one query and returns them in the order of given ids.
+     * The ids that weren't found are returned separately.
+     *
+     * @param ids the ids
+     * @return the multi get dto
+     */
+    MultiGetDto<GiftCertificate> findCertificatesByIds(List<Long> ids);
+
+    /**
+     * Find top certificates list.
+     * <p>
+     * This method finds the most purchased gift certificates. Their ids are taken from the in-memory bestseller ranking
+     * and gift certificates are read with one query by ids.
+     *
+     * @param limit the limit
+     * @return the list ordered by popularity
+     */
+    List<GiftCertificate> findTopCertificates(int limit);
+
     /**
      * Add gift certificate giftCertificate.
      *
@@ -1,9 +1,13 @@
 package com.epam.esm.service;
 
 import com.epam.esm.dto.OrderDto;
+import com.epam.esm.dto.MultiGetDto;
 import com.epam.esm.dto.PageDto;
 import com.epam.esm.entity.Order;
+import com.epam.esm.entity.OrderLine;
 
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Map;
 
 /**
@@ -39,6 +43,17 @@ public interface OrderService {
      */
     PageDto<Order> findOrders(Map<String, Object> params);
 
+    /**
+     * Find orders by ids multi get dto.
+     * <p>
+     * This method reads all orders with given ids with one query and returns them in the order of given ids.
+     * The ids that weren't found are returned separately.
+     *
+     * @param ids the ids
+     * @return the multi get dto
+     */
+    MultiGetDto<Order> findOrdersByIds(List<Long> ids);
+
     /**
      * Find order by id order.
      *
@@ -46,4 +61,37 @@ public interface OrderService {
      * @return the order
      */
     Order findOrderById(long orderId);
-}
\ No newline at end of file
+
+    /**
+     * Find order lines list.
+     * <p>
+     * This method returns lines of the order with given id that keep prices of certificates at the moment of purchase.
+     * If the order with given id is absent the ApplicationNotFoundException will be thrown.
+     *
+     * @param orderId the order id
+     * @return the list
+     */
+    List<OrderLine> findOrderLines(long orderId);
+
+    /**
+     * Archive orders list.
+     * <p>
+     * This method moves the next chunk of orders created before given date to archive tables in one transaction.
+     *
+     * @param afterId the id after which orders are archived
+     * @param before  the date before which orders were created
+     * @param limit   the max number of orders
+     * @return the ids of archived orders in ascending order
+     */
+    List<Long> archiveOrders(long afterId, LocalDateTime before, int limit);
+
+    /**
+     * Delete idempotency keys int.
+     * <p>
+     * This method deletes idempotency keys created before given date.
+     *
+     * @param createdBefore the date before which keys were created
+     * @return the number of deleted keys
+     */
+    int deleteIdempotencyKeys(LocalDateTime createdBefore);
+}
@@ -1,8 +1,11 @@
 package com.epam.esm.service;
 
+import com.epam.esm.dto.MultiGetDto;
 import com.epam.esm.dto.PageDto;
+import com.epam.esm.dto.TrendingTagDto;
 import com.epam.esm.entity.Tag;
 
+import java.util.List;
 import java.util.Map;
 
 /**
@@ -32,6 +35,52 @@ public interface TagService {
      */
     PageDto<Tag> findTags(Map<String, Object> params);
 
+    /**
+     * Find tags after id list.
+     * <p>
+     * This method returns the next chunk of tags ordered by id that starts right after the tag with given id.
+     *
+     * @param afterId the id of the last read tag
+     * @param limit   the limit
+     * @return the list
+     */
+    List<Tag> findTagsAfterId(long afterId, int limit);
+
+    /**
+     * Find tags by ids multi get dto.
+     * <p>
+     * This method reads all tags with given ids with one query and returns them in the order of given ids.
+     * The ids that weren't found are returned separately.
+     *
+     * @param ids the ids
+     * @return the multi get dto
+     */
+    MultiGetDto<Tag> findTagsByIds(List<Long> ids);
+
+    /**
+     * Suggest tags list.
+     * <p>
+     * This method finds the most used tags which names start with given prefix. Tags are found in memory
+     * without queries to database.
+     *
+     * @param prefix the prefix
+     * @param limit  the max number of tags
+     * @return the list
+     */
+    List<Tag> suggestTags(String prefix, int limit);
+
+    /**
+     * Find trending tags list.
+     * <p>
+     * This method finds the most purchased tags in given time window. Purchases are counted in memory
+     * without queries to database.
+     *
+     * @param window the window name: hour, day or week
+     * @param limit  the max number of tags
+     * @return the list
+     */
+    List<TrendingTagDto> findTrendingTags(String window, int limit);
+
     /**
      * add tag long.
      *
@@ -49,6 +98,15 @@ public interface TagService {
      */
     void deleteTagById(long tagId);
 
+    /**
+     * Recount certificates.
+     * <p>
+     * This method sets the certificate counters of all tags to the number of gift certificates that use them.
+     * It's applied once per database as a data migration, so counters of the data that was created
+     * before they were introduced are correct.
+     */
+    void recountCertificates();
+
     /**
      * Find most widely used tag of user with highest cost of orders pageDto.
      *
@@ -1,11 +1,14 @@
 package com.epam.esm.service;
 
+import com.epam.esm.dto.MultiGetDto;
 import com.epam.esm.dto.PageDto;
 import com.epam.esm.dto.UserDto;
 import com.epam.esm.entity.GiftCertificate;
 import com.epam.esm.entity.User;
+import com.epam.esm.entity.UserOrderSummary;
 import org.springframework.validation.BindingResult;
 
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 
@@ -26,6 +29,17 @@ public interface UserService {
      */
     PageDto<User> findUsers(Map<String, Object> searchParams);
 
+    /**
+     * Find users by ids multi get dto.
+     * <p>
+     * This method reads all users with given ids with one query and returns them in the order of given ids.
+     * The ids that weren't found are returned separately.
+     *
+     * @param ids the ids
+     * @return the multi get dto
+     */
+    MultiGetDto<User> findUsersByIds(List<Long> ids);
+
     /**
      * Find user by id user.
      * <p>
@@ -45,6 +59,24 @@ public interface UserService {
      */
     Set<GiftCertificate> findCertificateByUserId(long id);
 
+    /**
+     * Find user summary user order summary.
+     * <p>
+     * This method reads the order summary of the user by the user id without reading the orders.
+     *
+     * @param userId the user id
+     * @return the user order summary
+     */
+    UserOrderSummary findUserSummary(long userId);
+
+    /**
+     * Create missing summaries.
+     * <p>
+     * This method creates order summaries of the users that have none from their stored orders.
+     * It's called at startup, so summaries of the data that was created before they were introduced are correct.
+     */
+    void createMissingSummaries();
+
     /**
      * Add user user.
      *
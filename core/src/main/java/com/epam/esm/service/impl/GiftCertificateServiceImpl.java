@@ -3,6 +3,7 @@ package com.epam.esm.service.impl;
 import com.epam.esm.dao.GiftCertificateDao;
 import com.epam.esm.dao.TagDao;
 import com.epam.esm.dto.GiftCertificateDto;
+import com.epam.esm.dto.MultiGetDto;
 import com.epam.esm.dto.PageDto;
 import com.epam.esm.entity.GiftCertificate;
 import com.epam.esm.entity.Order;
@@ -12,12 +13,17 @@ import com.epam.esm.exception.ApplicationDuplicateException;
 import com.epam.esm.exception.ApplicationNotFoundException;
 import com.epam.esm.exception.ApplicationNotValidDataException;
 import com.epam.esm.service.GiftCertificateService;
+import com.epam.esm.util.BestsellerRanking;
+import com.epam.esm.util.CatalogueVersion;
+import com.epam.esm.util.MultiGetProvider;
 import com.epam.esm.util.PaginationProvider;
+import com.epam.esm.util.TagDictionary;
 import com.epam.esm.util.validator.DataValidator;
 import com.epam.esm.util.validator.impl.DataValidatorImpl;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.annotation.EnableAspectJAutoProxy;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.validation.BindingResult;
 
@@ -25,6 +31,7 @@ import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.time.ZoneId;
 import java.util.*;
+import java.util.stream.Collectors;
 
 import static com.epam.esm.dao.RequestParamName.*;
 import static com.epam.esm.exception.ErrorAttribute.*;
@@ -45,11 +52,16 @@ public class GiftCertificateServiceImpl implements GiftCertificateService {
     private static final String DESC = " desc";
     private static final String DELIMITER = ", ";
     private static final String EMPTY_STR = "";
+    private static final char EQ = '=';
 
     private GiftCertificateDao certificateDao;
     private TagDao tagDao;
     private DataValidator validator;
     private PaginationProvider paginationProvider;
+    private CatalogueVersion catalogueVersion;
+    private MultiGetProvider multiGetProvider;
+    private TagDictionary tagDictionary;
+    private BestsellerRanking bestsellerRanking;
 
     /**
      * Instantiates a new GiftCertificateService.
@@ -58,14 +70,24 @@ public class GiftCertificateServiceImpl implements GiftCertificateService {
      * @param tagDao             the tag dao
      * @param validator          the validator
      * @param paginationProvider the pagination param provider
+     * @param catalogueVersion   the catalogue version
+     * @param multiGetProvider   the multi get provider
+     * @param tagDictionary      the tag dictionary
+     * @param bestsellerRanking  the bestseller ranking
      */
     @Autowired
     public GiftCertificateServiceImpl(GiftCertificateDao certificateDao, TagDao tagDao, DataValidatorImpl validator,
-                                      PaginationProvider paginationProvider) {
+                                      PaginationProvider paginationProvider, CatalogueVersion catalogueVersion,
+                                      MultiGetProvider multiGetProvider, TagDictionary tagDictionary,
+                                      BestsellerRanking bestsellerRanking) {
         this.certificateDao = certificateDao;
         this.tagDao = tagDao;
         this.validator = validator;
         this.paginationProvider = paginationProvider;
+        this.catalogueVersion = catalogueVersion;
+        this.multiGetProvider = multiGetProvider;
+        this.tagDictionary = tagDictionary;
+        this.bestsellerRanking = bestsellerRanking;
     }
 
     /**
@@ -74,6 +96,7 @@ public class GiftCertificateServiceImpl implements GiftCertificateService {
     public GiftCertificateServiceImpl() {
     }
 
+    @Transactional(readOnly = true)
     @Override
     public GiftCertificate findCertificateById(long certificateId) {
         if (!validator.isNumberValid(certificateId)) {
@@ -83,6 +106,17 @@ public class GiftCertificateServiceImpl implements GiftCertificateService {
                 new ApplicationNotFoundException(CERTIFICATE_NOT_FOUND_MESSAGE_KEY, certificateId));
     }
 
+    @Transactional(propagation = Propagation.MANDATORY)
+    @Override
+    public GiftCertificate findCertificateForOrder(long certificateId) {
+        if (!validator.isNumberValid(certificateId)) {
+            throw new ApplicationNotValidDataException(NOT_VALID_ID_MESSAGE_KEY, certificateId);
+        }
+        return Optional.ofNullable(certificateDao.findByIdWithVersionCheck(certificateId)).orElseThrow(() ->
+                new ApplicationNotFoundException(CERTIFICATE_NOT_FOUND_MESSAGE_KEY, certificateId));
+    }
+
+    @Transactional(readOnly = true)
     @Override
     public PageDto<GiftCertificate> findCertificates(Map<String, Object> params) {
         List<GiftCertificate> certificates;
@@ -108,20 +142,59 @@ public class GiftCertificateServiceImpl implements GiftCertificateService {
                 throw new ApplicationNotValidDataException(NOT_VALID_ID_MESSAGE_KEY, userId);
             }
             certificates = certificateDao.findByUserId(userId, buildSortParamStr(params));
+        } else if (isSelectNarrowable(params)) {
+            certificates = certificateDao.findAll(buildSelectFieldList(params), buildSortParamStr(params));
         } else {
             certificates = certificateDao.findAll(buildSortParamStr(params));
         }
         return paginationProvider.paginateData(certificates, params);
     }
 
+    @Transactional(readOnly = true)
+    @Override
+    public List<GiftCertificate> findCertificatesAfterId(long afterId, int limit) {
+        paginationProvider.checkChunkParams(afterId, limit);
+        return certificateDao.findAfterId(afterId, limit);
+    }
+
+    @Transactional(readOnly = true)
+    @Override
+    public MultiGetDto<GiftCertificate> findCertificatesByIds(List<Long> ids) {
+        return multiGetProvider.findByIds(ids, certificateDao::findByIds);
+    }
+
+    @Transactional(readOnly = true)
+    @Override
+    public List<GiftCertificate> findTopCertificates(int limit) {
+        if (limit <= 0 || limit > bestsellerRanking.getSize()) {
+            throw new ApplicationNotValidDataException(NOT_VALID_DATA_MESSAGE_KEY, new StringBuilder(LIMIT).append(EQ)
+                    .append(limit)
+                    .toString());
+        }
+        List<Long> ids = bestsellerRanking.findTopIds(limit);
+        if (ids.isEmpty()) {
+            return new ArrayList<>();
+        }
+        Map<Long, Integer> positions = new HashMap<>();
+        for (int i = 0; i < ids.size(); i++) {
+            positions.put(ids.get(i), i);
+        }
+        return certificateDao.findByIds(ids)
+                .stream()
+                .sorted(Comparator.comparing(c -> positions.get(c.getId())))
+                .toList();
+    }
+
     @Transactional(rollbackFor = Exception.class)
     @Override
     public void deleteGiftCertificate(long id) {
         GiftCertificate certificate = findCertificateById(id);
         certificateDao.delete(certificate);
-        deleteUnusedTag(certificate.getTags());
+        unlinkTags(certificate.getTags());
+        catalogueVersion.increment();
     }
 
+    @Transactional(readOnly = true)
     @Override
     public List<User> findUsersByCertificateId(long id) {
         return findCertificateById(id).getOrders()
@@ -140,16 +213,29 @@ public class GiftCertificateServiceImpl implements GiftCertificateService {
         if (certificate != null) {
             throw new ApplicationDuplicateException(CERTIFICATE_DUPLICATE_MESSAGE_KEY, certificate);
         }
-        return certificateDao.insert(buildCertificate(giftCertificateDto));
+        GiftCertificate created = certificateDao.insert(buildCertificate(giftCertificateDto));
+        tagDictionary.putAll(created.getTags());
+        linkTags(created.getTags());
+        catalogueVersion.increment();
+        return created;
     }
 
     @Transactional(rollbackFor = Exception.class)
     @Override
     public GiftCertificate updateGiftCertificate(GiftCertificateDto certificateDto, long id) {
         GiftCertificate certificate = findCertificateById(id);
-        Set<Tag> unusedTags = certificateDto.getTags().isEmpty() ? new HashSet<>() : certificate.getTags();
+        Set<Tag> oldTags = new HashSet<>(certificate.getTags());
         GiftCertificate updated = certificateDao.update(prepareCertificate(certificate, certificateDto));
-        deleteUnusedTag(unusedTags);
+        tagDictionary.putAll(updated.getTags());
+        Set<Long> oldTagIds = collectIds(oldTags);
+        Set<Long> newTagIds = collectIds(updated.getTags());
+        linkTags(updated.getTags().stream()
+                .filter(t -> !oldTagIds.contains(t.getId()))
+                .collect(Collectors.toSet()));
+        unlinkTags(oldTags.stream()
+                .filter(t -> !newTagIds.contains(t.getId()))
+                .collect(Collectors.toSet()));
+        catalogueVersion.increment();
         return updated;
     }
 
@@ -191,6 +277,20 @@ public class GiftCertificateServiceImpl implements GiftCertificateService {
         return sortParamBuilder.toString();
     }
 
+    private boolean isSelectNarrowable(Map<String, Object> params) {
+        List<String> fields = (List<String>) params.get(FIELDS);
+        return fields != null && !fields.isEmpty() && fields.stream()
+                .allMatch(f -> LINKS.equals(f) || CERTIFICATE_COLUMN_FIELD_LIST.contains(f));
+    }
+
+    private List<String> buildSelectFieldList(Map<String, Object> params) {
+        Set<String> fields = new LinkedHashSet<>();
+        fields.add(ID);
+        fields.addAll((List<String>) params.get(FIELDS));
+        fields.remove(LINKS);
+        return new ArrayList<>(fields);
+    }
+
     private boolean isParamPresent(String param) {
         return CERTIFICATE_PARAM_LIST.stream().anyMatch(param::contains);
     }
@@ -225,19 +325,26 @@ public class GiftCertificateServiceImpl implements GiftCertificateService {
     }
 
     private Set<Tag> checkTagsAndReplaceTheSame(Set<Tag> tagSet) {
-        Set<Tag> tags = new HashSet<>();
         if (!validator.isTagsValid(tagSet)) {
             throw new ApplicationNotValidDataException(NOT_VALID_DATA_MESSAGE_KEY, tagSet);
-        } else {
-            tagSet.forEach(t -> {
-                List<Tag> theSame = tagDao.findByName(t.getName());
-                if (theSame.isEmpty()) {
-                    tags.add(t);
-                } else {
-                    tags.add(theSame.get(0));
-                }
-            });
         }
+        Map<String, Tag> tagsByName = new HashMap<>();
+        tagSet.forEach(t -> tagsByName.putIfAbsent(t.getName(), t));
+        Map<String, Tag> theSame = new HashMap<>();
+        Map<String, Long> knownIds = tagDictionary.findIds(tagsByName.keySet());
+        if (!knownIds.isEmpty()) {
+            tagDao.findByIds(new ArrayList<>(knownIds.values()))
+                    .forEach(t -> theSame.put(t.getName(), t));
+        }
+        List<String> unknownNames = tagsByName.keySet()
+                .stream()
+                .filter(n -> !theSame.containsKey(n))
+                .toList();
+        if (!unknownNames.isEmpty()) {
+            tagDao.findByNames(unknownNames).forEach(t -> theSame.put(t.getName(), t));
+        }
+        Set<Tag> tags = new HashSet<>();
+        tagsByName.forEach((name, tag) -> tags.add(theSame.getOrDefault(name, tag)));
         return tags;
     }
 
@@ -287,13 +394,29 @@ public class GiftCertificateServiceImpl implements GiftCertificateService {
         return notCorrectParam;
     }
 
-    private void deleteUnusedTag(Set<Tag> tags) {
-        tags.forEach(t -> {
-            List<GiftCertificate> certificates = findCertificates(Map.of(TAGS, t.getName())).getContent();
-            if (certificates.isEmpty()) {
-                tagDao.delete(t);
+    private void linkTags(Set<Tag> tags) {
+        if (!tags.isEmpty()) {
+            tagDao.increaseCertificateCount(new ArrayList<>(collectIds(tags)));
+        }
+    }
+
+    private void unlinkTags(Set<Tag> tags) {
+        if (!tags.isEmpty()) {
+            List<Long> ids = new ArrayList<>(collectIds(tags));
+            tagDao.decreaseCertificateCount(ids);
+            List<Long> deletedIds = tagDao.deleteUnused(ids);
+            if (!deletedIds.isEmpty()) {
+                tagDictionary.removeAll(tags.stream()
+                        .filter(t -> deletedIds.contains(t.getId()))
+                        .toList());
             }
-        });
+        }
+    }
+
+    private Set<Long> collectIds(Set<Tag> tags) {
+        return tags.stream()
+                .map(Tag::getId)
+                .collect(Collectors.toSet());
     }
 
     private List<GiftCertificate> filterCertificatesByPartOfWordInNameOrDescription(String partOfWord, List<GiftCertificate> certificates) {
@@ -1,31 +1,47 @@
 package com.epam.esm.service.impl;
 
+import com.epam.esm.dao.IdempotencyKeyDao;
 import com.epam.esm.dao.OrderDao;
+import com.epam.esm.dao.OutboxEventDao;
 import com.epam.esm.dao.UserDao;
+import com.epam.esm.dao.UserOrderSummaryDao;
 import com.epam.esm.dao.impl.OrderDaoImpl;
 import com.epam.esm.dto.OrderDto;
+import com.epam.esm.dto.MultiGetDto;
 import com.epam.esm.dto.PageDto;
 import com.epam.esm.entity.GiftCertificate;
+import com.epam.esm.entity.IdempotencyKey;
 import com.epam.esm.entity.Order;
+import com.epam.esm.entity.OrderLine;
+import com.epam.esm.entity.OutboxEvent;
 import com.epam.esm.entity.User;
+import com.epam.esm.entity.UserOrderSummary;
+import com.epam.esm.event.OrderCreatedEvent;
 import com.epam.esm.exception.ApplicationNotFoundException;
 import com.epam.esm.exception.ApplicationNotValidDataException;
+import com.epam.esm.exception.ApplicationUnprocessableException;
 import com.epam.esm.service.GiftCertificateService;
 import com.epam.esm.service.OrderService;
+import com.epam.esm.util.MultiGetProvider;
 import com.epam.esm.util.PaginationProvider;
 import com.epam.esm.util.validator.DataValidator;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.context.annotation.EnableAspectJAutoProxy;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.ZoneId;
 import java.time.format.DateTimeFormatter;
 import java.util.*;
+import java.util.stream.Collectors;
 
 import static com.epam.esm.dao.RequestParamName.*;
 import static com.epam.esm.exception.ErrorAttribute.*;
@@ -43,11 +59,17 @@ import static com.epam.esm.exception.ErrorAttribute.*;
 @EnableAspectJAutoProxy(proxyTargetClass = true)
 @Service
 public class OrderServiceImpl implements OrderService {
+    private static final String REQUEST_HASH_ALGORITHM = "SHA-256";
     private UserDao userDao;
     private GiftCertificateService certificateService;
     private OrderDao orderDao;
+    private IdempotencyKeyDao idempotencyKeyDao;
+    private OutboxEventDao outboxEventDao;
+    private UserOrderSummaryDao summaryDao;
+    private ApplicationEventPublisher eventPublisher;
     private DataValidator validator;
     private PaginationProvider paginationProvider;
+    private MultiGetProvider multiGetProvider;
 
     /**
      * Instantiates a new Order service.
@@ -55,17 +77,31 @@ public class OrderServiceImpl implements OrderService {
      * @param userDao            the userDao
      * @param certificateService the certificate service
      * @param orderDao           the order dao
+     * @param idempotencyKeyDao  the idempotency key dao
+     * @param outboxEventDao     the outbox event dao
+     * @param summaryDao         the user order summary dao
+     * @param eventPublisher     the event publisher
      * @param validator          the validator
      * @param paginationProvider the pagination param provider
+     * @param multiGetProvider   the multi get provider
      */
     @Autowired
     public OrderServiceImpl(UserDao userDao, GiftCertificateService certificateService, OrderDaoImpl orderDao,
-                            DataValidator validator, PaginationProvider paginationProvider) {
+                            IdempotencyKeyDao idempotencyKeyDao, OutboxEventDao outboxEventDao,
+                            UserOrderSummaryDao summaryDao,
+                            ApplicationEventPublisher eventPublisher, DataValidator validator,
+                            PaginationProvider paginationProvider,
+                            MultiGetProvider multiGetProvider) {
         this.userDao = userDao;
         this.certificateService = certificateService;
         this.orderDao = orderDao;
+        this.idempotencyKeyDao = idempotencyKeyDao;
+        this.outboxEventDao = outboxEventDao;
+        this.summaryDao = summaryDao;
+        this.eventPublisher = eventPublisher;
         this.validator = validator;
         this.paginationProvider = paginationProvider;
+        this.multiGetProvider = multiGetProvider;
     }
 
     /**
@@ -82,22 +118,49 @@ public class OrderServiceImpl implements OrderService {
             throw new AccessDeniedException(ACCESS_FORBIDDEN_MESSAGE_KEY);
         }
         User user = userDao.findUserByEmail(orderDto.getUsername()).get(0);
+        String idempotencyKey = orderDto.getIdempotencyKey();
+        String requestHash = null;
+        if (idempotencyKey != null) {
+            if (!validator.isIdempotencyKeyValid(idempotencyKey)) {
+                throw new ApplicationNotValidDataException(NOT_VALID_DATA_MESSAGE_KEY, idempotencyKey);
+            }
+            requestHash = hashRequest(orderDto.getCertificatesId());
+        }
+        UserOrderSummary summary = summaryDao.findByUserIdForUpdate(user.getId());
+        if (idempotencyKey != null) {
+            Order created = findOrderByIdempotencyKey(idempotencyKey, requestHash, user);
+            if (created != null) {
+                return created;
+            }
+        }
         List<GiftCertificate> certificates = new ArrayList<>();
-        orderDto.getCertificatesId().forEach(id -> certificates.add(certificateService.findCertificateById(id)));
+        orderDto.getCertificatesId().forEach(id -> certificates.add(certificateService.findCertificateForOrder(id)));
         if (certificates.isEmpty()) {
             throw new ApplicationNotValidDataException(ORDER_EMPTY_MESSAGE_KEY, certificates);
         } else {
-            order = new Order(findOrderCost(certificates), getCurrentTime(), certificates, user);
+            List<OrderLine> lines = buildOrderLines(certificates);
+            order = new Order(findOrderCost(lines), getCurrentTime(), certificates, user);
+            order.setLines(lines);
+            order = orderDao.insert(order);
+            addToSummary(summary, order);
+        }
+        if (idempotencyKey != null) {
+            idempotencyKeyDao.insert(new IdempotencyKey(idempotencyKey, requestHash, order.getCreateDate(), user, order));
         }
-        return orderDao.insert(order);
+        OutboxEvent event = outboxEventDao.insert(new OutboxEvent(OrderCreatedEvent.TYPE, order.getId(), order.getCreateDate()));
+        eventPublisher.publishEvent(new OrderCreatedEvent(event.getId(), order.getId()));
+        return order;
     }
 
     @Transactional(rollbackFor = Exception.class)
     @Override
     public void deleteOrder(long orderId) {
-        orderDao.delete(findOrderById(orderId));
+        Order order = findOrderById(orderId);
+        removeFromSummary(summaryDao.findByUserIdForUpdate(order.getUser().getId()), order);
+        orderDao.delete(order);
     }
 
+    @Transactional(readOnly = true)
     @Override
     public PageDto<Order> findOrders(Map<String, Object> params) {
         List<Order> orders;
@@ -125,6 +188,13 @@ public class OrderServiceImpl implements OrderService {
         return paginationProvider.paginateData(orders, params);
     }
 
+    @Transactional(readOnly = true)
+    @Override
+    public MultiGetDto<Order> findOrdersByIds(List<Long> ids) {
+        return multiGetProvider.findByIds(ids, orderDao::findByIds);
+    }
+
+    @Transactional(readOnly = true)
     @Override
     public Order findOrderById(long orderId) {
         if (!validator.isNumberValid(orderId)) {
@@ -134,10 +204,114 @@ public class OrderServiceImpl implements OrderService {
                 new ApplicationNotFoundException(ORDER_NOT_FOUND_MESSAGE_KEY, orderId));
     }
 
-    private BigDecimal findOrderCost(List<GiftCertificate> certificates) {
+    @Transactional(readOnly = true)
+    @Override
+    public List<OrderLine> findOrderLines(long orderId) {
+        if (!validator.isNumberValid(orderId)) {
+            throw new ApplicationNotValidDataException(NOT_VALID_ID_MESSAGE_KEY, orderId);
+        }
+        List<OrderLine> lines = orderDao.findOrderLinesByOrderId(orderId);
+        if (lines.isEmpty()) {
+            findOrderById(orderId);
+        }
+        return lines;
+    }
+
+    @Transactional(rollbackFor = Exception.class)
+    @Override
+    public List<Long> archiveOrders(long afterId, LocalDateTime before, int limit) {
+        List<Long> ids = orderDao.findIdsToArchive(afterId, before, limit);
+        orderDao.archive(ids, getCurrentTime());
+        return ids;
+    }
+
+    @Transactional(rollbackFor = Exception.class)
+    @Override
+    public int deleteIdempotencyKeys(LocalDateTime createdBefore) {
+        return idempotencyKeyDao.deleteCreatedBefore(createdBefore);
+    }
+
+    private Order findOrderByIdempotencyKey(String idempotencyKey, String requestHash, User user) {
+        IdempotencyKey found = idempotencyKeyDao.findByKeyAndUserId(idempotencyKey, user.getId())
+                .stream()
+                .findAny()
+                .orElse(null);
+        if (found == null) {
+            return null;
+        }
+        if (found.getRequestHash() != null && !found.getRequestHash().equals(requestHash)) {
+            throw new ApplicationUnprocessableException(IDEMPOTENCY_KEY_REUSED_MESSAGE_KEY, idempotencyKey);
+        }
+        return found.getOrder();
+    }
+
+    private String hashRequest(List<Long> certificateIds) {
+        String request = certificateIds == null ? "" : certificateIds.stream()
+                .sorted()
+                .map(String::valueOf)
+                .collect(Collectors.joining(","));
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance(REQUEST_HASH_ALGORITHM)
+                    .digest(request.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private void addToSummary(UserOrderSummary summary, Order order) {
+        if (summary == null) {
+            return;
+        }
+        Set<Long> certificateIds = findCertificateIds(order);
+        long purchasedBefore = certificateIds.isEmpty() ? 0 :
+                summaryDao.countPurchasedCertificates(summary.getUserId(), order.getId(), certificateIds);
+        summary.setOrderCount(summary.getOrderCount() + 1);
+        summary.setTotalSpend(summary.getTotalSpend().add(order.getCost()));
+        summary.setDistinctCertificates(summary.getDistinctCertificates() + certificateIds.size() - purchasedBefore);
+        if (summary.getLastOrderDate() == null || summary.getLastOrderDate().isBefore(order.getCreateDate())) {
+            summary.setLastOrderDate(order.getCreateDate());
+        }
+    }
+
+    private void removeFromSummary(UserOrderSummary summary, Order order) {
+        if (summary == null) {
+            return;
+        }
+        Set<Long> certificateIds = findCertificateIds(order);
+        long purchasedInOtherOrders = certificateIds.isEmpty() ? 0 :
+                summaryDao.countPurchasedCertificates(summary.getUserId(), order.getId(), certificateIds);
+        summary.setOrderCount(Math.max(summary.getOrderCount() - 1, 0));
+        summary.setTotalSpend(summary.getTotalSpend().subtract(order.getCost()).max(BigDecimal.ZERO));
+        summary.setDistinctCertificates(Math.max(summary.getDistinctCertificates() - certificateIds.size()
+                + purchasedInOtherOrders, 0));
+        if (summary.getLastOrderDate() == null || !order.getCreateDate().isBefore(summary.getLastOrderDate())) {
+            summary.setLastOrderDate(summaryDao.findLastOrderDate(summary.getUserId(), order.getId()));
+        }
+    }
+
+    private Set<Long> findCertificateIds(Order order) {
+        Set<Long> certificateIds = new HashSet<>();
+        if (order.getLines() != null && !order.getLines().isEmpty()) {
+            order.getLines().forEach(l -> certificateIds.add(l.getCertificateId()));
+        } else if (order.getCertificates() != null) {
+            order.getCertificates().forEach(c -> certificateIds.add(c.getId()));
+        }
+        return certificateIds;
+    }
+
+    private List<OrderLine> buildOrderLines(List<GiftCertificate> certificates) {
+        Map<Long, OrderLine> lines = new LinkedHashMap<>();
+        certificates.forEach(c -> lines.merge(c.getId(), new OrderLine(c.getId(), c.getPrice(), 1), (line, added) -> {
+            line.setQuantity(line.getQuantity() + added.getQuantity());
+            return line;
+        }));
+        return new ArrayList<>(lines.values());
+    }
+
+    private BigDecimal findOrderCost(List<OrderLine> lines) {
         BigDecimal cost = BigDecimal.ZERO;
-        for (GiftCertificate certificate : certificates) {
-            cost = cost.add(certificate.getPrice());
+        for (OrderLine line : lines) {
+            cost = cost.add(line.getLineCost());
         }
         return cost;
     }
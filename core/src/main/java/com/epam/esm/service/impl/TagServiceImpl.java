@@ -2,12 +2,19 @@ package com.epam.esm.service.impl;
 
 import com.epam.esm.dao.TagDao;
 import com.epam.esm.dao.impl.TagDaoImpl;
+import com.epam.esm.dto.MultiGetDto;
 import com.epam.esm.dto.PageDto;
+import com.epam.esm.dto.TrendingTagDto;
 import com.epam.esm.entity.Tag;
 import com.epam.esm.exception.ApplicationNotFoundException;
 import com.epam.esm.exception.ApplicationNotValidDataException;
 import com.epam.esm.service.TagService;
+import com.epam.esm.util.CatalogueVersion;
+import com.epam.esm.util.MultiGetProvider;
 import com.epam.esm.util.PaginationProvider;
+import com.epam.esm.util.TagDictionary;
+import com.epam.esm.util.TrendingTagCounter;
+import com.epam.esm.util.TrendingWindow;
 import com.epam.esm.util.validator.DataValidator;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.annotation.EnableAspectJAutoProxy;
@@ -20,7 +27,11 @@ import java.util.Map;
 import java.util.Optional;
 
 import static com.epam.esm.dao.RequestParamName.CERTIFICATE_ID;
+import static com.epam.esm.dao.RequestParamName.LIMIT;
+import static com.epam.esm.dao.RequestParamName.PREFIX;
 import static com.epam.esm.dao.RequestParamName.TAG_NAME;
+import static com.epam.esm.dao.RequestParamName.WINDOW;
+import static com.epam.esm.exception.ErrorAttribute.NOT_VALID_DATA_MESSAGE_KEY;
 import static com.epam.esm.exception.ErrorAttribute.NOT_VALID_ID_MESSAGE_KEY;
 import static com.epam.esm.exception.ErrorAttribute.TAG_NOT_FOUND_MESSAGE_KEY;
 
@@ -35,9 +46,17 @@ import static com.epam.esm.exception.ErrorAttribute.TAG_NOT_FOUND_MESSAGE_KEY;
 @EnableAspectJAutoProxy(proxyTargetClass = true)
 @Service
 public class TagServiceImpl implements TagService {
+    private static final char EQ = '=';
+    private static final int MAX_PREFIX_LENGTH = 100;
+    private static final int MAX_SUGGESTION_LIMIT = 50;
+
     private DataValidator validator;
     private TagDao tagDao;
     private PaginationProvider paginationProvider;
+    private MultiGetProvider multiGetProvider;
+    private TagDictionary tagDictionary;
+    private TrendingTagCounter trendingTagCounter;
+    private CatalogueVersion catalogueVersion;
 
     /**
      * Instantiates a new TagService.
@@ -45,18 +64,31 @@ public class TagServiceImpl implements TagService {
      * @param tagDao             the tag dao
      * @param validator          the validator
      * @param paginationProvider the paginationParamProvider
+     * @param multiGetProvider   the multi get provider
+     * @param tagDictionary      the tag dictionary
+     * @param trendingTagCounter the trending tag counter
+     * @param catalogueVersion   the catalogue version
      */
     @Autowired
     public TagServiceImpl(TagDaoImpl tagDao, DataValidator validator,
-                          PaginationProvider paginationProvider) {
+                          PaginationProvider paginationProvider,
+                          MultiGetProvider multiGetProvider,
+                          TagDictionary tagDictionary,
+                          TrendingTagCounter trendingTagCounter,
+                          CatalogueVersion catalogueVersion) {
         this.validator = validator;
         this.tagDao = tagDao;
         this.paginationProvider = paginationProvider;
+        this.multiGetProvider = multiGetProvider;
+        this.tagDictionary = tagDictionary;
+        this.trendingTagCounter = trendingTagCounter;
+        this.catalogueVersion = catalogueVersion;
     }
 
     public TagServiceImpl() {
     }
 
+    @Transactional(readOnly = true)
     @Override
     public Tag findTagById(long tagId) {
         if (!validator.isNumberValid(tagId)) {
@@ -66,6 +98,7 @@ public class TagServiceImpl implements TagService {
                 new ApplicationNotFoundException(TAG_NOT_FOUND_MESSAGE_KEY, tagId));
     }
 
+    @Transactional(readOnly = true)
     @Override
     public PageDto<Tag> findTags(Map<String, Object> params) {
         List<Tag> tags;
@@ -85,20 +118,86 @@ public class TagServiceImpl implements TagService {
         return paginationProvider.paginateData(tags, params);
     }
 
+    @Transactional(readOnly = true)
+    @Override
+    public List<Tag> findTagsAfterId(long afterId, int limit) {
+        paginationProvider.checkChunkParams(afterId, limit);
+        return tagDao.findAfterId(afterId, limit);
+    }
+
+    @Transactional(readOnly = true)
+    @Override
+    public MultiGetDto<Tag> findTagsByIds(List<Long> ids) {
+        return multiGetProvider.findByIds(ids, tagDao::findByIds);
+    }
+
+    @Override
+    public List<Tag> suggestTags(String prefix, int limit) {
+        if (prefix == null || prefix.isBlank() || prefix.length() > MAX_PREFIX_LENGTH) {
+            throw new ApplicationNotValidDataException(NOT_VALID_DATA_MESSAGE_KEY, new StringBuilder(PREFIX).append(EQ)
+                    .append(prefix)
+                    .toString());
+        }
+        if (limit <= 0 || limit > MAX_SUGGESTION_LIMIT) {
+            throw new ApplicationNotValidDataException(NOT_VALID_DATA_MESSAGE_KEY, new StringBuilder(LIMIT).append(EQ)
+                    .append(limit)
+                    .toString());
+        }
+        return tagDictionary.suggest(prefix, limit);
+    }
+
+    @Override
+    public List<TrendingTagDto> findTrendingTags(String window, int limit) {
+        TrendingWindow trendingWindow = TrendingWindow.findByName(window);
+        if (trendingWindow == null) {
+            throw new ApplicationNotValidDataException(NOT_VALID_DATA_MESSAGE_KEY, new StringBuilder(WINDOW).append(EQ)
+                    .append(window)
+                    .toString());
+        }
+        if (limit <= 0 || limit > MAX_SUGGESTION_LIMIT) {
+            throw new ApplicationNotValidDataException(NOT_VALID_DATA_MESSAGE_KEY, new StringBuilder(LIMIT).append(EQ)
+                    .append(limit)
+                    .toString());
+        }
+        List<Map.Entry<Long, Long>> top = trendingTagCounter.findTop(trendingWindow, trendingTagCounter.currentMinute());
+        Map<Long, Tag> tags = tagDictionary.findTags(top.stream().map(Map.Entry::getKey).toList());
+        return top.stream()
+                .filter(e -> tags.containsKey(e.getKey()))
+                .limit(limit)
+                .map(e -> new TrendingTagDto(tags.get(e.getKey()), e.getValue()))
+                .toList();
+    }
+
     @Transactional(rollbackFor = Exception.class)
     @Override
     public Tag addTag(Tag tag) {
         List<Tag> tags = tagDao.findByName(tag.getName());
-
-        return tags.isEmpty() ? tagDao.insert(tag) : tags.get(0);
+        if (!tags.isEmpty()) {
+            return tags.get(0);
+        }
+        Tag created = tagDao.insert(tag);
+        tagDictionary.putAll(List.of(created));
+        return created;
     }
 
     @Transactional(rollbackFor = Exception.class)
     @Override
     public void deleteTagById(long tagId) {
-        tagDao.delete(findTagById(tagId));
+        Tag tag = findTagById(tagId);
+        tagDao.delete(tag);
+        tagDictionary.removeAll(List.of(tag));
+        catalogueVersion.increment();
+    }
+
+    @Transactional(rollbackFor = Exception.class)
+    @Override
+    public void recountCertificates() {
+        if (tagDao.recountCertificates() > 0) {
+            catalogueVersion.increment();
+        }
     }
 
+    @Transactional(readOnly = true)
     @Override
     public PageDto<Tag> findMostWidelyUsedTagOfUserWithHighestCostOfOrders(Map<String, Object> params) {
         return paginationProvider.paginateData(tagDao.findMostWidelyUsedTagOfUserWithHighestCostOfOrders(), params);
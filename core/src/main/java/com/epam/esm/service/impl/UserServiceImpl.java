@@ -1,20 +1,26 @@
 package com.epam.esm.service.impl;
 
 import com.epam.esm.dao.UserDao;
+import com.epam.esm.dao.UserOrderSummaryDao;
+import com.epam.esm.dto.MultiGetDto;
 import com.epam.esm.dto.PageDto;
 import com.epam.esm.dto.UserDto;
 import com.epam.esm.entity.GiftCertificate;
 import com.epam.esm.entity.Order;
 import com.epam.esm.entity.User;
+import com.epam.esm.entity.UserOrderSummary;
 import com.epam.esm.entity.enums.UserRole;
 import com.epam.esm.exception.ApplicationDuplicateException;
 import com.epam.esm.exception.ApplicationNotFoundException;
 import com.epam.esm.exception.ApplicationNotValidDataException;
 import com.epam.esm.service.UserService;
+import com.epam.esm.util.MultiGetProvider;
 import com.epam.esm.util.PaginationProvider;
 import com.epam.esm.util.validator.DataValidator;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.annotation.EnableAspectJAutoProxy;
+import org.springframework.context.event.ContextRefreshedEvent;
+import org.springframework.context.event.EventListener;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -40,6 +46,8 @@ public class UserServiceImpl implements UserService {
     private UserDao userDao;
     private PaginationProvider paginationProvider;
     private BCryptPasswordEncoder passwordEncoder;
+    private MultiGetProvider multiGetProvider;
+    private UserOrderSummaryDao summaryDao;
 
     /**
      * Instantiates a new User service.
@@ -48,14 +56,20 @@ public class UserServiceImpl implements UserService {
      * @param userDao            the user dao
      * @param paginationProvider the pagination param provider
      * @param passwordEncoder    the password encoder
+     * @param multiGetProvider   the multi get provider
+     * @param summaryDao         the user order summary dao
      */
     @Autowired
     public UserServiceImpl(DataValidator validator, UserDao userDao, PaginationProvider paginationProvider,
-                           BCryptPasswordEncoder passwordEncoder) {
+                           BCryptPasswordEncoder passwordEncoder,
+                           MultiGetProvider multiGetProvider,
+                           UserOrderSummaryDao summaryDao) {
         this.validator = validator;
         this.userDao = userDao;
         this.paginationProvider = paginationProvider;
         this.passwordEncoder = passwordEncoder;
+        this.multiGetProvider = multiGetProvider;
+        this.summaryDao = summaryDao;
     }
 
     /**
@@ -64,6 +78,7 @@ public class UserServiceImpl implements UserService {
     public UserServiceImpl() {
     }
 
+    @Transactional(readOnly = true)
     @Override
     public PageDto<User> findUsers(Map<String, Object> params) {
         List<User> users;
@@ -92,6 +107,13 @@ public class UserServiceImpl implements UserService {
         return paginationProvider.paginateData(users, params);
     }
 
+    @Transactional(readOnly = true)
+    @Override
+    public MultiGetDto<User> findUsersByIds(List<Long> ids) {
+        return multiGetProvider.findByIds(ids, userDao::findByIds);
+    }
+
+    @Transactional(readOnly = true)
     @Override
     public User findUserById(long userId) {
         checkId(userId);
@@ -99,6 +121,7 @@ public class UserServiceImpl implements UserService {
                 new ApplicationNotFoundException(USER_NOT_FOUND_MESSAGE_KEY, userId));
     }
 
+    @Transactional(readOnly = true)
     @Override
     public Set<GiftCertificate> findCertificateByUserId(long id) {
         Set<GiftCertificate> certificates = new HashSet<>();
@@ -109,6 +132,25 @@ public class UserServiceImpl implements UserService {
         return certificates;
     }
 
+    @Transactional(readOnly = true)
+    @Override
+    public UserOrderSummary findUserSummary(long userId) {
+        checkId(userId);
+        UserOrderSummary summary = summaryDao.findByUserId(userId);
+        if (summary == null) {
+            findUserById(userId);
+            summary = new UserOrderSummary(userId);
+        }
+        return summary;
+    }
+
+    @EventListener(ContextRefreshedEvent.class)
+    @Transactional(rollbackFor = Exception.class)
+    @Override
+    public void createMissingSummaries() {
+        summaryDao.insertMissing();
+    }
+
     @Transactional(rollbackFor = Exception.class)
     @Override
     public User addUser(UserDto userDto, BindingResult bindingResult) {
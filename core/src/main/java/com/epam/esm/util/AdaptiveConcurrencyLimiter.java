@@ -0,0 +1,125 @@
+package com.epam.esm.util;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * @author VChaikovski
+ * @project certificates-shop-backend
+ * The type Adaptive concurrency limiter.
+ * <p>
+ * This class limits the number of requests processed at once. The limit is found from measured latency
+ * with the gradient algorithm: the long term average latency is compared with the latest one, while latency
+ * stays at its usual level the limit grows by about its square root, when requests start to queue
+ * and latency grows the limit shrinks in proportion. So the limit follows the concurrency the database
+ * can actually serve, and the excess requests are rejected at once instead of waiting for connections.
+ */
+public class AdaptiveConcurrencyLimiter {
+    private static final double MIN_GRADIENT = 0.5;
+    private static final double DRIFT_RATIO = 2;
+    private static final double DRIFT_DECAY = 0.95;
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final double smoothing;
+    private final double tolerance;
+    private final double longRttFactor;
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicLong rejected = new AtomicLong();
+    private volatile double limit;
+    private double longRtt;
+
+    /**
+     * Instantiates a new Adaptive concurrency limiter.
+     *
+     * @param initialLimit  the initial limit
+     * @param minLimit      the min limit
+     * @param maxLimit      the max limit
+     * @param smoothing     the part of a new limit that's taken at once, from 0 to 1
+     * @param tolerance     the ratio of latency growth that's tolerated without shrinking the limit
+     * @param longRttWindow the number of samples the long term latency is averaged over
+     */
+    public AdaptiveConcurrencyLimiter(int initialLimit, int minLimit, int maxLimit, double smoothing, double tolerance,
+                                      int longRttWindow) {
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.smoothing = smoothing;
+        this.tolerance = tolerance;
+        this.longRttFactor = 2.0 / (longRttWindow + 1);
+        this.limit = initialLimit;
+    }
+
+    /**
+     * Try acquire boolean.
+     *
+     * @return true if the request may be processed, it must be released after that
+     */
+    public boolean tryAcquire() {
+        if (inFlight.incrementAndGet() > (int) limit) {
+            inFlight.decrementAndGet();
+            rejected.incrementAndGet();
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * Release.
+     * <p>
+     * This method frees the place of a processed request and adapts the limit to its latency.
+     *
+     * @param rttNanos the time the request was processed in nanoseconds
+     */
+    public void release(long rttNanos) {
+        int inFlightBefore = inFlight.getAndDecrement();
+        if (rttNanos > 0) {
+            onSample(rttNanos, inFlightBefore);
+        }
+    }
+
+    /**
+     * Gets limit.
+     *
+     * @return the limit
+     */
+    public int getLimit() {
+        return (int) limit;
+    }
+
+    /**
+     * Gets in flight.
+     *
+     * @return the number of requests being processed
+     */
+    public int getInFlight() {
+        return inFlight.get();
+    }
+
+    /**
+     * Gets rejected.
+     *
+     * @return the number of rejected requests
+     */
+    public long getRejected() {
+        return rejected.get();
+    }
+
+    private synchronized void onSample(long rtt, int inFlightBefore) {
+        if (longRtt == 0) {
+            longRtt = rtt;
+        } else {
+            longRtt = longRtt * (1 - longRttFactor) + rtt * longRttFactor;
+        }
+        if (longRtt / rtt > DRIFT_RATIO) {
+            longRtt *= DRIFT_DECAY;
+        }
+        double currentLimit = limit;
+        double gradient = Math.max(MIN_GRADIENT, Math.min(1.0, tolerance * longRtt / rtt));
+        double newLimit = currentLimit * gradient + Math.sqrt(currentLimit);
+        if (newLimit > currentLimit && inFlightBefore < currentLimit / 2) {
+            return;
+        }
+        newLimit = currentLimit * (1 - smoothing) + newLimit * smoothing;
+        limit = Math.max(minLimit, Math.min(maxLimit, newLimit));
+    }
+}
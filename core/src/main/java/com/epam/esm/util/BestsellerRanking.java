@@ -0,0 +1,144 @@
+package com.epam.esm.util;
+
+import com.epam.esm.dao.GiftCertificateDao;
+import com.epam.esm.entity.GiftCertificate;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.ContextRefreshedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.*;
+
+/**
+ * @author VChaikovski
+ * @project certificates-shop-backend
+ * The type Bestseller ranking.
+ * <p>
+ * This class keeps ids of the most popular gift certificates in memory, so the bestsellers are found
+ * without queries to order tables. The ranking is a copy-on-write list of at most size entries ordered by popularity.
+ * Popularity counters only grow, so offering the exact new counters of purchased gift certificates keeps the ranking exact.
+ * The ranking is also reloaded from database periodically to pick up the orders processed by other instances.
+ */
+@Component
+public class BestsellerRanking {
+    private static final Logger logger = LogManager.getLogger();
+    private static final Comparator<Entry> BY_POPULARITY = Comparator.comparingLong((Entry e) -> e.popularity)
+            .reversed()
+            .thenComparingLong(e -> e.id);
+
+    private GiftCertificateDao certificateDao;
+    private int size;
+    private volatile List<Entry> ranking = List.of();
+
+    /**
+     * Instantiates a new Bestseller ranking.
+     *
+     * @param certificateDao the gift certificate dao
+     * @param size           the max number of gift certificates in the ranking
+     */
+    @Autowired
+    public BestsellerRanking(GiftCertificateDao certificateDao, @Value("${application.bestsellers.size:100}") int size) {
+        this.certificateDao = certificateDao;
+        this.size = size;
+    }
+
+    /**
+     * Instantiates a new Bestseller ranking.
+     */
+    public BestsellerRanking() {
+        size = 100;
+    }
+
+    /**
+     * Gets size.
+     *
+     * @return the max number of gift certificates in the ranking
+     */
+    public int getSize() {
+        return size;
+    }
+
+    /**
+     * Reload.
+     * <p>
+     * This method replaces the ranking with the most popular gift certificates that are currently stored in database.
+     */
+    @EventListener(ContextRefreshedEvent.class)
+    @Scheduled(fixedDelayString = "${application.bestsellers.refresh-delay-ms:60000}",
+            initialDelayString = "${application.bestsellers.refresh-delay-ms:60000}")
+    public void reload() {
+        ranking = certificateDao.findTopByPopularity(size)
+                .stream()
+                .map(Entry::new)
+                .toList();
+        logger.debug("Bestseller ranking is loaded, size: {}", ranking.size());
+    }
+
+    /**
+     * Find top ids list.
+     *
+     * @param limit the limit
+     * @return the ids of the most popular gift certificates ordered by popularity
+     */
+    public List<Long> findTopIds(int limit) {
+        return ranking.stream()
+                .limit(limit)
+                .map(e -> e.id)
+                .toList();
+    }
+
+    /**
+     * Offer all.
+     * <p>
+     * This method puts gift certificates with their current popularity into the ranking if they are popular enough.
+     * If a transaction is active the ranking is changed after it's committed, otherwise at once.
+     *
+     * @param certificates the gift certificates with ids and popularity
+     */
+    public void offerAll(Collection<GiftCertificate> certificates) {
+        List<Entry> offered = certificates.stream()
+                .filter(c -> c.getPopularity() > 0)
+                .map(Entry::new)
+                .toList();
+        if (offered.isEmpty()) {
+            return;
+        }
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    merge(offered);
+                }
+            });
+        } else {
+            merge(offered);
+        }
+    }
+
+    private synchronized void merge(List<Entry> offered) {
+        Map<Long, Entry> merged = new HashMap<>();
+        ranking.forEach(e -> merged.put(e.id, e));
+        offered.forEach(e -> merged.merge(e.id, e, (present, e2) -> present.popularity >= e2.popularity ? present : e2));
+        ranking = merged.values()
+                .stream()
+                .sorted(BY_POPULARITY)
+                .limit(size)
+                .toList();
+    }
+
+    private static final class Entry {
+        private final long id;
+        private final long popularity;
+
+        private Entry(GiftCertificate certificate) {
+            id = certificate.getId();
+            popularity = certificate.getPopularity();
+        }
+    }
+}
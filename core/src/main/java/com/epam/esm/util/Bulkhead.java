@@ -0,0 +1,87 @@
+package com.epam.esm.util;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * @author VChaikovski
+ * @project certificates-shop-backend
+ * The type Bulkhead.
+ * <p>
+ * This class limits the number of requests of every traffic class processed at once with a separate partition
+ * of permits. Requests of the priority class that don't find a free permit in their own partition borrow one
+ * from other partitions, while other classes never use permits of the priority class. So a spike of other classes
+ * can't starve the priority class. Requests that don't get a permit are rejected at once instead of waiting.
+ */
+public class Bulkhead {
+    private final Map<TrafficClass, Semaphore> partitions = new EnumMap<>(TrafficClass.class);
+    private final Map<TrafficClass, AtomicLong> rejected = new EnumMap<>(TrafficClass.class);
+    private final TrafficClass priorityClass;
+
+    /**
+     * Instantiates a new Bulkhead.
+     *
+     * @param limits        the max numbers of requests processed at once by traffic classes
+     * @param priorityClass the traffic class that may borrow permits of other classes
+     */
+    public Bulkhead(Map<TrafficClass, Integer> limits, TrafficClass priorityClass) {
+        for (TrafficClass trafficClass : TrafficClass.values()) {
+            partitions.put(trafficClass, new Semaphore(limits.getOrDefault(trafficClass, 0)));
+            rejected.put(trafficClass, new AtomicLong());
+        }
+        this.priorityClass = priorityClass;
+    }
+
+    /**
+     * Try acquire traffic class.
+     *
+     * @param trafficClass the traffic class of the request
+     * @return the partition the permit is taken from, it must be released after the request is processed,
+     * or null if there is no free permit
+     */
+    public TrafficClass tryAcquire(TrafficClass trafficClass) {
+        if (partitions.get(trafficClass).tryAcquire()) {
+            return trafficClass;
+        }
+        if (trafficClass == priorityClass) {
+            for (Map.Entry<TrafficClass, Semaphore> partition : partitions.entrySet()) {
+                if (partition.getKey() != trafficClass && partition.getValue().tryAcquire()) {
+                    return partition.getKey();
+                }
+            }
+        }
+        rejected.get(trafficClass).incrementAndGet();
+        return null;
+    }
+
+    /**
+     * Release.
+     *
+     * @param partition the partition the permit was taken from
+     */
+    public void release(TrafficClass partition) {
+        partitions.get(partition).release();
+    }
+
+    /**
+     * Gets available.
+     *
+     * @param partition the partition
+     * @return the number of free permits
+     */
+    public int getAvailable(TrafficClass partition) {
+        return partitions.get(partition).availablePermits();
+    }
+
+    /**
+     * Gets rejected.
+     *
+     * @param trafficClass the traffic class
+     * @return the number of rejected requests of the class
+     */
+    public long getRejected(TrafficClass trafficClass) {
+        return rejected.get(trafficClass).get();
+    }
+}
@@ -0,0 +1,44 @@
+package com.epam.esm.util;
+
+/**
+ * @author VChaikovski
+ * @project certificates-shop-backend
+ * The type Cached result.
+ * <p>
+ * This class describes the result of a read that's either fresh or a stale copy served while database is unavailable.
+ *
+ * @param <T> the type of the value
+ */
+public class CachedResult<T> {
+    private final T value;
+    private final boolean stale;
+
+    /**
+     * Instantiates a new Cached result.
+     *
+     * @param value the value
+     * @param stale true if the value is a stale copy
+     */
+    public CachedResult(T value, boolean stale) {
+        this.value = value;
+        this.stale = stale;
+    }
+
+    /**
+     * Gets value.
+     *
+     * @return the value
+     */
+    public T getValue() {
+        return value;
+    }
+
+    /**
+     * Is stale boolean.
+     *
+     * @return true if the value is a stale copy
+     */
+    public boolean isStale() {
+        return stale;
+    }
+}
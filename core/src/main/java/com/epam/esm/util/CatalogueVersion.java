@@ -0,0 +1,110 @@
+package com.epam.esm.util;
+
+import com.epam.esm.dao.CatalogueRevisionDao;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * @author VChaikovski
+ * @project certificates-shop-backend
+ * The type Catalogue version.
+ * <p>
+ * This class gives the version of the gift certificate catalogue that's used as an entity tag of catalogue responses.
+ * The version is the catalogue revision stored in database, which is incremented in the same transaction
+ * as every change of catalogue data, so all application instances tag responses with the same version and
+ * tags stay valid after restarts. The revision is read again at most once per refresh interval, changes made
+ * by this instance are seen at once after they are committed, changes of other instances after the interval.
+ * While database is unavailable the last read version is used.
+ */
+@Component
+public class CatalogueVersion {
+    private static final Logger logger = LogManager.getLogger();
+    private static final char REVISION_PREFIX = 'r';
+
+    private CatalogueRevisionDao revisionDao;
+    private long refreshIntervalMs;
+    private final AtomicLong invalidations = new AtomicLong();
+    private volatile Snapshot snapshot;
+
+    /**
+     * Instantiates a new Catalogue version.
+     *
+     * @param revisionDao       the catalogue revision dao
+     * @param refreshIntervalMs the max time the read revision is used without reading it again
+     */
+    @Autowired
+    public CatalogueVersion(CatalogueRevisionDao revisionDao,
+                            @Value("${application.catalogue-version.refresh-ms:1000}") long refreshIntervalMs) {
+        this.revisionDao = revisionDao;
+        this.refreshIntervalMs = refreshIntervalMs;
+    }
+
+    /**
+     * Instantiates a new Catalogue version.
+     */
+    public CatalogueVersion() {
+    }
+
+    /**
+     * Gets entity tag.
+     *
+     * @return the entity tag, or null if the revision couldn't be read yet
+     */
+    public String getEntityTag() {
+        Snapshot current = snapshot;
+        long now = System.currentTimeMillis();
+        long generation = invalidations.get();
+        if (current != null && current.generation == generation && now - current.readAt < refreshIntervalMs) {
+            return current.entityTag;
+        }
+        try {
+            String entityTag = REVISION_PREFIX + String.valueOf(revisionDao.findRevision());
+            if (invalidations.get() == generation) {
+                snapshot = new Snapshot(entityTag, now, generation);
+            }
+            return entityTag;
+        } catch (RuntimeException e) {
+            logger.debug("Catalogue revision couldn't be read, the last read one is used", e);
+            return current == null ? null : current.entityTag;
+        }
+    }
+
+    /**
+     * Increment.
+     * <p>
+     * This method increments the stored revision, it must be called in the transaction that changes catalogue data.
+     * The read revision is dropped after the transaction is committed.
+     */
+    public void increment() {
+        revisionDao.increaseRevision();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    invalidations.incrementAndGet();
+                }
+            });
+        } else {
+            invalidations.incrementAndGet();
+        }
+    }
+
+    private static final class Snapshot {
+        private final String entityTag;
+        private final long readAt;
+        private final long generation;
+
+        private Snapshot(String entityTag, long readAt, long generation) {
+            this.entityTag = entityTag;
+            this.readAt = readAt;
+            this.generation = generation;
+        }
+    }
+}
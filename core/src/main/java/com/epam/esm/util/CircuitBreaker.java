@@ -0,0 +1,127 @@
+package com.epam.esm.util;
+
+/**
+ * @author VChaikovski
+ * @project certificates-shop-backend
+ * The type Circuit breaker.
+ * <p>
+ * This class stops calls to a failing resource. After the given number of failures in a row the breaker opens
+ * and calls aren't permitted for the open duration. After that one trial call is permitted: if it succeeds
+ * the breaker closes and the close listener is run, otherwise the breaker opens again.
+ */
+public class CircuitBreaker {
+    /**
+     * The enum State.
+     */
+    public enum State {
+        /**
+         * Calls are permitted.
+         */
+        CLOSED,
+        /**
+         * Calls aren't permitted.
+         */
+        OPEN,
+        /**
+         * One trial call is permitted.
+         */
+        HALF_OPEN
+    }
+
+    private final int failureThreshold;
+    private final long openDurationMs;
+    private final Runnable closeListener;
+    private State state = State.CLOSED;
+    private int failures;
+    private long openedAt;
+    private boolean trialInProgress;
+
+    /**
+     * Instantiates a new Circuit breaker.
+     *
+     * @param failureThreshold the number of failures in a row that opens the breaker
+     * @param openDurationMs   the time the breaker stays open
+     * @param closeListener    the listener that's run when the breaker closes after being open
+     */
+    public CircuitBreaker(int failureThreshold, long openDurationMs, Runnable closeListener) {
+        this.failureThreshold = failureThreshold;
+        this.openDurationMs = openDurationMs;
+        this.closeListener = closeListener;
+    }
+
+    /**
+     * Try acquire permission boolean.
+     *
+     * @return true if a call may be made, its outcome must be reported after that
+     */
+    public synchronized boolean tryAcquirePermission() {
+        if (state == State.OPEN && System.currentTimeMillis() - openedAt >= openDurationMs) {
+            state = State.HALF_OPEN;
+            trialInProgress = false;
+        }
+        if (state == State.HALF_OPEN) {
+            if (trialInProgress) {
+                return false;
+            }
+            trialInProgress = true;
+            return true;
+        }
+        return state == State.CLOSED;
+    }
+
+    /**
+     * On success.
+     */
+    public void onSuccess() {
+        boolean closed;
+        synchronized (this) {
+            if (state == State.OPEN) {
+                return;
+            }
+            failures = 0;
+            closed = state == State.HALF_OPEN;
+            state = State.CLOSED;
+        }
+        if (closed) {
+            closeListener.run();
+        }
+    }
+
+    /**
+     * On failure.
+     */
+    public synchronized void onFailure() {
+        failures++;
+        if (state == State.HALF_OPEN || failures >= failureThreshold) {
+            state = State.OPEN;
+            openedAt = System.currentTimeMillis();
+        }
+    }
+
+    /**
+     * On ignored.
+     * <p>
+     * This method reports a call that didn't show whether the resource works, so another trial call is permitted.
+     */
+    public synchronized void onIgnored() {
+        trialInProgress = false;
+    }
+
+    /**
+     * Gets state.
+     *
+     * @return the state
+     */
+    public synchronized State getState() {
+        return state;
+    }
+
+    /**
+     * Gets retry after ms.
+     *
+     * @return the time left until a trial call is permitted
+     */
+    public synchronized long getRetryAfterMs() {
+        return state == State.OPEN ? Math.max(0, openDurationMs - (System.currentTimeMillis() - openedAt)) : 0;
+    }
+}
@@ -0,0 +1,67 @@
+package com.epam.esm.util;
+
+import com.epam.esm.dao.DataMigrationDao;
+import com.epam.esm.service.TagService;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.event.ContextRefreshedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+
+/**
+ * @author VChaikovski
+ * @project certificates-shop-backend
+ * The type Data migration runner.
+ * <p>
+ * This class applies one-off data migrations, for example it fills the counters that were added to existing tables.
+ * Every migration is recorded in the same transaction that applies it, so it runs once per database:
+ * later starts only find its row, and instances that start at the same time wait for the first one and skip it.
+ */
+@Component
+public class DataMigrationRunner {
+    /**
+     * The constant RECOUNT_TAG_CERTIFICATES.
+     */
+    public static final String RECOUNT_TAG_CERTIFICATES = "recount-tag-certificates";
+    private static final Logger logger = LogManager.getLogger();
+
+    private DataMigrationDao dataMigrationDao;
+    private TagService tagService;
+
+    /**
+     * Instantiates a new Data migration runner.
+     *
+     * @param dataMigrationDao the data migration dao
+     * @param tagService       the tag service
+     */
+    @Autowired
+    public DataMigrationRunner(DataMigrationDao dataMigrationDao, TagService tagService) {
+        this.dataMigrationDao = dataMigrationDao;
+        this.tagService = tagService;
+    }
+
+    /**
+     * Instantiates a new Data migration runner.
+     */
+    public DataMigrationRunner() {
+    }
+
+    /**
+     * Migrate.
+     * <p>
+     * This method applies the migrations that weren't applied to the database yet.
+     */
+    @EventListener(ContextRefreshedEvent.class)
+    @Transactional(rollbackFor = Exception.class)
+    public void migrate() {
+        if (dataMigrationDao.markApplied(RECOUNT_TAG_CERTIFICATES, LocalDateTime.now(ZoneId.systemDefault()))) {
+            tagService.recountCertificates();
+            logger.info("Data migration {} is applied", RECOUNT_TAG_CERTIFICATES);
+        }
+    }
+}
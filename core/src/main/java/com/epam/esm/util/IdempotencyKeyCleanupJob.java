@@ -0,0 +1,54 @@
+package com.epam.esm.util;
+
+import com.epam.esm.service.OrderService;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+
+/**
+ * @author VChaikovski
+ * @project certificates-shop-backend
+ * The type Idempotency key cleanup job.
+ * <p>
+ * This class periodically deletes idempotency keys older than the configured retention time, so the keys table
+ * doesn't grow without bound. A key only protects retries of the same request, so the retention time must be
+ * longer than clients keep retrying; a request repeated after its key was deleted creates a new order.
+ */
+@Component
+public class IdempotencyKeyCleanupJob {
+    private static final Logger logger = LogManager.getLogger();
+
+    private OrderService orderService;
+    private long retentionHours;
+
+    /**
+     * Instantiates a new Idempotency key cleanup job.
+     *
+     * @param orderService   the order service
+     * @param retentionHours the time idempotency keys are kept
+     */
+    @Autowired
+    public IdempotencyKeyCleanupJob(OrderService orderService,
+                                    @Value("${application.idempotency.retention-hours:48}") long retentionHours) {
+        this.orderService = orderService;
+        this.retentionHours = retentionHours;
+    }
+
+    /**
+     * Delete expired idempotency keys.
+     *
+     * @return the number of deleted keys
+     */
+    @Scheduled(cron = "${application.idempotency.cleanup-cron:0 0 * * * *}")
+    public int deleteExpiredKeys() {
+        int deleted = orderService.deleteIdempotencyKeys(LocalDateTime.now(ZoneId.systemDefault()).minusHours(retentionHours));
+        logger.debug("Deleted {} expired idempotency keys", deleted);
+        return deleted;
+    }
+}
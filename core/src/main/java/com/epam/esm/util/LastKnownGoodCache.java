@@ -0,0 +1,251 @@
+package com.epam.esm.util;
+
+import com.epam.esm.dto.PageDto;
+import com.epam.esm.entity.AbstractEntity;
+import com.epam.esm.exception.ApplicationOverloadedException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.hibernate.exception.JDBCConnectionException;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.RecoverableDataAccessException;
+import org.springframework.dao.TransientDataAccessException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.CannotCreateTransactionException;
+
+import java.sql.SQLNonTransientConnectionException;
+import java.sql.SQLRecoverableException;
+import java.sql.SQLTransientException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import java.util.function.UnaryOperator;
+
+import static com.epam.esm.configuration.ModelConfig.CATALOGUE_REFRESH_EXECUTOR;
+import static com.epam.esm.exception.ErrorAttribute.UNAVAILABLE_MESSAGE_KEY;
+
+/**
+ * @author VChaikovski
+ * @project certificates-shop-backend
+ * The type Last known good cache.
+ * <p>
+ * This class keeps copies of the latest results of hot catalogue reads, so they can be served as stale results
+ * while database is unavailable. Reads go through a circuit breaker: when database fails several times in a row
+ * the breaker opens and reads are answered from the copies without calling database. When the breaker closes,
+ * the copies are read again in background. The copies are limited in number, the least recently used ones are removed,
+ * and a copy is replaced at most once per store interval, so fresh reads rarely pay for copying.
+ */
+@Component
+public class LastKnownGoodCache {
+    private static final Logger logger = LogManager.getLogger();
+    private static final String DATABASE = "database";
+
+    private ObjectMapper objectMapper;
+    private Executor refreshExecutor;
+    private CircuitBreaker circuitBreaker;
+    private int maxEntries;
+    private long storeIntervalMs;
+    private Map<String, Entry<?>> entries;
+
+    /**
+     * Instantiates a new Last known good cache.
+     *
+     * @param objectMapper     the object mapper that copies results
+     * @param refreshExecutor  the executor that refreshes copies
+     * @param failureThreshold the number of database failures in a row that opens the circuit breaker
+     * @param openDurationMs   the time the circuit breaker stays open
+     * @param maxEntries       the max number of copies
+     * @param storeIntervalMs  the min time between replacements of a copy
+     */
+    @Autowired
+    public LastKnownGoodCache(ObjectMapper objectMapper, @Qualifier(CATALOGUE_REFRESH_EXECUTOR) Executor refreshExecutor,
+                              @Value("${application.catalogue-fallback.failure-threshold:5}") int failureThreshold,
+                              @Value("${application.catalogue-fallback.open-duration-ms:10000}") long openDurationMs,
+                              @Value("${application.catalogue-fallback.max-entries:1000}") int maxEntries,
+                              @Value("${application.catalogue-fallback.store-interval-ms:5000}") long storeIntervalMs) {
+        this.objectMapper = objectMapper;
+        this.refreshExecutor = refreshExecutor;
+        this.circuitBreaker = new CircuitBreaker(failureThreshold, openDurationMs, this::refreshAll);
+        this.maxEntries = maxEntries;
+        this.storeIntervalMs = storeIntervalMs;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Entry<?>> eldest) {
+                return size() > LastKnownGoodCache.this.maxEntries;
+            }
+        };
+    }
+
+    /**
+     * Instantiates a new Last known good cache.
+     */
+    public LastKnownGoodCache() {
+    }
+
+    /**
+     * Read cached result.
+     * <p>
+     * This method loads a fresh result and keeps its copy. If database fails or the circuit breaker is open,
+     * a copy of the latest result is returned as stale. If there is no such result the request is rejected
+     * with the 503 status.
+     *
+     * @param <T>    the type of the result
+     * @param key    the key of the read, it must include all parameters of the read
+     * @param loader the loader of a fresh result, it must not depend on the current request
+     * @param copier the copier that makes an independent copy of a result
+     * @return the cached result
+     */
+    public <T> CachedResult<T> read(String key, Supplier<T> loader, UnaryOperator<T> copier) {
+        if (!circuitBreaker.tryAcquirePermission()) {
+            return findStale(key);
+        }
+        T value;
+        try {
+            value = loader.get();
+        } catch (RuntimeException e) {
+            if (!isDatabaseFailure(e)) {
+                circuitBreaker.onIgnored();
+                throw e;
+            }
+            circuitBreaker.onFailure();
+            logger.warn("Database failed, stale result is looked up for key: {}", key, e);
+            return findStale(key);
+        }
+        circuitBreaker.onSuccess();
+        store(key, new Entry<>(loader, copier, value), false);
+        return new CachedResult<>(value, false);
+    }
+
+    /**
+     * Entity copier unary operator.
+     *
+     * @param <T>  the type of the entity
+     * @param type the class of the entity
+     * @return the copier of entities of the type
+     */
+    public <T extends AbstractEntity> UnaryOperator<T> entityCopier(Class<T> type) {
+        return entity -> objectMapper.convertValue(entity, type);
+    }
+
+    /**
+     * Page copier unary operator.
+     *
+     * @param <T>  the type of the entities
+     * @param type the class of the entities
+     * @return the copier of pages of entities of the type
+     */
+    public <T extends AbstractEntity> UnaryOperator<PageDto<T>> pageCopier(Class<T> type) {
+        UnaryOperator<T> entityCopier = entityCopier(type);
+        return page -> new PageDto<>(page.getContent()
+                .stream()
+                .map(entityCopier)
+                .toList(), page.getCurrentPage(), page.getSize(), page.getTotalElements(), page.getTotalPages());
+    }
+
+    /**
+     * Gets circuit breaker.
+     *
+     * @return the circuit breaker
+     */
+    public CircuitBreaker getCircuitBreaker() {
+        return circuitBreaker;
+    }
+
+    /**
+     * Refresh all.
+     * <p>
+     * This method reads all kept results again in background after database became available.
+     */
+    public void refreshAll() {
+        refreshExecutor.execute(() -> {
+            Map<String, Entry<?>> snapshot;
+            synchronized (this) {
+                snapshot = new LinkedHashMap<>(entries);
+            }
+            for (Map.Entry<String, Entry<?>> entry : snapshot.entrySet()) {
+                if (!refresh(entry.getKey(), entry.getValue())) {
+                    return;
+                }
+            }
+            logger.debug("Stale results are refreshed, count: {}", snapshot.size());
+        });
+    }
+
+    private <T> boolean refresh(String key, Entry<T> entry) {
+        if (!circuitBreaker.tryAcquirePermission()) {
+            return false;
+        }
+        try {
+            T value = entry.loader.get();
+            circuitBreaker.onSuccess();
+            store(key, new Entry<>(entry.loader, entry.copier, value), true);
+            return true;
+        } catch (RuntimeException e) {
+            if (isDatabaseFailure(e)) {
+                circuitBreaker.onFailure();
+                return false;
+            }
+            circuitBreaker.onIgnored();
+            synchronized (this) {
+                entries.remove(key);
+            }
+            return true;
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> CachedResult<T> findStale(String key) {
+        Entry<T> entry;
+        synchronized (this) {
+            entry = (Entry<T>) entries.get(key);
+        }
+        if (entry == null) {
+            long retryAfterSec = Math.max(1, TimeUnit.MILLISECONDS.toSeconds(circuitBreaker.getRetryAfterMs() + 999));
+            throw new ApplicationOverloadedException(UNAVAILABLE_MESSAGE_KEY, DATABASE, retryAfterSec);
+        }
+        return new CachedResult<>(entry.copier.apply(entry.value), true);
+    }
+
+    private <T> void store(String key, Entry<T> entry, boolean force) {
+        synchronized (this) {
+            Entry<?> present = entries.get(key);
+            if (!force && present != null && entry.storedAt - present.storedAt < storeIntervalMs) {
+                return;
+            }
+        }
+        Entry<T> copy = new Entry<>(entry.loader, entry.copier, entry.copier.apply(entry.value));
+        synchronized (this) {
+            entries.put(key, copy);
+        }
+    }
+
+    private boolean isDatabaseFailure(Throwable e) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause instanceof TransientDataAccessException || cause instanceof DataAccessResourceFailureException
+                    || cause instanceof RecoverableDataAccessException || cause instanceof CannotCreateTransactionException
+                    || cause instanceof JDBCConnectionException || cause instanceof SQLTransientException
+                    || cause instanceof SQLRecoverableException || cause instanceof SQLNonTransientConnectionException) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static final class Entry<T> {
+        private final Supplier<T> loader;
+        private final UnaryOperator<T> copier;
+        private final T value;
+        private final long storedAt = System.currentTimeMillis();
+
+        private Entry(Supplier<T> loader, UnaryOperator<T> copier, T value) {
+            this.loader = loader;
+            this.copier = copier;
+            this.value = value;
+        }
+    }
+}
@@ -0,0 +1,68 @@
+package com.epam.esm.util;
+
+import com.epam.esm.dto.MultiGetDto;
+import com.epam.esm.entity.AbstractEntity;
+import com.epam.esm.exception.ApplicationNotValidDataException;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static com.epam.esm.dao.RequestParamName.IDS;
+import static com.epam.esm.exception.ErrorAttribute.NOT_VALID_DATA_MESSAGE_KEY;
+import static com.epam.esm.exception.ErrorAttribute.NOT_VALID_ID_MESSAGE_KEY;
+
+/**
+ * @author VChaikovski
+ * @project certificates-shop-backend
+ * The type Multi get provider.
+ * <p>
+ * This class checks a list of requested ids, reads the entities with one query and builds the result
+ * in the order of requested ids. Repeated ids are read once. If an id isn't valid or too many ids are requested,
+ * the ApplicationNotValidDataException will be thrown.
+ */
+@Component
+public class MultiGetProvider {
+    private static final char EQ = '=';
+    private static final int MAX_IDS = 100;
+
+    /**
+     * Find by ids multi get dto.
+     *
+     * @param ids    the requested ids
+     * @param loader the function that reads entities with given ids
+     * @param <T>    the type of entities
+     * @return the multi get dto
+     */
+    public <T extends AbstractEntity> MultiGetDto<T> findByIds(List<Long> ids, Function<List<Long>, List<T>> loader) {
+        List<Long> uniqueIds = new ArrayList<>(new LinkedHashSet<>(ids));
+        if (uniqueIds.isEmpty() || uniqueIds.size() > MAX_IDS) {
+            throw new ApplicationNotValidDataException(NOT_VALID_DATA_MESSAGE_KEY, new StringBuilder(IDS).append(EQ)
+                    .append(ids)
+                    .toString());
+        }
+        for (Long id : uniqueIds) {
+            if (id == null || id <= 0) {
+                throw new ApplicationNotValidDataException(NOT_VALID_ID_MESSAGE_KEY, id);
+            }
+        }
+        Map<Long, T> found = loader.apply(uniqueIds)
+                .stream()
+                .collect(Collectors.toMap(AbstractEntity::getId, Function.identity(), (first, second) -> first));
+        List<T> content = new ArrayList<>();
+        List<Long> notFoundIds = new ArrayList<>();
+        for (Long id : uniqueIds) {
+            T entity = found.get(id);
+            if (entity != null) {
+                content.add(entity);
+            } else {
+                notFoundIds.add(id);
+            }
+        }
+        return new MultiGetDto<>(content, notFoundIds);
+    }
+}
@@ -0,0 +1,87 @@
+package com.epam.esm.util;
+
+import com.epam.esm.service.OrderService;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+
+/**
+ * @author VChaikovski
+ * @project certificates-shop-backend
+ * The type Order archive job.
+ * <p>
+ * This class periodically moves orders older than the configured age to archive tables, so the live order tables
+ * and their indexes only hold recent orders. Orders are moved in chunks ordered by id, every chunk is moved
+ * in its own short transaction and the next chunk is read after the last moved id. The job pauses between chunks
+ * and stops after the configured number of chunks, so it doesn't hold locks or load database for long.
+ * A run can still take minutes, so the scheduler pool must have threads for the other scheduled jobs
+ * (spring.task.scheduling.pool.size).
+ */
+@Component
+public class OrderArchiveJob {
+    private static final Logger logger = LogManager.getLogger();
+
+    private OrderService orderService;
+    private long orderAgeDays;
+    private int batchSize;
+    private long batchPauseMs;
+    private int maxBatches;
+
+    /**
+     * Instantiates a new Order archive job.
+     *
+     * @param orderService the order service
+     * @param orderAgeDays the age of orders that are archived
+     * @param batchSize    the number of orders moved in one transaction
+     * @param batchPauseMs the pause between transactions
+     * @param maxBatches   the max number of transactions in one run
+     */
+    @Autowired
+    public OrderArchiveJob(OrderService orderService,
+                           @Value("${application.archive.order-age-days:365}") long orderAgeDays,
+                           @Value("${application.archive.batch-size:500}") int batchSize,
+                           @Value("${application.archive.batch-pause-ms:200}") long batchPauseMs,
+                           @Value("${application.archive.max-batches:1000}") int maxBatches) {
+        this.orderService = orderService;
+        this.orderAgeDays = orderAgeDays;
+        this.batchSize = batchSize;
+        this.batchPauseMs = batchPauseMs;
+        this.maxBatches = maxBatches;
+    }
+
+    /**
+     * Archive old orders.
+     *
+     * @return the number of archived orders
+     */
+    @Scheduled(cron = "${application.archive.cron:0 30 3 * * *}")
+    public int archiveOldOrders() {
+        LocalDateTime before = LocalDateTime.now(ZoneId.systemDefault()).minusDays(orderAgeDays);
+        long afterId = 0;
+        int archived = 0;
+        try {
+            for (int batch = 0; batch < maxBatches; batch++) {
+                List<Long> ids = orderService.archiveOrders(afterId, before, batchSize);
+                archived += ids.size();
+                if (ids.size() < batchSize) {
+                    break;
+                }
+                afterId = ids.get(ids.size() - 1);
+                Thread.sleep(batchPauseMs);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (RuntimeException e) {
+            logger.warn("Archiving of orders was stopped and will be continued by the next run: {}", e.getMessage());
+        }
+        logger.debug("Archived {} orders created before {}", archived, before);
+        return archived;
+    }
+}
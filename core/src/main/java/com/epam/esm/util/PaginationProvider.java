@@ -30,6 +30,7 @@ public class PaginationProvider {
     private static final char EQ = '=';
     private static final int DEFAULT_LIMIT = 20;
     private static final int DEFAULT_PAGE = 1;
+    private static final int MAX_CHUNK_LIMIT = 1000;
 
     private DataValidator validator;
 
@@ -71,6 +72,24 @@ public class PaginationProvider {
                 findTotalPages(entityList.size(), paginationParams.get(LIMIT)));
     }
 
+    /**
+     * Check chunk params.
+     * <p>
+     * This method checks parameters of keyset reading: the id of the last read entity can't be negative,
+     * the limit must be positive and not greater than the max chunk size.
+     *
+     * @param afterId the id of the last read entity
+     * @param limit   the limit
+     */
+    public void checkChunkParams(long afterId, int limit) {
+        if (afterId < 0) {
+            throw new ApplicationNotValidDataException(NOT_VALID_DATA_MESSAGE_KEY, buildNotCorrectParamStr(AFTER_ID, afterId));
+        }
+        if (limit <= 0 || limit > MAX_CHUNK_LIMIT) {
+            throw new ApplicationNotValidDataException(NOT_VALID_DATA_MESSAGE_KEY, buildNotCorrectParamStr(LIMIT, limit));
+        }
+    }
+
     private Map<String, Integer> getPaginationParam(Integer page, Integer limit) {
         Map<String, Integer> paginationParam = new HashMap<>();
         if (limit == null) {
@@ -91,7 +110,7 @@ public class PaginationProvider {
     }
 
 
-    private String buildNotCorrectParamStr(String paramName, int value) {
+    private String buildNotCorrectParamStr(String paramName, long value) {
         return new StringBuilder(paramName).append(EQ)
                 .append(value)
                 .toString();
@@ -0,0 +1,269 @@
+package com.epam.esm.util;
+
+import com.epam.esm.dao.TagDao;
+import com.epam.esm.entity.Tag;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.event.ContextRefreshedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.*;
+import java.util.stream.Collectors;
+
+/**
+ * @author VChaikovski
+ * @project certificates-shop-backend
+ * The type Tag dictionary.
+ * <p>
+ * This class keeps the ids of all tags by their names in memory, so tag names can be resolved without a query per tag.
+ * The dictionary is a copy-on-write snapshot: readers never lock, every change replaces the whole snapshot.
+ * It's loaded at startup, changed after commits of tag inserts and deletes of this instance and reloaded periodically
+ * to pick up the changes of other instances and the current usage counters. The dictionary may be stale,
+ * so a name that's absent here must still be checked in the database before a new tag is created.
+ * <p>
+ * The snapshot also keeps the tags sorted by their lower case names, so tags starting with a prefix
+ * are found with a binary search.
+ */
+@Component
+public class TagDictionary {
+    private static final Logger logger = LogManager.getLogger();
+    private static final Comparator<Entry> BY_USAGE = Comparator.comparingLong((Entry e) -> e.certificateCount)
+            .thenComparingLong(e -> e.purchaseCount)
+            .reversed()
+            .thenComparing(e -> e.key);
+
+    private TagDao tagDao;
+    private volatile Snapshot snapshot = new Snapshot(List.of());
+
+    /**
+     * Instantiates a new Tag dictionary.
+     *
+     * @param tagDao the tag dao
+     */
+    @Autowired
+    public TagDictionary(TagDao tagDao) {
+        this.tagDao = tagDao;
+    }
+
+    /**
+     * Instantiates a new Tag dictionary.
+     */
+    public TagDictionary() {
+    }
+
+    /**
+     * Reload.
+     * <p>
+     * This method replaces the dictionary with the tags that are currently stored in database.
+     */
+    @EventListener(ContextRefreshedEvent.class)
+    @Scheduled(fixedDelayString = "${application.tag-dictionary.refresh-delay-ms:300000}",
+            initialDelayString = "${application.tag-dictionary.refresh-delay-ms:300000}")
+    public void reload() {
+        List<Entry> loaded = tagDao.findAll()
+                .stream()
+                .map(Entry::new)
+                .toList();
+        snapshot = new Snapshot(loaded);
+        logger.debug("Tag dictionary is loaded, size: {}", loaded.size());
+    }
+
+    /**
+     * Find id long.
+     *
+     * @param name the name
+     * @return the id or null if there is no tag with such name in the dictionary
+     */
+    public Long findId(String name) {
+        Entry entry = snapshot.entries.get(name);
+        return entry != null ? entry.id : null;
+    }
+
+    /**
+     * Find ids map.
+     *
+     * @param names the names
+     * @return the ids of known tags by their names
+     */
+    public Map<String, Long> findIds(Collection<String> names) {
+        Map<String, Entry> entries = snapshot.entries;
+        Map<String, Long> found = new HashMap<>();
+        for (String name : names) {
+            Entry entry = entries.get(name);
+            if (entry != null) {
+                found.put(name, entry.id);
+            }
+        }
+        return found;
+    }
+
+    /**
+     * Find tags map.
+     * <p>
+     * Returned tags are new objects, so they can be changed by the caller.
+     *
+     * @param ids the ids
+     * @return the known tags by their ids
+     */
+    public Map<Long, Tag> findTags(Collection<Long> ids) {
+        Map<Long, Entry> byId = snapshot.byId;
+        Map<Long, Tag> found = new HashMap<>();
+        for (Long id : ids) {
+            Entry entry = byId.get(id);
+            if (entry != null) {
+                found.put(id, entry.toTag());
+            }
+        }
+        return found;
+    }
+
+    /**
+     * Suggest list.
+     * <p>
+     * This method finds the tags which names start with given prefix ignoring case. Tags are ordered
+     * by the number of gift certificates that use them, then by the number of purchases, then by name.
+     * Returned tags are new objects, so they can be changed by the caller.
+     *
+     * @param prefix the prefix
+     * @param limit  the max number of tags
+     * @return the list
+     */
+    public List<Tag> suggest(String prefix, int limit) {
+        Entry[] sorted = snapshot.sorted;
+        String key = toKey(prefix);
+        int from = findFirstNotLess(sorted, key);
+        List<Entry> matched = new ArrayList<>();
+        for (int i = from; i < sorted.length && sorted[i].key.startsWith(key); i++) {
+            matched.add(sorted[i]);
+        }
+        return matched.stream()
+                .sorted(BY_USAGE)
+                .limit(limit)
+                .map(Entry::toTag)
+                .toList();
+    }
+
+    /**
+     * Put all.
+     * <p>
+     * If a transaction is active the tags are added after it's committed, otherwise at once.
+     * Usage counters of the tags that are already present aren't changed, they are refreshed by the reload.
+     *
+     * @param tags the tags
+     */
+    public void putAll(Collection<Tag> tags) {
+        List<Entry> added = tags.stream()
+                .filter(t -> t.getId() > 0 && t.getName() != null)
+                .map(Entry::new)
+                .toList();
+        if (!added.isEmpty()) {
+            afterCommit(() -> change(added, Map.of()));
+        }
+    }
+
+    /**
+     * Remove all.
+     * <p>
+     * If a transaction is active the tags are removed after it's committed, otherwise at once.
+     *
+     * @param tags the tags
+     */
+    public void removeAll(Collection<Tag> tags) {
+        Map<String, Long> removed = tags.stream()
+                .filter(t -> t.getName() != null)
+                .collect(Collectors.toMap(Tag::getName, Tag::getId, (first, second) -> first));
+        if (!removed.isEmpty()) {
+            afterCommit(() -> change(List.of(), removed));
+        }
+    }
+
+    private synchronized void change(List<Entry> added, Map<String, Long> removed) {
+        Map<String, Entry> changed = new HashMap<>(snapshot.entries);
+        added.forEach(e -> changed.merge(e.name, e, (present, e2) -> present.id == e2.id ? present : e2));
+        removed.forEach((name, id) -> {
+            Entry present = changed.get(name);
+            if (present != null && present.id == id) {
+                changed.remove(name);
+            }
+        });
+        snapshot = new Snapshot(changed.values());
+    }
+
+    private void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+
+    private static int findFirstNotLess(Entry[] sorted, String key) {
+        int low = 0;
+        int high = sorted.length;
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (sorted[middle].key.compareTo(key) < 0) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+    private static String toKey(String name) {
+        return name.toLowerCase(Locale.ROOT);
+    }
+
+    private static final class Snapshot {
+        private final Map<String, Entry> entries;
+        private final Map<Long, Entry> byId;
+        private final Entry[] sorted;
+
+        private Snapshot(Collection<Entry> entryList) {
+            entries = entryList.stream()
+                    .collect(Collectors.toUnmodifiableMap(e -> e.name, e -> e, (first, second) -> first));
+            byId = entries.values()
+                    .stream()
+                    .collect(Collectors.toUnmodifiableMap(e -> e.id, e -> e, (first, second) -> first));
+            sorted = entries.values()
+                    .stream()
+                    .sorted(Comparator.comparing((Entry e) -> e.key))
+                    .toArray(Entry[]::new);
+        }
+    }
+
+    private static final class Entry {
+        private final long id;
+        private final String name;
+        private final String key;
+        private final long certificateCount;
+        private final long purchaseCount;
+
+        private Entry(Tag tag) {
+            id = tag.getId();
+            name = tag.getName();
+            key = toKey(name);
+            certificateCount = tag.getCertificateCount();
+            purchaseCount = tag.getPurchaseCount();
+        }
+
+        private Tag toTag() {
+            Tag tag = new Tag(name);
+            tag.setId(id);
+            tag.setCertificateCount(certificateCount);
+            tag.setPurchaseCount(purchaseCount);
+            return tag;
+        }
+    }
+}
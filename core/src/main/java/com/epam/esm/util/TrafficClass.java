@@ -0,0 +1,24 @@
+package com.epam.esm.util;
+
+/**
+ * @author VChaikovski
+ * @project certificates-shop-backend
+ * The enum Traffic class.
+ * <p>
+ * This enum describes the classes of requests that are isolated from each other by bulkheads,
+ * so a spike of one class can't take request slots or database connections of another one.
+ */
+public enum TrafficClass {
+    /**
+     * Catalogue browsing and other requests of users.
+     */
+    PUBLIC,
+    /**
+     * Placing orders.
+     */
+    CHECKOUT,
+    /**
+     * Requests of administrators.
+     */
+    ADMIN
+}
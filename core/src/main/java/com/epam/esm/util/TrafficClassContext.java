@@ -0,0 +1,69 @@
+package com.epam.esm.util;
+
+/**
+ * @author VChaikovski
+ * @project certificates-shop-backend
+ * The type Traffic class context.
+ * <p>
+ * This class keeps the traffic class of the request that's processed by the current thread,
+ * so the database connection is taken from the pool of that class.
+ */
+public final class TrafficClassContext {
+    private static final ThreadLocal<TrafficClass> CURRENT = new ThreadLocal<>();
+
+    private TrafficClassContext() {
+    }
+
+    /**
+     * Get traffic class.
+     *
+     * @return the traffic class of the current thread, or null if it isn't set
+     */
+    public static TrafficClass get() {
+        return CURRENT.get();
+    }
+
+    /**
+     * Set.
+     *
+     * @param trafficClass the traffic class of the current thread
+     */
+    public static void set(TrafficClass trafficClass) {
+        CURRENT.set(trafficClass);
+    }
+
+    /**
+     * Clear.
+     */
+    public static void clear() {
+        CURRENT.remove();
+    }
+
+    /**
+     * Wrap runnable.
+     * <p>
+     * This method binds the traffic class of the current thread to a task that runs on another thread.
+     *
+     * @param task the task
+     * @return the task that runs with the current traffic class
+     */
+    public static Runnable wrap(Runnable task) {
+        TrafficClass trafficClass = get();
+        if (trafficClass == null) {
+            return task;
+        }
+        return () -> {
+            TrafficClass previous = get();
+            set(trafficClass);
+            try {
+                task.run();
+            } finally {
+                if (previous == null) {
+                    clear();
+                } else {
+                    set(previous);
+                }
+            }
+        };
+    }
+}
@@ -0,0 +1,239 @@
+package com.epam.esm.util;
+
+import com.epam.esm.entity.TagTrendBucket;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * @author VChaikovski
+ * @project certificates-shop-backend
+ * The type Trending tag counter.
+ * <p>
+ * This class counts tag purchases in time bucketed ring buffers: one ring of minute buckets for the last hour
+ * and one ring of hour buckets for the last week. Old buckets are reused when the ring wraps around,
+ * so memory doesn't grow with time. Purchases that weren't stored yet are kept as changes,
+ * which are periodically added to the stored buckets, after that the rings are restored from database,
+ * so counters include the purchases counted by other instances.
+ */
+@Component
+public class TrendingTagCounter {
+    private static final Comparator<Map.Entry<Long, Long>> BY_PURCHASES = Map.Entry.<Long, Long>comparingByValue()
+            .reversed()
+            .thenComparing(Map.Entry.comparingByKey());
+
+    private final Map<Integer, Ring> rings = new HashMap<>();
+    private Map<BucketKey, Long> changes = new HashMap<>();
+
+    /**
+     * Instantiates a new Trending tag counter.
+     */
+    public TrendingTagCounter() {
+        for (TrendingWindow window : TrendingWindow.values()) {
+            Ring ring = rings.get(window.getBucketMinutes());
+            if (ring == null || ring.size() < window.getBucketCount()) {
+                rings.put(window.getBucketMinutes(), new Ring(window.getBucketCount()));
+            }
+        }
+    }
+
+    /**
+     * Current minute long.
+     *
+     * @return the number of minutes since epoch
+     */
+    public long currentMinute() {
+        return TimeUnit.MILLISECONDS.toMinutes(System.currentTimeMillis());
+    }
+
+    /**
+     * To minute long.
+     *
+     * @param dateTime the date time
+     * @return the number of minutes since epoch
+     */
+    public long toMinute(LocalDateTime dateTime) {
+        return TimeUnit.SECONDS.toMinutes(dateTime.atZone(ZoneId.systemDefault()).toEpochSecond());
+    }
+
+    /**
+     * Record.
+     * <p>
+     * This method adds purchases of tags made at given minute. If a transaction is active purchases are added
+     * after it's committed, otherwise at once.
+     *
+     * @param purchases the purchases by tag ids
+     * @param minute    the number of minutes since epoch
+     */
+    public void record(Map<Long, Long> purchases, long minute) {
+        if (purchases.isEmpty()) {
+            return;
+        }
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    add(purchases, minute);
+                }
+            });
+        } else {
+            add(purchases, minute);
+        }
+    }
+
+    /**
+     * Find top list.
+     *
+     * @param window the window
+     * @param minute the current number of minutes since epoch
+     * @return the purchases by tag ids ordered by purchases
+     */
+    public synchronized List<Map.Entry<Long, Long>> findTop(TrendingWindow window, long minute) {
+        Ring ring = rings.get(window.getBucketMinutes());
+        long lastSlot = minute / window.getBucketMinutes();
+        Map<Long, Long> purchases = ring.sum(lastSlot - window.getBucketCount() + 1, lastSlot);
+        return purchases.entrySet()
+                .stream()
+                .sorted(BY_PURCHASES)
+                .toList();
+    }
+
+    /**
+     * Drain changes list.
+     *
+     * @return the purchases that were counted after the previous drain
+     */
+    public synchronized List<TagTrendBucket> drainChanges() {
+        List<TagTrendBucket> drained = new ArrayList<>();
+        changes.forEach((k, v) -> drained.add(new TagTrendBucket(k.bucketMinutes, k.slot, k.tagId, v)));
+        changes = new HashMap<>();
+        return drained;
+    }
+
+    /**
+     * Return changes.
+     * <p>
+     * This method gives back drained changes that couldn't be stored, so they are stored next time.
+     *
+     * @param buckets the buckets
+     */
+    public synchronized void returnChanges(List<TagTrendBucket> buckets) {
+        buckets.forEach(b -> changes.merge(new BucketKey(b.getBucketMinutes(), b.getSlot(), b.getTagId()),
+                b.getPurchases(), Long::sum));
+    }
+
+    /**
+     * Restore.
+     * <p>
+     * This method replaces the counters with stored buckets and adds the changes that weren't stored yet.
+     *
+     * @param buckets the stored buckets
+     */
+    public synchronized void restore(List<TagTrendBucket> buckets) {
+        rings.values().forEach(Ring::clear);
+        buckets.forEach(b -> {
+            Ring ring = rings.get(b.getBucketMinutes());
+            if (ring != null) {
+                ring.add(b.getSlot(), b.getTagId(), b.getPurchases());
+            }
+        });
+        changes.forEach((k, v) -> rings.get(k.bucketMinutes).add(k.slot, k.tagId, v));
+    }
+
+    /**
+     * Gets first slots.
+     *
+     * @param minute the current number of minutes since epoch
+     * @return the oldest slots kept in memory by bucket lengths
+     */
+    public Map<Integer, Long> getFirstSlots(long minute) {
+        Map<Integer, Long> firstSlots = new HashMap<>();
+        rings.forEach((bucketMinutes, ring) -> firstSlots.put(bucketMinutes, minute / bucketMinutes - ring.size() + 1));
+        return firstSlots;
+    }
+
+    private synchronized void add(Map<Long, Long> purchases, long minute) {
+        rings.forEach((bucketMinutes, ring) -> {
+            long slot = minute / bucketMinutes;
+            purchases.forEach((tagId, count) -> {
+                ring.add(slot, tagId, count);
+                changes.merge(new BucketKey(bucketMinutes, slot, tagId), count, Long::sum);
+            });
+        });
+    }
+
+    private static final class Ring {
+        private final long[] slots;
+        private final List<Map<Long, Long>> buckets;
+
+        private Ring(int size) {
+            slots = new long[size];
+            buckets = new ArrayList<>(size);
+            for (int i = 0; i < size; i++) {
+                buckets.add(new HashMap<>());
+            }
+            clear();
+        }
+
+        private int size() {
+            return slots.length;
+        }
+
+        private void add(long slot, long tagId, long purchases) {
+            int index = (int) Math.floorMod(slot, (long) slots.length);
+            if (slots[index] > slot) {
+                return;
+            }
+            if (slots[index] < slot) {
+                slots[index] = slot;
+                buckets.get(index).clear();
+            }
+            buckets.get(index).merge(tagId, purchases, Long::sum);
+        }
+
+        private Map<Long, Long> sum(long firstSlot, long lastSlot) {
+            Map<Long, Long> sum = new HashMap<>();
+            for (int i = 0; i < slots.length; i++) {
+                if (slots[i] >= firstSlot && slots[i] <= lastSlot) {
+                    buckets.get(i).forEach((tagId, purchases) -> sum.merge(tagId, purchases, Long::sum));
+                }
+            }
+            return sum;
+        }
+
+        private void clear() {
+            Arrays.fill(slots, Long.MIN_VALUE);
+            buckets.forEach(Map::clear);
+        }
+    }
+
+    private static final class BucketKey {
+        private final int bucketMinutes;
+        private final long slot;
+        private final long tagId;
+
+        private BucketKey(int bucketMinutes, long slot, long tagId) {
+            this.bucketMinutes = bucketMinutes;
+            this.slot = slot;
+            this.tagId = tagId;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (o == null || getClass() != o.getClass()) return false;
+            BucketKey that = (BucketKey) o;
+            return bucketMinutes == that.bucketMinutes && slot == that.slot && tagId == that.tagId;
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(bucketMinutes, slot, tagId);
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package com.epam.esm.util;
+
+import java.util.Arrays;
+import java.util.Locale;
+
+/**
+ * @author VChaikovski
+ * @project certificates-shop-backend
+ * The enum Trending window.
+ * <p>
+ * This enum describes the time windows trending tags are counted over. Every window is a number of the latest buckets
+ * of the same length.
+ */
+public enum TrendingWindow {
+    /**
+     * The last hour counted by minutes.
+     */
+    HOUR(1, 60),
+    /**
+     * The last day counted by hours.
+     */
+    DAY(60, 24),
+    /**
+     * The last week counted by hours.
+     */
+    WEEK(60, 168);
+
+    private final int bucketMinutes;
+    private final int bucketCount;
+
+    TrendingWindow(int bucketMinutes, int bucketCount) {
+        this.bucketMinutes = bucketMinutes;
+        this.bucketCount = bucketCount;
+    }
+
+    /**
+     * Gets bucket minutes.
+     *
+     * @return the bucket length in minutes
+     */
+    public int getBucketMinutes() {
+        return bucketMinutes;
+    }
+
+    /**
+     * Gets bucket count.
+     *
+     * @return the number of buckets in the window
+     */
+    public int getBucketCount() {
+        return bucketCount;
+    }
+
+    /**
+     * Find by name trending window.
+     *
+     * @param name the name ignoring case
+     * @return the trending window or null if there is no window with such name
+     */
+    public static TrendingWindow findByName(String name) {
+        return name == null ? null : Arrays.stream(values())
+                .filter(w -> w.name().equals(name.toUpperCase(Locale.ROOT)))
+                .findAny()
+                .orElse(null);
+    }
+}
@@ -54,6 +54,14 @@ public interface DataValidator {
      */
     boolean isParamValid(String param);
 
+    /**
+     * Is idempotency key valid boolean.
+     *
+     * @param idempotencyKey the idempotency key
+     * @return the boolean
+     */
+    boolean isIdempotencyKeyValid(String idempotencyKey);
+
     /**
      * Is tags valid boolean.
      *
@@ -19,6 +19,7 @@ public class DataValidatorImpl implements DataValidator {
     private static final String NAME_REGEXP = "\\w[\\w\\s-]{2,100}";
     private static final String DESCRIPTION_REGEXP = "[^><]{3,300}";
     private static final String PARAM_REGEXP = "[^><]{3,50}";
+    private static final String IDEMPOTENCY_KEY_REGEXP = "[^><]{3,255}";
     private static final String EMAIL_REGEX = "(\\w[\\w.-]{2,34}@\\p{Alpha}{2,10}\\.\\p{Alpha}{2,4})";
     private static final String DATE_REGEX = "20\\d{2}-((0[1-9])|(1[0-2]))-((0[1-9])|([1-2]\\d)|(3[01]))";
 
@@ -48,6 +49,11 @@ public class DataValidatorImpl implements DataValidator {
         return param != null && param.matches(PARAM_REGEXP);
     }
 
+    @Override
+    public boolean isIdempotencyKeyValid(String idempotencyKey) {
+        return idempotencyKey != null && idempotencyKey.matches(IDEMPOTENCY_KEY_REGEXP);
+    }
+
     @Override
     public boolean isTagsValid(Set<Tag> tags) {
         return tags.stream().allMatch(t -> isNameValid(t.getName()));
@@ -0,0 +1,110 @@
+package com.epam.esm.dao.impl;
+
+import com.epam.esm.entity.ArchivedOrder;
+import com.epam.esm.entity.Order;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import javax.persistence.EntityManager;
+import javax.persistence.TypedQuery;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static com.epam.esm.dao.QueryStorage.FIND_ARCHIVED_ORDER;
+import static com.epam.esm.dao.QueryStorage.FIND_ORDER;
+import static com.epam.esm.dao.RequestParamName.COST;
+import static com.epam.esm.dao.RequestParamName.CREATE_DATE;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author VChaikovski
+ * @project certificates-shop-backend
+ * The type OrderDaoImplTest.
+ * <p>
+ * This class includes methods for testing the OrderDaoImpl class.
+ */
+class OrderDaoImplTest {
+    private static final long ARCHIVE_AGE_DAYS = 365;
+
+    private OrderDaoImpl orderDao;
+    private EntityManager entityManagerMock;
+    private TypedQuery<Order> orderQueryMock;
+    private TypedQuery<ArchivedOrder> archivedOrderQueryMock;
+    private Order liveOrder;
+    private ArchivedOrder archivedOrder;
+
+    /**
+     * Configuration of mocks.
+     */
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void configureMock() {
+        entityManagerMock = Mockito.mock(EntityManager.class);
+        orderQueryMock = Mockito.mock(TypedQuery.class, Mockito.RETURNS_SELF);
+        archivedOrderQueryMock = Mockito.mock(TypedQuery.class, Mockito.RETURNS_SELF);
+        orderDao = new OrderDaoImpl(ARCHIVE_AGE_DAYS);
+        ReflectionTestUtils.setField(orderDao, "entityManager", entityManagerMock);
+
+        liveOrder = new Order();
+        liveOrder.setId(2);
+        archivedOrder = new ArchivedOrder();
+        ReflectionTestUtils.setField(archivedOrder, "id", 1L);
+        Mockito.doReturn(orderQueryMock).when(entityManagerMock)
+                .createQuery(Mockito.startsWith(FIND_ORDER), Mockito.eq(Order.class));
+        Mockito.doReturn(archivedOrderQueryMock).when(entityManagerMock)
+                .createQuery(Mockito.startsWith(FIND_ARCHIVED_ORDER), Mockito.eq(ArchivedOrder.class));
+        Mockito.doReturn(new ArrayList<>(List.of(liveOrder))).when(orderQueryMock).getResultList();
+        Mockito.doReturn(List.of(archivedOrder)).when(archivedOrderQueryMock).getResultList();
+    }
+
+    /**
+     * Testing the findOrderByCostAndCreateDate method with a recent single date reads archived orders too.
+     */
+    @Test
+    void findOrderByCostAndCreateDateWhenSingleRecentDate() {
+        List<Order> orders = orderDao.findOrderByCostAndCreateDate(Map.of(CREATE_DATE, List.of(LocalDate.now())));
+
+        assertEquals(2, orders.size());
+        assertTrue(orders.stream().anyMatch(o -> o.getId() == 1 && o.isArchived()));
+    }
+
+    /**
+     * Testing the findOrderByCostAndCreateDate method with a date range that is entirely recent skips the archive.
+     */
+    @Test
+    void findOrderByCostAndCreateDateWhenRecentRange() {
+        List<Order> orders = orderDao.findOrderByCostAndCreateDate(Map.of(CREATE_DATE,
+                List.of(LocalDate.now().minusDays(ARCHIVE_AGE_DAYS - 30), LocalDate.now())));
+
+        assertEquals(List.of(liveOrder), orders);
+        Mockito.verify(entityManagerMock, Mockito.never())
+                .createQuery(Mockito.startsWith(FIND_ARCHIVED_ORDER), Mockito.eq(ArchivedOrder.class));
+    }
+
+    /**
+     * Testing the findOrderByCostAndCreateDate method with a date range that starts before the archive age reads archived orders too.
+     */
+    @Test
+    void findOrderByCostAndCreateDateWhenRangeReachesArchive() {
+        List<Order> orders = orderDao.findOrderByCostAndCreateDate(Map.of(CREATE_DATE,
+                List.of(LocalDate.now().minusDays(ARCHIVE_AGE_DAYS + 30), LocalDate.now())));
+
+        assertEquals(2, orders.size());
+    }
+
+    /**
+     * Testing the findOrderByCostAndCreateDate method without a date filter skips the archive.
+     */
+    @Test
+    void findOrderByCostAndCreateDateWhenNoDate() {
+        orderDao.findOrderByCostAndCreateDate(Map.of(COST, List.of(BigDecimal.TEN)));
+
+        Mockito.verify(entityManagerMock, Mockito.never())
+                .createQuery(Mockito.startsWith(FIND_ARCHIVED_ORDER), Mockito.eq(ArchivedOrder.class));
+    }
+}
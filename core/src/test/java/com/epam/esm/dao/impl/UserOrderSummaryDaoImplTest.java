@@ -0,0 +1,106 @@
+package com.epam.esm.dao.impl;
+
+import com.epam.esm.entity.UserOrderSummary;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import javax.persistence.EntityManager;
+import javax.persistence.LockModeType;
+import javax.persistence.Query;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static com.epam.esm.dao.QueryStorage.INSERT_EMPTY_USER_ORDER_SUMMARY;
+import static com.epam.esm.dao.QueryStorage.RECOUNT_USER_ORDER_SUMMARY;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author VChaikovski
+ * @project certificates-shop-backend
+ * The type UserOrderSummaryDaoImplTest.
+ * <p>
+ * This class includes methods for testing the UserOrderSummaryDaoImpl class.
+ */
+class UserOrderSummaryDaoImplTest {
+    private static final long USER_ID = 7;
+    private static final int THREADS = 2;
+
+    private UserOrderSummaryDaoImpl summaryDao;
+    private EntityManager entityManagerMock;
+    private Query insertQueryMock;
+    private Query recountQueryMock;
+    private UserOrderSummary summary;
+
+    /**
+     * Configuration of mocks.
+     * <p>
+     * The insert query behaves like the unique user id of the summaries table: only the first insert creates the row.
+     */
+    @BeforeEach
+    void configureMock() {
+        AtomicBoolean rowCreated = new AtomicBoolean();
+        entityManagerMock = Mockito.mock(EntityManager.class);
+        insertQueryMock = Mockito.mock(Query.class, Mockito.RETURNS_SELF);
+        recountQueryMock = Mockito.mock(Query.class, Mockito.RETURNS_SELF);
+        summaryDao = new UserOrderSummaryDaoImpl();
+        ReflectionTestUtils.setField(summaryDao, "entityManager", entityManagerMock);
+        summary = new UserOrderSummary(USER_ID);
+
+        Mockito.doReturn(insertQueryMock).when(entityManagerMock).createNativeQuery(INSERT_EMPTY_USER_ORDER_SUMMARY);
+        Mockito.doReturn(recountQueryMock).when(entityManagerMock).createNativeQuery(RECOUNT_USER_ORDER_SUMMARY);
+        Mockito.doAnswer(i -> rowCreated.compareAndSet(false, true) ? 1 : 0).when(insertQueryMock).executeUpdate();
+        Mockito.doReturn(1).when(recountQueryMock).executeUpdate();
+        Mockito.doReturn(summary).when(entityManagerMock)
+                .find(UserOrderSummary.class, USER_ID, LockModeType.PESSIMISTIC_WRITE);
+    }
+
+    /**
+     * Testing the findByUserIdForUpdate method when the summary is absent and is created by concurrent first orders.
+     */
+    @Test
+    void findByUserIdForUpdateWhenConcurrentFirstOrders() throws Exception {
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        try {
+            List<Future<UserOrderSummary>> results = new ArrayList<>();
+            Callable<UserOrderSummary> firstOrder = () -> {
+                start.await();
+                return summaryDao.findByUserIdForUpdate(USER_ID);
+            };
+            for (int i = 0; i < THREADS; i++) {
+                results.add(executor.submit(firstOrder));
+            }
+            start.countDown();
+            for (Future<UserOrderSummary> result : results) {
+                assertEquals(summary, result.get(5, TimeUnit.SECONDS));
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        Mockito.verify(insertQueryMock, Mockito.times(THREADS)).executeUpdate();
+        Mockito.verify(recountQueryMock, Mockito.times(1)).executeUpdate();
+    }
+
+    /**
+     * Testing the findByUserIdForUpdate method when the summary is present.
+     */
+    @Test
+    void findByUserIdForUpdateWhenSummaryPresent() {
+        summaryDao.findByUserIdForUpdate(USER_ID);
+        summaryDao.findByUserIdForUpdate(USER_ID);
+
+        Mockito.verify(recountQueryMock, Mockito.times(1)).executeUpdate();
+        Mockito.verify(entityManagerMock, Mockito.times(2))
+                .find(UserOrderSummary.class, USER_ID, LockModeType.PESSIMISTIC_WRITE);
+    }
+}
@@ -0,0 +1,67 @@
+package com.epam.esm.event;
+
+import com.epam.esm.dao.impl.AuditEntryDaoImpl;
+import com.epam.esm.entity.AuditEntry;
+import com.epam.esm.entity.Order;
+import com.epam.esm.entity.User;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mockito;
+import org.mockito.MockitoAnnotations;
+import org.mockito.Spy;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author VChaikovski
+ * @project certificates-shop-backend
+ * <p>
+ * The type Order audit listener test.
+ * <p>
+ * This class includes methods for testing the OrderAuditListener class.
+ */
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class OrderAuditListenerTest {
+    private OrderAuditListener listener;
+    @Spy
+    private AuditEntryDaoImpl auditEntryDaoMock;
+
+    /**
+     * Configuration of mocks.
+     */
+    @BeforeEach
+    void configureMock() {
+        MockitoAnnotations.openMocks(this);
+        listener = new OrderAuditListener(auditEntryDaoMock);
+    }
+
+    /**
+     * Testing the onOrderCreated method.
+     */
+    @Test
+    void onOrderCreated() {
+        ArgumentCaptor<AuditEntry> entryCaptor = ArgumentCaptor.forClass(AuditEntry.class);
+        User user = new User();
+        user.setId(3);
+        Order order = new Order();
+        order.setId(1);
+        order.setUser(user);
+        order.setCost(new BigDecimal(50));
+        order.setCreateDate(LocalDateTime.of(2022, 5, 17, 23, 30, 0));
+        Mockito.doAnswer(i -> i.getArgument(0)).when(auditEntryDaoMock).insert(Mockito.any(AuditEntry.class));
+        listener.onOrderCreated(order);
+        Mockito.verify(auditEntryDaoMock).insert(entryCaptor.capture());
+
+        AuditEntry entry = entryCaptor.getValue();
+        assertEquals(OrderCreatedEvent.TYPE, entry.getAction());
+        assertEquals(1, entry.getEntityId());
+        assertEquals(3, entry.getUserId());
+        assertEquals(0, new BigDecimal(50).compareTo(entry.getAmount()));
+        assertEquals(order.getCreateDate(), entry.getCreateDate());
+    }
+}
@@ -0,0 +1,109 @@
+package com.epam.esm.event;
+
+import com.epam.esm.dao.impl.OrderDaoImpl;
+import com.epam.esm.dao.impl.OutboxEventDaoImpl;
+import com.epam.esm.entity.Order;
+import com.epam.esm.entity.OutboxEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.MockitoAnnotations;
+import org.mockito.Spy;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author VChaikovski
+ * @project certificates-shop-backend
+ * <p>
+ * The type Order event processor test.
+ * <p>
+ * This class includes methods for testing the OrderEventProcessor class.
+ */
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class OrderEventProcessorTest {
+    private OrderEventProcessor processor;
+    @Spy
+    private OutboxEventDaoImpl outboxEventDaoMock;
+    @Spy
+    private OrderDaoImpl orderDaoMock;
+    @Mock
+    private OrderCreatedListener listenerMock;
+
+    private long eventId;
+    private long orderId;
+    private OutboxEvent event;
+    private Order order;
+
+    /**
+     * Configuration of mocks.
+     */
+    @BeforeEach
+    void configureMock() {
+        MockitoAnnotations.openMocks(this);
+        processor = new OrderEventProcessor(outboxEventDaoMock, orderDaoMock, List.of(listenerMock));
+        eventId = 7;
+        orderId = 1;
+        event = new OutboxEvent(OrderCreatedEvent.TYPE, orderId, LocalDateTime.of(2022, 5, 17, 23, 30, 0));
+        event.setId(eventId);
+        order = new Order();
+        order.setId(orderId);
+    }
+
+    /**
+     * Testing the process method.
+     */
+    @Test
+    void process() {
+        Mockito.doReturn(event).when(outboxEventDaoMock).findByIdForUpdate(eventId);
+        Mockito.doReturn(order).when(orderDaoMock).findById(orderId);
+        processor.process(eventId);
+
+        Mockito.verify(listenerMock).onOrderCreated(order);
+        assertTrue(event.isProcessed());
+        assertNotNull(event.getProcessedDate());
+    }
+
+    /**
+     * Testing the process method when the event is already processed.
+     */
+    @Test
+    void processWhenEventAlreadyProcessed() {
+        event.setProcessed(true);
+        Mockito.doReturn(event).when(outboxEventDaoMock).findByIdForUpdate(eventId);
+        processor.process(eventId);
+
+        Mockito.verify(listenerMock, Mockito.never()).onOrderCreated(Mockito.any(Order.class));
+    }
+
+    /**
+     * Testing the process method when the order is already deleted.
+     */
+    @Test
+    void processWhenOrderAbsent() {
+        Mockito.doReturn(event).when(outboxEventDaoMock).findByIdForUpdate(eventId);
+        Mockito.doReturn(null).when(orderDaoMock).findById(orderId);
+        processor.process(eventId);
+
+        Mockito.verify(listenerMock, Mockito.never()).onOrderCreated(Mockito.any(Order.class));
+        assertTrue(event.isProcessed());
+    }
+
+    /**
+     * Testing the process method when a listener fails.
+     */
+    @Test
+    void processWhenListenerFails() {
+        Mockito.doReturn(event).when(outboxEventDaoMock).findByIdForUpdate(eventId);
+        Mockito.doReturn(order).when(orderDaoMock).findById(orderId);
+        Mockito.doThrow(new IllegalStateException()).when(listenerMock).onOrderCreated(order);
+
+        assertThrows(IllegalStateException.class, () -> processor.process(eventId));
+        assertFalse(event.isProcessed());
+    }
+}
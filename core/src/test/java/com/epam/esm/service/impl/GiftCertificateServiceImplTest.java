@@ -1,6 +1,7 @@
 package com.epam.esm.service.impl;
 
 import com.epam.esm.dao.impl.GiftCertificateDaoImpl;
+import com.epam.esm.dao.impl.TagDaoImpl;
 import com.epam.esm.dto.GiftCertificateDto;
 import com.epam.esm.dto.PageDto;
 import com.epam.esm.entity.GiftCertificate;
@@ -10,13 +11,18 @@ import com.epam.esm.entity.User;
 import com.epam.esm.exception.ApplicationDuplicateException;
 import com.epam.esm.exception.ApplicationNotFoundException;
 import com.epam.esm.exception.ApplicationNotValidDataException;
+import com.epam.esm.util.BestsellerRanking;
+import com.epam.esm.util.CatalogueVersion;
+import com.epam.esm.util.MultiGetProvider;
 import com.epam.esm.util.PaginationProvider;
+import com.epam.esm.util.TagDictionary;
 import com.epam.esm.util.validator.impl.DataValidatorImpl;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.TestInstance;
 import org.mockito.InjectMocks;
+import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.MockitoAnnotations;
 import org.mockito.Spy;
@@ -25,6 +31,7 @@ import org.springframework.validation.BindingResult;
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -45,11 +52,21 @@ class GiftCertificateServiceImplTest {
     @Spy
     private GiftCertificateDaoImpl certificateDaoMock;
     @Spy
+    private TagDaoImpl tagDaoMock;
+    @Spy
     private TagServiceImpl tagServiceMock;
     @Spy
     private DataValidatorImpl dataValidatorMock;
     @Spy
     private PaginationProvider paginationProviderMock;
+    @Mock
+    private CatalogueVersion catalogueVersionMock;
+    @Spy
+    private MultiGetProvider multiGetProviderMock;
+    @Spy
+    private TagDictionary tagDictionaryMock;
+    @Spy
+    private BestsellerRanking bestsellerRankingMock;
     @Spy
     private BindingResult bindingResultMock;
 
@@ -232,6 +249,32 @@ class GiftCertificateServiceImplTest {
         assertEquals(certificates, certificateList);
     }
 
+    /**
+     * Testing the findCertificates method when only certificate columns are requested.
+     */
+    @Test
+    void findAllCertificatesWhenFieldsAreColumns() {
+        params = Map.of("fields", List.of("name", "price", "links"));
+        Mockito.doReturn(certificates).when(certificateDaoMock).findAll(Mockito.anyList(), Mockito.anyString());
+        List<GiftCertificate> certificateList = certificateService.findCertificates(params).getContent();
+
+        assertEquals(certificates, certificateList);
+        Mockito.verify(certificateDaoMock).findAll(List.of("id", "name", "price"), "");
+    }
+
+    /**
+     * Testing the findCertificates method when not only certificate columns are requested.
+     */
+    @Test
+    void findAllCertificatesWhenFieldsAreNotColumns() {
+        params = Map.of("fields", List.of("name", "tags"));
+        Mockito.doReturn(certificates).when(certificateDaoMock).findAll(Mockito.anyString());
+        List<GiftCertificate> certificateList = certificateService.findCertificates(params).getContent();
+
+        assertEquals(certificates, certificateList);
+        Mockito.verify(certificateDaoMock, Mockito.never()).findAll(Mockito.anyList(), Mockito.anyString());
+    }
+
     /**
      * Testing the findCertificates method by a name when the name is correct.
      */
@@ -328,6 +371,39 @@ class GiftCertificateServiceImplTest {
         assertEquals(certificateOne, certificate);
     }
 
+    /**
+     * Testing the addGiftCertificate method changes the catalogue version.
+     */
+    @Test
+    void addGiftCertificateChangesCatalogueVersion() {
+        Mockito.doReturn(List.of()).when(certificateDaoMock).findByName(Mockito.anyString(), Mockito.anyString());
+        Mockito.doReturn(certificateOne).when(certificateDaoMock).insert(Mockito.any(GiftCertificate.class));
+        certificateService.addGiftCertificate(certificateDto, bindingResultMock);
+
+        Mockito.verify(catalogueVersionMock).increment();
+    }
+
+    /**
+     * Testing the addGiftCertificate method resolves known tags with the tag dictionary.
+     */
+    @Test
+    void addGiftCertificateResolvesTagsWithDictionary() {
+        Tag knownTag = new Tag("known");
+        knownTag.setId(7);
+        tagDictionaryMock.putAll(List.of(knownTag));
+        GiftCertificateDto dto = new GiftCertificateDto("fourth", description, new BigDecimal(40), 4,
+                Set.of(new Tag("known"), new Tag("new")));
+        Mockito.doReturn(List.of()).when(certificateDaoMock).findByName(Mockito.anyString(), Mockito.anyString());
+        Mockito.doReturn(List.of(knownTag)).when(tagDaoMock).findByIds(List.of(7L));
+        Mockito.doReturn(List.of()).when(tagDaoMock).findByNames(List.of("new"));
+        Mockito.doAnswer(i -> i.getArgument(0)).when(certificateDaoMock).insert(Mockito.any(GiftCertificate.class));
+        Mockito.doReturn(2).when(tagDaoMock).increaseCertificateCount(Mockito.anyList());
+        GiftCertificate certificate = certificateService.addGiftCertificate(dto, bindingResultMock);
+
+        assertEquals(Set.of(knownTag, new Tag("new")), certificate.getTags());
+        Mockito.verify(tagDaoMock, Mockito.never()).findByName(Mockito.anyString());
+    }
+
     /**
      * Testing the addGiftCertificate method when such a certificate is already present.
      */
@@ -362,6 +438,36 @@ class GiftCertificateServiceImplTest {
         assertEquals(certificateTwo, certificate);
     }
 
+    /**
+     * Testing the updateGiftCertificate method changes certificate counters of linked and unlinked tags only.
+     */
+    @Test
+    void updateGiftCertificateChangesTagCounters() {
+        Tag tagOne = new Tag("one");
+        tagOne.setId(1);
+        Tag tagTwo = new Tag("two");
+        tagTwo.setId(2);
+        Tag tagThree = new Tag("three");
+        tagThree.setId(3);
+        GiftCertificate certificate = new GiftCertificate("fifth", description, new BigDecimal(50), 5,
+                LocalDateTime.of(2022, 4, 15, 20, 15, 40, 50), LocalDateTime.of(2022, 4, 15, 20, 15, 40, 50),
+                new HashSet<>(Set.of(tagOne, tagTwo)));
+        GiftCertificateDto dto = new GiftCertificateDto(null, null, null, 0, Set.of(new Tag("two"), new Tag("three")));
+        tagDictionaryMock.putAll(List.of(tagTwo, tagThree));
+        Mockito.doReturn(certificate).when(certificateDaoMock).findById(Mockito.anyLong());
+        Mockito.doAnswer(i -> i.getArgument(0)).when(certificateDaoMock).update(Mockito.any(GiftCertificate.class));
+        Mockito.doReturn(List.of(tagTwo, tagThree)).when(tagDaoMock).findByIds(Mockito.anyList());
+        Mockito.doReturn(1).when(tagDaoMock).increaseCertificateCount(Mockito.anyList());
+        Mockito.doReturn(1).when(tagDaoMock).decreaseCertificateCount(Mockito.anyList());
+        Mockito.doReturn(List.of(1L)).when(tagDaoMock).deleteUnused(Mockito.anyList());
+        certificateService.updateGiftCertificate(dto, id);
+
+        Mockito.verify(tagDaoMock).increaseCertificateCount(List.of(3L));
+        Mockito.verify(tagDaoMock).decreaseCertificateCount(List.of(1L));
+        Mockito.verify(tagDaoMock).deleteUnused(List.of(1L));
+        Mockito.verify(certificateDaoMock, Mockito.never()).findByTagName(Mockito.anyList(), Mockito.anyString());
+    }
+
     /**
      * Testing the updateGiftCertificate method when parameters are the same.
      */
@@ -384,6 +490,29 @@ class GiftCertificateServiceImplTest {
         assertDoesNotThrow(() -> certificateService.deleteGiftCertificate(id));
     }
 
+    /**
+     * Testing the deleteGiftCertificate method removes from the tag dictionary only the tags that were deleted.
+     */
+    @Test
+    void deleteGiftCertificateKeepsUsedTagsInDictionary() {
+        Tag orphanTag = new Tag("orphan tag");
+        orphanTag.setId(41);
+        Tag usedTag = new Tag("still used tag");
+        usedTag.setId(42);
+        GiftCertificate certificate = new GiftCertificate("sixth", description, new BigDecimal(50), 5,
+                LocalDateTime.of(2022, 4, 15, 20, 15, 40, 50), LocalDateTime.of(2022, 4, 15, 20, 15, 40, 50),
+                new HashSet<>(Set.of(orphanTag, usedTag)));
+        tagDictionaryMock.putAll(List.of(orphanTag, usedTag));
+        Mockito.doReturn(certificate).when(certificateDaoMock).findById(Mockito.anyLong());
+        Mockito.doNothing().when(certificateDaoMock).delete(Mockito.any(GiftCertificate.class));
+        Mockito.doReturn(2).when(tagDaoMock).decreaseCertificateCount(Mockito.anyList());
+        Mockito.doReturn(List.of(41L)).when(tagDaoMock).deleteUnused(Mockito.anyList());
+        certificateService.deleteGiftCertificate(id);
+
+        assertNull(tagDictionaryMock.findId("orphan tag"));
+        assertEquals(42L, tagDictionaryMock.findId("still used tag"));
+    }
+
     /**
      * Testing the deleteGiftCertificate method when a certificate is absent.
      */
@@ -393,4 +522,29 @@ class GiftCertificateServiceImplTest {
         Mockito.verify(certificateDaoMock, Mockito.never()).delete(Mockito.any(GiftCertificate.class));
         assertThrows(ApplicationNotFoundException.class, () -> certificateService.deleteGiftCertificate(id), message);
     }
+
+    /**
+     * Testing the findTopCertificates method.
+     */
+    @Test
+    void findTopCertificates() {
+        GiftCertificate popular = new GiftCertificate();
+        popular.setId(10);
+        popular.setPopularity(20);
+        GiftCertificate lessPopular = new GiftCertificate();
+        lessPopular.setId(11);
+        lessPopular.setPopularity(5);
+        bestsellerRankingMock.offerAll(List.of(lessPopular, popular));
+        Mockito.doReturn(List.of(lessPopular, popular)).when(certificateDaoMock).findByIds(Mockito.anyList());
+
+        assertEquals(List.of(popular, lessPopular), certificateService.findTopCertificates(2));
+    }
+
+    /**
+     * Testing the findTopCertificates method when the limit is not correct.
+     */
+    @Test
+    void findTopCertificatesWithNotCorrectLimit() {
+        assertThrows(ApplicationNotValidDataException.class, () -> certificateService.findTopCertificates(0));
+    }
 }
\ No newline at end of file
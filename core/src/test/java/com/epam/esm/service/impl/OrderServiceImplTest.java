@@ -1,23 +1,36 @@
 package com.epam.esm.service.impl;
 
+import com.epam.esm.dao.impl.IdempotencyKeyDaoImpl;
 import com.epam.esm.dao.impl.OrderDaoImpl;
+import com.epam.esm.dao.impl.OutboxEventDaoImpl;
 import com.epam.esm.dao.impl.UserDaoImpl;
+import com.epam.esm.dao.impl.UserOrderSummaryDaoImpl;
 import com.epam.esm.dto.OrderDto;
 import com.epam.esm.entity.GiftCertificate;
+import com.epam.esm.entity.IdempotencyKey;
 import com.epam.esm.entity.Order;
+import com.epam.esm.entity.OrderLine;
+import com.epam.esm.entity.OutboxEvent;
 import com.epam.esm.entity.User;
+import com.epam.esm.entity.UserOrderSummary;
+import com.epam.esm.event.OrderCreatedEvent;
 import com.epam.esm.exception.ApplicationNotFoundException;
 import com.epam.esm.exception.ApplicationNotValidDataException;
+import com.epam.esm.exception.ApplicationUnprocessableException;
+import com.epam.esm.util.MultiGetProvider;
 import com.epam.esm.util.PaginationProvider;
 import com.epam.esm.util.validator.DataValidator;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.TestInstance;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
+import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.MockitoAnnotations;
 import org.mockito.Spy;
+import org.springframework.context.ApplicationEventPublisher;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
@@ -45,9 +58,19 @@ class OrderServiceImplTest {
     @Spy
     private OrderDaoImpl orderDaoMock;
     @Spy
+    private IdempotencyKeyDaoImpl idempotencyKeyDaoMock;
+    @Spy
+    private OutboxEventDaoImpl outboxEventDaoMock;
+    @Spy
+    private UserOrderSummaryDaoImpl summaryDaoMock;
+    @Mock
+    private ApplicationEventPublisher eventPublisherMock;
+    @Spy
     private DataValidator dataValidatorMock;
     @Spy
     private PaginationProvider paginationProviderMock;
+    @Spy
+    private MultiGetProvider multiGetProviderMock;
 
     private long id;
     private long notCorrectId;
@@ -111,6 +134,8 @@ class OrderServiceImplTest {
         Mockito.doReturn(true).when(dataValidatorMock).isDateValid(dateStr);
         Mockito.doReturn(true).when(dataValidatorMock).isNumberValid(Mockito.longThat(a -> a > 0));
         Mockito.doReturn(false).when(dataValidatorMock).isNumberValid(Mockito.longThat(a -> (a <= 0)));
+        Mockito.doAnswer(i -> i.getArgument(0)).when(outboxEventDaoMock).insert(Mockito.any(OutboxEvent.class));
+        Mockito.doReturn(null).when(summaryDaoMock).findByUserIdForUpdate(Mockito.anyLong());
     }
 
     /**
@@ -120,7 +145,7 @@ class OrderServiceImplTest {
     void addOrder() {
         User user = new User();
         user.setEmail("some_email@tut.by");
-        Mockito.doReturn(certificate).when(certificateServiceMock).findCertificateById(Mockito.anyLong());
+        Mockito.doReturn(certificate).when(certificateServiceMock).findCertificateForOrder(Mockito.anyLong());
         Mockito.doReturn(List.of(user)).when(userDaoMock).findUserByEmail(Mockito.anyString());
         Mockito.doReturn(orderOne).when(orderDaoMock).insert(Mockito.any(Order.class));
         Order order = orderService.addOrder(orderDto);
@@ -128,13 +153,136 @@ class OrderServiceImplTest {
         assertEquals(orderOne, order);
     }
 
+    /**
+     * Testing the addOrder method when the same certificate is ordered several times.
+     */
+    @Test
+    void addOrderWhenCertificateRepeated() {
+        ArgumentCaptor<Order> orderCaptor = ArgumentCaptor.forClass(Order.class);
+        Mockito.doReturn(certificate).when(certificateServiceMock).findCertificateForOrder(Mockito.anyLong());
+        Mockito.doReturn(List.of(new User())).when(userDaoMock).findUserByEmail(Mockito.anyString());
+        Mockito.doReturn(orderOne).when(orderDaoMock).insert(Mockito.any(Order.class));
+        orderService.addOrder(orderDto);
+        Mockito.verify(orderDaoMock).insert(orderCaptor.capture());
+        Order order = orderCaptor.getValue();
+
+        assertEquals(1, order.getLines().size());
+        assertEquals(3, order.getLines().get(0).getQuantity());
+        assertEquals(0, new BigDecimal(150).compareTo(order.getCost()));
+    }
+
+    /**
+     * Testing the addOrder method publishes the order created event.
+     */
+    @Test
+    void addOrderPublishesOrderCreatedEvent() {
+        ArgumentCaptor<OutboxEvent> eventCaptor = ArgumentCaptor.forClass(OutboxEvent.class);
+        Mockito.doReturn(certificate).when(certificateServiceMock).findCertificateForOrder(Mockito.anyLong());
+        Mockito.doReturn(List.of(new User())).when(userDaoMock).findUserByEmail(Mockito.anyString());
+        Mockito.doReturn(orderOne).when(orderDaoMock).insert(Mockito.any(Order.class));
+        orderService.addOrder(orderDto);
+        Mockito.verify(outboxEventDaoMock).insert(eventCaptor.capture());
+
+        assertEquals(OrderCreatedEvent.TYPE, eventCaptor.getValue().getEventType());
+        assertEquals(orderOne.getId(), eventCaptor.getValue().getAggregateId());
+        Mockito.verify(eventPublisherMock).publishEvent(Mockito.any(OrderCreatedEvent.class));
+    }
+
+    /**
+     * Testing the addOrder method when an order with the same idempotency key is already created.
+     */
+    @Test
+    void addOrderWhenIdempotencyKeyAlreadyUsed() {
+        OrderDto repeatedOrderDto = new OrderDto();
+        repeatedOrderDto.setUsername("some_username");
+        repeatedOrderDto.setCertificatesId(List.of(5L, 6L, 8L));
+        repeatedOrderDto.setIdempotencyKey("some-idempotency-key");
+        IdempotencyKey idempotencyKey = new IdempotencyKey("some-idempotency-key", null, LocalDateTime.now(), new User(), orderOne);
+        Mockito.doReturn(true).when(dataValidatorMock).isIdempotencyKeyValid(Mockito.anyString());
+        Mockito.doReturn(List.of(new User())).when(userDaoMock).findUserByEmail(Mockito.anyString());
+        Mockito.doReturn(List.of(idempotencyKey)).when(idempotencyKeyDaoMock).findByKeyAndUserId(Mockito.anyString(), Mockito.anyLong());
+        Order order = orderService.addOrder(repeatedOrderDto);
+
+        assertEquals(orderOne, order);
+        Mockito.verify(certificateServiceMock, Mockito.never()).findCertificateForOrder(Mockito.anyLong());
+        Mockito.verify(orderDaoMock, Mockito.never()).insert(Mockito.any(Order.class));
+        Mockito.verify(eventPublisherMock, Mockito.never()).publishEvent(Mockito.any(Object.class));
+    }
+
+    /**
+     * Testing the addOrder method when the idempotency key is repeated with the same request in another order of ids.
+     */
+    @Test
+    void addOrderWhenIdempotencyKeyRepeatedWithSameRequest() {
+        ArgumentCaptor<IdempotencyKey> keyCaptor = ArgumentCaptor.forClass(IdempotencyKey.class);
+        OrderDto firstOrderDto = new OrderDto();
+        firstOrderDto.setUsername("some_username");
+        firstOrderDto.setCertificatesId(List.of(5L, 6L, 8L));
+        firstOrderDto.setIdempotencyKey("some-idempotency-key");
+        Mockito.doReturn(true).when(dataValidatorMock).isIdempotencyKeyValid(Mockito.anyString());
+        Mockito.doReturn(certificate).when(certificateServiceMock).findCertificateForOrder(Mockito.anyLong());
+        Mockito.doReturn(List.of(new User())).when(userDaoMock).findUserByEmail(Mockito.anyString());
+        Mockito.doReturn(List.of()).when(idempotencyKeyDaoMock).findByKeyAndUserId(Mockito.anyString(), Mockito.anyLong());
+        Mockito.doReturn(orderOne).when(orderDaoMock).insert(Mockito.any(Order.class));
+        Mockito.doAnswer(i -> i.getArgument(0)).when(idempotencyKeyDaoMock).insert(Mockito.any(IdempotencyKey.class));
+        orderService.addOrder(firstOrderDto);
+        Mockito.verify(idempotencyKeyDaoMock).insert(keyCaptor.capture());
+
+        OrderDto repeatedOrderDto = new OrderDto();
+        repeatedOrderDto.setUsername("some_username");
+        repeatedOrderDto.setCertificatesId(List.of(8L, 5L, 6L));
+        repeatedOrderDto.setIdempotencyKey("some-idempotency-key");
+        Mockito.doReturn(List.of(keyCaptor.getValue())).when(idempotencyKeyDaoMock)
+                .findByKeyAndUserId(Mockito.anyString(), Mockito.anyLong());
+
+        assertEquals(orderOne, orderService.addOrder(repeatedOrderDto));
+        Mockito.verify(orderDaoMock, Mockito.times(1)).insert(Mockito.any(Order.class));
+    }
+
+    /**
+     * Testing the addOrder method when the idempotency key is reused with another request.
+     */
+    @Test
+    void addOrderWhenIdempotencyKeyReusedWithAnotherRequest() {
+        OrderDto anotherOrderDto = new OrderDto();
+        anotherOrderDto.setUsername("some_username");
+        anotherOrderDto.setCertificatesId(List.of(5L));
+        anotherOrderDto.setIdempotencyKey("some-idempotency-key");
+        IdempotencyKey idempotencyKey = new IdempotencyKey("some-idempotency-key", "not-the-same-hash",
+                LocalDateTime.now(), new User(), orderOne);
+        Mockito.doReturn(true).when(dataValidatorMock).isIdempotencyKeyValid(Mockito.anyString());
+        Mockito.doReturn(List.of(new User())).when(userDaoMock).findUserByEmail(Mockito.anyString());
+        Mockito.doReturn(List.of(idempotencyKey)).when(idempotencyKeyDaoMock).findByKeyAndUserId(Mockito.anyString(), Mockito.anyLong());
+
+        assertThrows(ApplicationUnprocessableException.class, () -> orderService.addOrder(anotherOrderDto));
+        Mockito.verify(orderDaoMock, Mockito.never()).insert(Mockito.any(Order.class));
+    }
+
+    /**
+     * Testing the addOrder method when the idempotency key is not valid.
+     */
+    @Test
+    void addOrderWhenIdempotencyKeyNotValid() {
+        OrderDto notValidOrderDto = new OrderDto();
+        notValidOrderDto.setUsername("some_username");
+        notValidOrderDto.setCertificatesId(List.of(5L));
+        notValidOrderDto.setIdempotencyKey("k".repeat(256));
+        Mockito.doReturn(false).when(dataValidatorMock).isIdempotencyKeyValid(Mockito.anyString());
+        Mockito.doReturn(List.of(new User())).when(userDaoMock).findUserByEmail(Mockito.anyString());
+
+        assertThrows(ApplicationNotValidDataException.class, () -> orderService.addOrder(notValidOrderDto));
+        Mockito.verify(idempotencyKeyDaoMock, Mockito.never()).findByKeyAndUserId(Mockito.anyString(), Mockito.anyLong());
+    }
+
     /**
      * Testing the deleteOrder method.
      */
     @Test
     void deleteOrder() {
+        Order order = new Order();
+        order.setUser(new User());
         Mockito.doNothing().when(orderDaoMock).delete(Mockito.any(Order.class));
-        Mockito.doReturn(new Order()).when(orderDaoMock).findById(id);
+        Mockito.doReturn(order).when(orderDaoMock).findById(id);
 
         assertDoesNotThrow(() -> orderService.deleteOrder(id));
     }
@@ -230,6 +378,29 @@ class OrderServiceImplTest {
         assertThrows(ApplicationNotFoundException.class, () -> orderService.findOrderById(id));
     }
 
+    /**
+     * Testing the findOrderLines method when lines are present.
+     */
+    @Test
+    void findOrderLinesWhenLinesPresent() {
+        List<OrderLine> lines = List.of(new OrderLine(5, new BigDecimal(50), 1));
+        Mockito.doReturn(lines).when(orderDaoMock).findOrderLinesByOrderId(Mockito.anyLong());
+
+        assertEquals(lines, orderService.findOrderLines(id));
+        Mockito.verify(orderDaoMock, Mockito.never()).findById(Mockito.anyLong());
+    }
+
+    /**
+     * Testing the findOrderLines method when the order is absent.
+     */
+    @Test
+    void findOrderLinesWhenOrderAbsent() {
+        Mockito.doReturn(List.of()).when(orderDaoMock).findOrderLinesByOrderId(Mockito.anyLong());
+        Mockito.doReturn(null).when(orderDaoMock).findById(Mockito.anyLong());
+
+        assertThrows(ApplicationNotFoundException.class, () -> orderService.findOrderLines(id));
+    }
+
     /**
      * Testing the findOrderById method when an id is not correct.
      */
@@ -239,4 +410,62 @@ class OrderServiceImplTest {
 
         assertThrows(ApplicationNotValidDataException.class, () -> orderService.findOrderById(notCorrectId));
     }
+
+    /**
+     * Testing the addOrder method changes the order summary of the user.
+     */
+    @Test
+    void addOrderChangesUserSummary() {
+        UserOrderSummary summary = new UserOrderSummary(id);
+        summary.setOrderCount(2);
+        summary.setTotalSpend(new BigDecimal(100));
+        summary.setDistinctCertificates(4);
+        summary.setLastOrderDate(LocalDateTime.of(2022, 5, 1, 12, 0, 0));
+        Order created = new Order();
+        created.setId(4);
+        created.setCost(new BigDecimal(150));
+        created.setCreateDate(LocalDateTime.of(2022, 5, 17, 12, 0, 0));
+        created.setLines(List.of(new OrderLine(5L, new BigDecimal(50), 1), new OrderLine(6L, new BigDecimal(50), 2)));
+        Mockito.doReturn(certificate).when(certificateServiceMock).findCertificateForOrder(Mockito.anyLong());
+        Mockito.doReturn(List.of(new User())).when(userDaoMock).findUserByEmail(Mockito.anyString());
+        Mockito.doReturn(created).when(orderDaoMock).insert(Mockito.any(Order.class));
+        Mockito.doReturn(summary).when(summaryDaoMock).findByUserIdForUpdate(Mockito.anyLong());
+        Mockito.doReturn(1L).when(summaryDaoMock).countPurchasedCertificates(Mockito.anyLong(), Mockito.anyLong(), Mockito.anyCollection());
+        orderService.addOrder(orderDto);
+
+        assertEquals(3, summary.getOrderCount());
+        assertEquals(0, new BigDecimal(250).compareTo(summary.getTotalSpend()));
+        assertEquals(5, summary.getDistinctCertificates());
+        assertEquals(created.getCreateDate(), summary.getLastOrderDate());
+    }
+
+    /**
+     * Testing the deleteOrder method changes the order summary of the user.
+     */
+    @Test
+    void deleteOrderChangesUserSummary() {
+        UserOrderSummary summary = new UserOrderSummary(id);
+        summary.setOrderCount(2);
+        summary.setTotalSpend(new BigDecimal(100));
+        summary.setDistinctCertificates(2);
+        summary.setLastOrderDate(orderOne.getCreateDate());
+        Order order = new Order();
+        order.setId(1);
+        order.setUser(new User());
+        order.setCost(new BigDecimal(50));
+        order.setCreateDate(orderOne.getCreateDate());
+        order.setLines(List.of(new OrderLine(5L, new BigDecimal(50), 1)));
+        LocalDateTime previousOrderDate = LocalDateTime.of(2022, 5, 1, 12, 0, 0);
+        Mockito.doReturn(order).when(orderDaoMock).findById(Mockito.anyLong());
+        Mockito.doNothing().when(orderDaoMock).delete(Mockito.any(Order.class));
+        Mockito.doReturn(summary).when(summaryDaoMock).findByUserIdForUpdate(Mockito.anyLong());
+        Mockito.doReturn(0L).when(summaryDaoMock).countPurchasedCertificates(Mockito.anyLong(), Mockito.anyLong(), Mockito.anyCollection());
+        Mockito.doReturn(previousOrderDate).when(summaryDaoMock).findLastOrderDate(Mockito.anyLong(), Mockito.anyLong());
+        orderService.deleteOrder(id);
+
+        assertEquals(1, summary.getOrderCount());
+        assertEquals(0, new BigDecimal(50).compareTo(summary.getTotalSpend()));
+        assertEquals(1, summary.getDistinctCertificates());
+        assertEquals(previousOrderDate, summary.getLastOrderDate());
+    }
 }
\ No newline at end of file
@@ -1,16 +1,23 @@
 package com.epam.esm.service.impl;
 
 import com.epam.esm.dao.impl.TagDaoImpl;
+import com.epam.esm.dto.MultiGetDto;
+import com.epam.esm.dto.TrendingTagDto;
 import com.epam.esm.entity.Tag;
 import com.epam.esm.exception.ApplicationNotFoundException;
 import com.epam.esm.exception.ApplicationNotValidDataException;
+import com.epam.esm.util.CatalogueVersion;
+import com.epam.esm.util.MultiGetProvider;
 import com.epam.esm.util.PaginationProvider;
+import com.epam.esm.util.TagDictionary;
+import com.epam.esm.util.TrendingTagCounter;
 import com.epam.esm.util.validator.DataValidator;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.TestInstance;
 import org.mockito.InjectMocks;
+import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.MockitoAnnotations;
 import org.mockito.Spy;
@@ -38,6 +45,14 @@ class TagServiceImplTest {
     private DataValidator dataValidatorMock;
     @Spy
     private PaginationProvider paginationProviderMock;
+    @Spy
+    private MultiGetProvider multiGetProviderMock;
+    @Spy
+    private TagDictionary tagDictionaryMock;
+    @Spy
+    private TrendingTagCounter trendingTagCounterMock;
+    @Mock
+    private CatalogueVersion catalogueVersionMock;
     private long id;
     private long notCorrectId;
     private Tag tagOne;
@@ -207,6 +222,7 @@ class TagServiceImplTest {
         Mockito.doNothing().when(tagDaoMock).delete(Mockito.any(Tag.class));
 
         assertDoesNotThrow(() -> tagService.deleteTagById(id));
+        Mockito.verify(catalogueVersionMock).increment();
     }
 
     /**
@@ -219,4 +235,68 @@ class TagServiceImplTest {
 
         assertEquals(tags, foundedTags);
     }
+
+    /**
+     * Testing the findTagsAfterId method.
+     */
+    @Test
+    void findTagsAfterId() {
+        Mockito.doReturn(tags).when(tagDaoMock).findAfterId(Mockito.anyLong(), Mockito.anyInt());
+        List<Tag> foundTags = tagService.findTagsAfterId(0, 100);
+
+        assertEquals(tags, foundTags);
+    }
+
+    /**
+     * Testing the findTagsByIds method when some ids are absent.
+     */
+    @Test
+    void findTagsByIdsKeepsRequestedOrder() {
+        Mockito.doReturn(List.of(tagOne, tagThree)).when(tagDaoMock).findByIds(Mockito.anyList());
+        MultiGetDto<Tag> foundTags = tagService.findTagsByIds(List.of(3L, 5L, 1L, 3L));
+
+        assertEquals(List.of(tagThree, tagOne), foundTags.getContent());
+        assertEquals(List.of(5L), foundTags.getNotFoundIds());
+        Mockito.verify(tagDaoMock).findByIds(List.of(3L, 5L, 1L));
+    }
+
+    /**
+     * Testing the findTagsByIds method when the id is not correct.
+     */
+    @Test
+    void findTagsByIdsWithNotCorrectId() {
+        List<Long> ids = List.of(id, notCorrectId);
+
+        assertThrows(ApplicationNotValidDataException.class, () -> tagService.findTagsByIds(ids));
+    }
+
+    /**
+     * Testing the suggestTags method when the limit is not correct.
+     */
+    @Test
+    void suggestTagsWithNotCorrectLimit() {
+        assertThrows(ApplicationNotValidDataException.class, () -> tagService.suggestTags(name, 0));
+    }
+
+    /**
+     * Testing the findTrendingTags method.
+     */
+    @Test
+    void findTrendingTags() {
+        tagDictionaryMock.putAll(List.of(tagOne, tagTwo));
+        long minute = trendingTagCounterMock.currentMinute();
+        trendingTagCounterMock.record(Map.of(1L, 2L, 2L, 5L, 3L, 7L), minute);
+        List<TrendingTagDto> trendingTags = tagService.findTrendingTags("Hour", 5);
+
+        assertEquals(List.of(tagTwo.getName(), tagOne.getName()), trendingTags.stream().map(t -> t.getTag().getName()).toList());
+        assertEquals(5L, trendingTags.get(0).getPurchases());
+    }
+
+    /**
+     * Testing the findTrendingTags method when the window is not correct.
+     */
+    @Test
+    void findTrendingTagsWithNotCorrectWindow() {
+        assertThrows(ApplicationNotValidDataException.class, () -> tagService.findTrendingTags("month", 10));
+    }
 }
\ No newline at end of file
@@ -1,12 +1,15 @@
 package com.epam.esm.service.impl;
 
 import com.epam.esm.dao.impl.UserDaoImpl;
+import com.epam.esm.dao.impl.UserOrderSummaryDaoImpl;
 import com.epam.esm.dto.UserDto;
 import com.epam.esm.entity.GiftCertificate;
 import com.epam.esm.entity.Order;
 import com.epam.esm.entity.User;
+import com.epam.esm.entity.UserOrderSummary;
 import com.epam.esm.exception.ApplicationNotFoundException;
 import com.epam.esm.exception.ApplicationNotValidDataException;
+import com.epam.esm.util.MultiGetProvider;
 import com.epam.esm.util.PaginationProvider;
 import com.epam.esm.util.validator.DataValidator;
 import org.junit.jupiter.api.BeforeAll;
@@ -42,9 +45,13 @@ class UserServiceImplTest {
     @Spy
     private PaginationProvider paginationProviderMock;
     @Spy
+    private MultiGetProvider multiGetProviderMock;
+    @Spy
     private BCryptPasswordEncoder passwordEncoderMock;
     @Spy
     private BindingResult bindingResultMock;
+    @Spy
+    private UserOrderSummaryDaoImpl summaryDaoMock;
     private long id;
     private long notCorrectId;
     private String firstNameParam;
@@ -294,4 +301,30 @@ class UserServiceImplTest {
 
         assertEquals(user, userOne);
     }
+
+    /**
+     * Testing the findUserSummary method.
+     */
+    @Test
+    void findUserSummary() {
+        UserOrderSummary summary = new UserOrderSummary(id);
+        summary.setOrderCount(3);
+        Mockito.doReturn(summary).when(summaryDaoMock).findByUserId(id);
+
+        assertEquals(summary, userService.findUserSummary(id));
+        Mockito.verify(userDaoMock, Mockito.never()).findById(Mockito.anyLong());
+    }
+
+    /**
+     * Testing the findUserSummary method when the user has no orders yet.
+     */
+    @Test
+    void findUserSummaryWhenUserHasNoOrders() {
+        Mockito.doReturn(null).when(summaryDaoMock).findByUserId(id);
+        Mockito.doReturn(userOne).when(userDaoMock).findById(id);
+        UserOrderSummary summary = userService.findUserSummary(id);
+
+        assertEquals(0, summary.getOrderCount());
+        assertEquals(id, summary.getUserId());
+    }
 }
\ No newline at end of file
@@ -0,0 +1,94 @@
+package com.epam.esm.util;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * @author VChaikovski
+ * @project certificates-shop-backend
+ * The type AdaptiveConcurrencyLimiterTest.
+ * <p>
+ * This class includes methods for testing the AdaptiveConcurrencyLimiter class.
+ */
+class AdaptiveConcurrencyLimiterTest {
+    private static final long RTT = 10_000_000L;
+
+    /**
+     * Testing the tryAcquire method rejects requests over the limit.
+     */
+    @Test
+    void tryAcquireRejectsOverLimit() {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(2, 1, 10, 0.2, 1.5, 100);
+
+        assertTrue(limiter.tryAcquire());
+        assertTrue(limiter.tryAcquire());
+        assertFalse(limiter.tryAcquire());
+        assertEquals(2, limiter.getInFlight());
+        assertEquals(1, limiter.getRejected());
+        limiter.release(RTT);
+        assertTrue(limiter.tryAcquire());
+    }
+
+    /**
+     * Testing the release method grows the limit while latency is stable and the limit is used.
+     */
+    @Test
+    void releaseGrowsLimitWhenLatencyStable() {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(10, 5, 100, 0.2, 1.5, 100);
+        for (int i = 0; i < 50; i++) {
+            fill(limiter);
+            releaseAll(limiter, RTT);
+        }
+
+        assertTrue(limiter.getLimit() > 10);
+    }
+
+    /**
+     * Testing the release method shrinks the limit when latency grows.
+     */
+    @Test
+    void releaseShrinksLimitWhenLatencyGrows() {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(50, 5, 100, 0.2, 1.5, 100);
+        for (int i = 0; i < 20; i++) {
+            fill(limiter);
+            releaseAll(limiter, RTT);
+        }
+        int stableLimit = limiter.getLimit();
+        fill(limiter);
+        for (int i = 0; i < 10; i++) {
+            limiter.release(RTT * 10);
+        }
+
+        assertTrue(limiter.getLimit() < stableLimit);
+        assertTrue(limiter.getLimit() >= 5);
+    }
+
+    /**
+     * Testing the release method doesn't grow the limit when it isn't used.
+     */
+    @Test
+    void releaseKeepsLimitWhenNotUsed() {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(20, 5, 100, 0.2, 1.5, 100);
+        for (int i = 0; i < 50; i++) {
+            limiter.tryAcquire();
+            limiter.release(RTT);
+        }
+
+        assertEquals(20, limiter.getLimit());
+    }
+
+    private void fill(AdaptiveConcurrencyLimiter limiter) {
+        while (limiter.tryAcquire()) {
+            //take all places
+        }
+    }
+
+    private void releaseAll(AdaptiveConcurrencyLimiter limiter, long rtt) {
+        while (limiter.getInFlight() > 0) {
+            limiter.release(rtt);
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package com.epam.esm.util;
+
+import com.epam.esm.dao.impl.GiftCertificateDaoImpl;
+import com.epam.esm.entity.GiftCertificate;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.mockito.Mockito;
+import org.mockito.MockitoAnnotations;
+import org.mockito.Spy;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * @author VChaikovski
+ * @project certificates-shop-backend
+ * The type BestsellerRankingTest.
+ * <p>
+ * This class includes methods for testing the BestsellerRanking class.
+ */
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class BestsellerRankingTest {
+    private BestsellerRanking bestsellerRanking;
+    @Spy
+    private GiftCertificateDaoImpl certificateDaoMock;
+
+    /**
+     * Configuration of mocks.
+     */
+    @BeforeEach
+    void configureMock() {
+        MockitoAnnotations.openMocks(this);
+        bestsellerRanking = new BestsellerRanking(certificateDaoMock, 2);
+    }
+
+    /**
+     * Testing the reload method.
+     */
+    @Test
+    void reload() {
+        Mockito.doReturn(List.of(buildCertificate(3, 30), buildCertificate(1, 10))).when(certificateDaoMock)
+                .findTopByPopularity(Mockito.anyInt());
+        bestsellerRanking.reload();
+
+        assertEquals(List.of(3L, 1L), bestsellerRanking.findTopIds(5));
+    }
+
+    /**
+     * Testing the offerAll method keeps only the most popular gift certificates.
+     */
+    @Test
+    void offerAll() {
+        bestsellerRanking.offerAll(List.of(buildCertificate(1, 10), buildCertificate(2, 20)));
+        bestsellerRanking.offerAll(List.of(buildCertificate(3, 15), buildCertificate(4, 0)));
+        bestsellerRanking.offerAll(List.of(buildCertificate(1, 25)));
+
+        assertEquals(List.of(1L, 2L), bestsellerRanking.findTopIds(5));
+        assertEquals(List.of(1L), bestsellerRanking.findTopIds(1));
+    }
+
+    private GiftCertificate buildCertificate(long id, long popularity) {
+        GiftCertificate certificate = new GiftCertificate();
+        certificate.setId(id);
+        certificate.setPopularity(popularity);
+        return certificate;
+    }
+}
@@ -0,0 +1,65 @@
+package com.epam.esm.util;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+/**
+ * @author VChaikovski
+ * @project certificates-shop-backend
+ * The type BulkheadTest.
+ * <p>
+ * This class includes methods for testing the Bulkhead class.
+ */
+class BulkheadTest {
+    private Bulkhead bulkhead;
+
+    /**
+     * Initialization of fields.
+     */
+    @BeforeEach
+    void setUp() {
+        bulkhead = new Bulkhead(Map.of(TrafficClass.PUBLIC, 2, TrafficClass.CHECKOUT, 1, TrafficClass.ADMIN, 1),
+                TrafficClass.CHECKOUT);
+    }
+
+    /**
+     * Testing the tryAcquire method rejects requests when the partition is full.
+     */
+    @Test
+    void tryAcquireRejectsWhenPartitionFull() {
+        assertEquals(TrafficClass.PUBLIC, bulkhead.tryAcquire(TrafficClass.PUBLIC));
+        assertEquals(TrafficClass.PUBLIC, bulkhead.tryAcquire(TrafficClass.PUBLIC));
+        assertNull(bulkhead.tryAcquire(TrafficClass.PUBLIC));
+        assertEquals(1, bulkhead.getRejected(TrafficClass.PUBLIC));
+        assertEquals(TrafficClass.CHECKOUT, bulkhead.tryAcquire(TrafficClass.CHECKOUT));
+        assertEquals(TrafficClass.ADMIN, bulkhead.tryAcquire(TrafficClass.ADMIN));
+    }
+
+    /**
+     * Testing the tryAcquire method lets the priority class borrow permits of other classes.
+     */
+    @Test
+    void tryAcquireBorrowsForPriorityClass() {
+        assertEquals(TrafficClass.CHECKOUT, bulkhead.tryAcquire(TrafficClass.CHECKOUT));
+        assertEquals(TrafficClass.PUBLIC, bulkhead.tryAcquire(TrafficClass.CHECKOUT));
+        assertEquals(1, bulkhead.getAvailable(TrafficClass.PUBLIC));
+        bulkhead.release(TrafficClass.PUBLIC);
+        assertEquals(2, bulkhead.getAvailable(TrafficClass.PUBLIC));
+    }
+
+    /**
+     * Testing the tryAcquire method doesn't let other classes use permits of the priority class.
+     */
+    @Test
+    void tryAcquireKeepsPriorityPartition() {
+        bulkhead.tryAcquire(TrafficClass.ADMIN);
+
+        assertNull(bulkhead.tryAcquire(TrafficClass.ADMIN));
+        assertEquals(1, bulkhead.getAvailable(TrafficClass.CHECKOUT));
+    }
+}
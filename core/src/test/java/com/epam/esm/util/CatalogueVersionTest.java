@@ -0,0 +1,82 @@
+package com.epam.esm.util;
+
+import com.epam.esm.dao.CatalogueRevisionDao;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.dao.DataAccessResourceFailureException;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+/**
+ * @author VChaikovski
+ * @project certificates-shop-backend
+ * The type CatalogueVersionTest.
+ * <p>
+ * This class includes methods for testing the CatalogueVersion class.
+ */
+class CatalogueVersionTest {
+    private CatalogueRevisionDao revisionDaoMock;
+
+    /**
+     * Configuration of mocks.
+     */
+    @BeforeEach
+    void configureMock() {
+        revisionDaoMock = Mockito.mock(CatalogueRevisionDao.class);
+    }
+
+    /**
+     * Testing the getEntityTag method reads the stored revision once per refresh interval.
+     */
+    @Test
+    void getEntityTagReadsStoredRevisionOncePerInterval() {
+        CatalogueVersion catalogueVersion = new CatalogueVersion(revisionDaoMock, 60000);
+        Mockito.doReturn(7L).when(revisionDaoMock).findRevision();
+
+        assertEquals("r7", catalogueVersion.getEntityTag());
+        assertEquals("r7", catalogueVersion.getEntityTag());
+        Mockito.verify(revisionDaoMock, Mockito.times(1)).findRevision();
+    }
+
+    /**
+     * Testing the getEntityTag method reads the revision again after the increment method.
+     */
+    @Test
+    void getEntityTagChangesAfterIncrement() {
+        CatalogueVersion catalogueVersion = new CatalogueVersion(revisionDaoMock, 60000);
+        Mockito.doReturn(7L, 8L).when(revisionDaoMock).findRevision();
+        String entityTag = catalogueVersion.getEntityTag();
+        catalogueVersion.increment();
+
+        Mockito.verify(revisionDaoMock).increaseRevision();
+        assertEquals("r7", entityTag);
+        assertEquals("r8", catalogueVersion.getEntityTag());
+    }
+
+    /**
+     * Testing the getEntityTag method returns the last read version while database is unavailable.
+     */
+    @Test
+    void getEntityTagKeepsLastVersionWhenDatabaseFails() {
+        CatalogueVersion catalogueVersion = new CatalogueVersion(revisionDaoMock, 0);
+        Mockito.doReturn(3L)
+                .doThrow(new DataAccessResourceFailureException("down"))
+                .when(revisionDaoMock).findRevision();
+
+        assertEquals("r3", catalogueVersion.getEntityTag());
+        assertEquals("r3", catalogueVersion.getEntityTag());
+    }
+
+    /**
+     * Testing the getEntityTag method returns null if the revision was never read.
+     */
+    @Test
+    void getEntityTagReturnsNullWhenRevisionUnknown() {
+        CatalogueVersion catalogueVersion = new CatalogueVersion(revisionDaoMock, 0);
+        Mockito.doThrow(new DataAccessResourceFailureException("down")).when(revisionDaoMock).findRevision();
+
+        assertNull(catalogueVersion.getEntityTag());
+    }
+}
@@ -0,0 +1,79 @@
+package com.epam.esm.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * @author VChaikovski
+ * @project certificates-shop-backend
+ * The type CircuitBreakerTest.
+ * <p>
+ * This class includes methods for testing the CircuitBreaker class.
+ */
+class CircuitBreakerTest {
+    private final AtomicInteger closings = new AtomicInteger();
+
+    /**
+     * Testing the onFailure method opens the breaker after failures in a row.
+     */
+    @Test
+    void onFailureOpensAfterThreshold() {
+        CircuitBreaker circuitBreaker = new CircuitBreaker(2, 60000, closings::incrementAndGet);
+        circuitBreaker.onFailure();
+        circuitBreaker.onSuccess();
+        circuitBreaker.onFailure();
+
+        assertTrue(circuitBreaker.tryAcquirePermission());
+        circuitBreaker.onFailure();
+        assertEquals(CircuitBreaker.State.OPEN, circuitBreaker.getState());
+        assertFalse(circuitBreaker.tryAcquirePermission());
+        assertTrue(circuitBreaker.getRetryAfterMs() > 0);
+    }
+
+    /**
+     * Testing the onSuccess method closes the breaker after a trial call and runs the close listener.
+     */
+    @Test
+    void onSuccessClosesAfterTrial() {
+        CircuitBreaker circuitBreaker = new CircuitBreaker(1, 0, closings::incrementAndGet);
+        circuitBreaker.onFailure();
+
+        assertTrue(circuitBreaker.tryAcquirePermission());
+        assertFalse(circuitBreaker.tryAcquirePermission());
+        circuitBreaker.onSuccess();
+        assertEquals(CircuitBreaker.State.CLOSED, circuitBreaker.getState());
+        assertEquals(1, closings.get());
+    }
+
+    /**
+     * Testing the onFailure method opens the breaker again after a failed trial call.
+     */
+    @Test
+    void onFailureReopensAfterTrial() {
+        CircuitBreaker circuitBreaker = new CircuitBreaker(1, 0, closings::incrementAndGet);
+        circuitBreaker.onFailure();
+        circuitBreaker.tryAcquirePermission();
+        circuitBreaker.onFailure();
+
+        assertEquals(CircuitBreaker.State.OPEN, circuitBreaker.getState());
+        assertEquals(0, closings.get());
+    }
+
+    /**
+     * Testing the onIgnored method permits another trial call.
+     */
+    @Test
+    void onIgnoredPermitsAnotherTrial() {
+        CircuitBreaker circuitBreaker = new CircuitBreaker(1, 0, closings::incrementAndGet);
+        circuitBreaker.onFailure();
+        circuitBreaker.tryAcquirePermission();
+        circuitBreaker.onIgnored();
+
+        assertTrue(circuitBreaker.tryAcquirePermission());
+    }
+}
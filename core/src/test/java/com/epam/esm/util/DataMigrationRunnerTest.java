@@ -0,0 +1,56 @@
+package com.epam.esm.util;
+
+import com.epam.esm.dao.DataMigrationDao;
+import com.epam.esm.service.TagService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.time.LocalDateTime;
+
+/**
+ * @author VChaikovski
+ * @project certificates-shop-backend
+ * The type DataMigrationRunnerTest.
+ * <p>
+ * This class includes methods for testing the DataMigrationRunner class.
+ */
+class DataMigrationRunnerTest {
+    private DataMigrationDao dataMigrationDaoMock;
+    private TagService tagServiceMock;
+    private DataMigrationRunner runner;
+
+    /**
+     * Configuration of mocks.
+     */
+    @BeforeEach
+    void configureMock() {
+        dataMigrationDaoMock = Mockito.mock(DataMigrationDao.class);
+        tagServiceMock = Mockito.mock(TagService.class);
+        runner = new DataMigrationRunner(dataMigrationDaoMock, tagServiceMock);
+    }
+
+    /**
+     * Testing the migrate method applies a migration that wasn't applied yet.
+     */
+    @Test
+    void migrateAppliesNewMigration() {
+        Mockito.doReturn(true).when(dataMigrationDaoMock)
+                .markApplied(Mockito.eq(DataMigrationRunner.RECOUNT_TAG_CERTIFICATES), Mockito.any(LocalDateTime.class));
+        runner.migrate();
+
+        Mockito.verify(tagServiceMock).recountCertificates();
+    }
+
+    /**
+     * Testing the migrate method skips a migration that is already applied.
+     */
+    @Test
+    void migrateSkipsAppliedMigration() {
+        Mockito.doReturn(false).when(dataMigrationDaoMock)
+                .markApplied(Mockito.eq(DataMigrationRunner.RECOUNT_TAG_CERTIFICATES), Mockito.any(LocalDateTime.class));
+        runner.migrate();
+
+        Mockito.verify(tagServiceMock, Mockito.never()).recountCertificates();
+    }
+}
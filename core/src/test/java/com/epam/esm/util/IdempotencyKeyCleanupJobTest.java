@@ -0,0 +1,52 @@
+package com.epam.esm.util;
+
+import com.epam.esm.service.impl.OrderServiceImpl;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mockito;
+import org.mockito.MockitoAnnotations;
+import org.mockito.Spy;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * @author VChaikovski
+ * @project certificates-shop-backend
+ * The type IdempotencyKeyCleanupJobTest.
+ * <p>
+ * This class includes methods for testing the IdempotencyKeyCleanupJob class.
+ */
+class IdempotencyKeyCleanupJobTest {
+    private IdempotencyKeyCleanupJob cleanupJob;
+    @Spy
+    private OrderServiceImpl orderServiceMock;
+
+    /**
+     * Configuration of mocks.
+     */
+    @BeforeEach
+    void configureMock() {
+        MockitoAnnotations.openMocks(this);
+        cleanupJob = new IdempotencyKeyCleanupJob(orderServiceMock, 48);
+    }
+
+    /**
+     * Testing the deleteExpiredKeys method deletes keys older than the retention time.
+     */
+    @Test
+    void deleteExpiredKeys() {
+        Mockito.doReturn(5).when(orderServiceMock).deleteIdempotencyKeys(Mockito.any(LocalDateTime.class));
+        LocalDateTime before = LocalDateTime.now(ZoneId.systemDefault()).minusHours(48);
+
+        assertEquals(5, cleanupJob.deleteExpiredKeys());
+        ArgumentCaptor<LocalDateTime> createdBefore = ArgumentCaptor.forClass(LocalDateTime.class);
+        Mockito.verify(orderServiceMock).deleteIdempotencyKeys(createdBefore.capture());
+        assertTrue(!createdBefore.getValue().isBefore(before)
+                && createdBefore.getValue().isBefore(before.plusMinutes(1)));
+    }
+}
@@ -0,0 +1,127 @@
+package com.epam.esm.util;
+
+import com.epam.esm.dto.PageDto;
+import com.epam.esm.entity.Tag;
+import com.epam.esm.exception.ApplicationNotFoundException;
+import com.epam.esm.exception.ApplicationOverloadedException;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ser.impl.SimpleBeanPropertyFilter;
+import com.fasterxml.jackson.databind.ser.impl.SimpleFilterProvider;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.transaction.CannotCreateTransactionException;
+
+import java.util.List;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * @author VChaikovski
+ * @project certificates-shop-backend
+ * The type LastKnownGoodCacheTest.
+ * <p>
+ * This class includes methods for testing the LastKnownGoodCache class.
+ */
+class LastKnownGoodCacheTest {
+    private static final String KEY = "tag:1";
+
+    private LastKnownGoodCache cache;
+    private Tag tag;
+
+    /**
+     * Initialization of fields.
+     */
+    @BeforeEach
+    void setUp() {
+        ObjectMapper objectMapper = new ObjectMapper()
+                .findAndRegisterModules()
+                .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
+                .setFilterProvider(new SimpleFilterProvider().setDefaultFilter(SimpleBeanPropertyFilter.serializeAll()));
+        cache = new LastKnownGoodCache(objectMapper, Runnable::run, 2, 60000, 10, 0);
+        tag = new Tag("first");
+        tag.setId(1);
+    }
+
+    /**
+     * Testing the read method returns a copy of the last result when database fails.
+     */
+    @Test
+    void readReturnsStaleCopyWhenDatabaseFails() {
+        cache.read(KEY, () -> tag, cache.entityCopier(Tag.class));
+        CachedResult<Tag> result = cache.read(KEY, failing(), cache.entityCopier(Tag.class));
+
+        assertTrue(result.isStale());
+        assertEquals("first", result.getValue().getName());
+        assertEquals(1, result.getValue().getId());
+        assertNotSame(tag, result.getValue());
+    }
+
+    /**
+     * Testing the read method doesn't call database while the circuit breaker is open.
+     */
+    @Test
+    void readDoesNotCallDatabaseWhenOpen() {
+        cache.read(KEY, () -> tag, cache.entityCopier(Tag.class));
+        cache.read(KEY, failing(), cache.entityCopier(Tag.class));
+        cache.read(KEY, failing(), cache.entityCopier(Tag.class));
+        CachedResult<Tag> result = cache.read(KEY, () -> {
+            throw new IllegalStateException("database must not be called");
+        }, cache.entityCopier(Tag.class));
+
+        assertEquals(CircuitBreaker.State.OPEN, cache.getCircuitBreaker().getState());
+        assertTrue(result.isStale());
+    }
+
+    /**
+     * Testing the read method rejects the request when there is no copy.
+     */
+    @Test
+    void readRejectsWhenNoCopy() {
+        Supplier<Tag> loader = failing();
+        assertThrows(ApplicationOverloadedException.class, () -> cache.read(KEY, loader, cache.entityCopier(Tag.class)));
+    }
+
+    /**
+     * Testing the read method passes application exceptions through without opening the circuit breaker.
+     */
+    @Test
+    void readPassesApplicationExceptions() {
+        for (int i = 0; i < 3; i++) {
+            assertThrows(ApplicationNotFoundException.class, () -> cache.read(KEY, () -> {
+                throw new ApplicationNotFoundException("ex.tagNotFound", 1L);
+            }, cache.entityCopier(Tag.class)));
+        }
+
+        assertEquals(CircuitBreaker.State.CLOSED, cache.getCircuitBreaker().getState());
+    }
+
+    /**
+     * Testing the read method returns fresh pages which copies aren't changed by callers.
+     */
+    @Test
+    void readKeepsIndependentPageCopy() {
+        PageDto<Tag> page = new PageDto<>(List.of(tag), 1, 1, 1, 1);
+        CachedResult<PageDto<Tag>> fresh = cache.read("tags", () -> page, cache.pageCopier(Tag.class));
+        fresh.getValue().getContent().get(0).setName("changed");
+        CachedResult<PageDto<Tag>> stale = cache.read("tags", () -> {
+            throw new CannotCreateTransactionException("no connection");
+        }, cache.pageCopier(Tag.class));
+
+        assertFalse(fresh.isStale());
+        assertTrue(stale.isStale());
+        assertEquals("first", stale.getValue().getContent().get(0).getName());
+    }
+
+    private Supplier<Tag> failing() {
+        return () -> {
+            throw new DataAccessResourceFailureException("database is down");
+        };
+    }
+}
@@ -0,0 +1,59 @@
+package com.epam.esm.util;
+
+import com.epam.esm.service.impl.OrderServiceImpl;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.mockito.MockitoAnnotations;
+import org.mockito.Spy;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * @author VChaikovski
+ * @project certificates-shop-backend
+ * The type OrderArchiveJobTest.
+ * <p>
+ * This class includes methods for testing the OrderArchiveJob class.
+ */
+class OrderArchiveJobTest {
+    private OrderArchiveJob orderArchiveJob;
+    @Spy
+    private OrderServiceImpl orderServiceMock;
+
+    /**
+     * Configuration of mocks.
+     */
+    @BeforeEach
+    void configureMock() {
+        MockitoAnnotations.openMocks(this);
+        orderArchiveJob = new OrderArchiveJob(orderServiceMock, 365, 2, 0, 10);
+    }
+
+    /**
+     * Testing the archiveOldOrders method reads every next chunk after the last archived id.
+     */
+    @Test
+    void archiveOldOrders() {
+        Mockito.doReturn(List.of(3L, 7L)).when(orderServiceMock).archiveOrders(Mockito.eq(0L), Mockito.any(LocalDateTime.class), Mockito.eq(2));
+        Mockito.doReturn(List.of(9L)).when(orderServiceMock).archiveOrders(Mockito.eq(7L), Mockito.any(LocalDateTime.class), Mockito.eq(2));
+
+        assertEquals(3, orderArchiveJob.archiveOldOrders());
+        Mockito.verify(orderServiceMock, Mockito.times(2)).archiveOrders(Mockito.anyLong(), Mockito.any(LocalDateTime.class), Mockito.anyInt());
+    }
+
+    /**
+     * Testing the archiveOldOrders method stops after the max number of chunks.
+     */
+    @Test
+    void archiveOldOrdersStopsAfterMaxBatches() {
+        orderArchiveJob = new OrderArchiveJob(orderServiceMock, 365, 1, 0, 3);
+        Mockito.doAnswer(i -> List.of((long) i.getArgument(0) + 1)).when(orderServiceMock)
+                .archiveOrders(Mockito.anyLong(), Mockito.any(LocalDateTime.class), Mockito.anyInt());
+
+        assertEquals(3, orderArchiveJob.archiveOldOrders());
+    }
+}
@@ -16,6 +16,7 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
@@ -112,4 +113,22 @@ class PaginationProviderTest {
         params = Map.of(limitParamName, limit, pageParamName, pagesNumber);
         assertThrows(ApplicationNotValidDataException.class, () -> paginationProvider.paginateData(users, params));
     }
+
+    /**
+     * Testing the checkChunkParams method when params are correct.
+     */
+    @Test
+    void checkChunkParamsWhenParamsCorrect() {
+        assertDoesNotThrow(() -> paginationProvider.checkChunkParams(0, limit));
+    }
+
+    /**
+     * Testing the checkChunkParams method when params are not correct.
+     */
+    @Test
+    void checkChunkParamsWhenParamsNotCorrect() {
+        assertThrows(ApplicationNotValidDataException.class, () -> paginationProvider.checkChunkParams(-1, limit));
+        assertThrows(ApplicationNotValidDataException.class, () -> paginationProvider.checkChunkParams(0, 0));
+        assertThrows(ApplicationNotValidDataException.class, () -> paginationProvider.checkChunkParams(0, 1001));
+    }
 }
\ No newline at end of file
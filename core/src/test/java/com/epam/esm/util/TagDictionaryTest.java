@@ -0,0 +1,126 @@
+package com.epam.esm.util;
+
+import com.epam.esm.dao.impl.TagDaoImpl;
+import com.epam.esm.entity.Tag;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.mockito.Mockito;
+import org.mockito.MockitoAnnotations;
+import org.mockito.Spy;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+/**
+ * @author VChaikovski
+ * @project certificates-shop-backend
+ * The type TagDictionaryTest.
+ * <p>
+ * This class includes methods for testing the TagDictionary class.
+ */
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class TagDictionaryTest {
+    private TagDictionary tagDictionary;
+    @Spy
+    private TagDaoImpl tagDaoMock;
+
+    private Tag tagOne;
+    private Tag tagTwo;
+
+    /**
+     * Initialization of fields.
+     */
+    @BeforeAll
+    void setUp() {
+        tagOne = new Tag("first");
+        tagOne.setId(1);
+        tagTwo = new Tag("second");
+        tagTwo.setId(2);
+    }
+
+    /**
+     * Configuration of mocks.
+     */
+    @BeforeEach
+    void configureMock() {
+        MockitoAnnotations.openMocks(this);
+        tagDictionary = new TagDictionary(tagDaoMock);
+        Mockito.doReturn(List.of(tagOne, tagTwo)).when(tagDaoMock).findAll();
+    }
+
+    /**
+     * Testing the reload method.
+     */
+    @Test
+    void reload() {
+        tagDictionary.reload();
+
+        assertEquals(Map.of("first", 1L, "second", 2L), tagDictionary.findIds(List.of("first", "second", "third")));
+    }
+
+    /**
+     * Testing the putAll method.
+     */
+    @Test
+    void putAll() {
+        Tag tagThree = new Tag("third");
+        tagThree.setId(3);
+        tagDictionary.putAll(List.of(tagThree, new Tag("not saved")));
+
+        assertEquals(3L, tagDictionary.findId("third"));
+        assertNull(tagDictionary.findId("not saved"));
+    }
+
+    /**
+     * Testing the removeAll method.
+     */
+    @Test
+    void removeAll() {
+        tagDictionary.reload();
+        tagDictionary.removeAll(List.of(tagOne));
+
+        assertNull(tagDictionary.findId("first"));
+        assertEquals(2L, tagDictionary.findId("second"));
+    }
+
+    /**
+     * Testing the suggest method.
+     */
+    @Test
+    void suggest() {
+        Tag rare = new Tag("Fishing");
+        rare.setId(3);
+        rare.setCertificateCount(1);
+        Tag popular = new Tag("fitness");
+        popular.setId(4);
+        popular.setCertificateCount(5);
+        Tag other = new Tag("food");
+        other.setId(5);
+        other.setCertificateCount(10);
+        Mockito.doReturn(List.of(tagOne, rare, popular, other)).when(tagDaoMock).findAll();
+        tagDictionary.reload();
+        List<Tag> suggested = tagDictionary.suggest("FI", 5);
+
+        assertEquals(List.of("fitness", "Fishing", "first"), suggested.stream().map(Tag::getName).toList());
+        assertEquals(1, tagDictionary.suggest("fi", 1).size());
+        assertEquals(List.of(), tagDictionary.suggest("z", 5));
+    }
+
+    /**
+     * Testing the removeAll method when the tag was created again with another id.
+     */
+    @Test
+    void removeAllWhenTagRecreated() {
+        Tag recreated = new Tag("first");
+        recreated.setId(10);
+        tagDictionary.putAll(List.of(recreated));
+        tagDictionary.removeAll(List.of(tagOne));
+
+        assertEquals(10L, tagDictionary.findId("first"));
+    }
+}
@@ -0,0 +1,84 @@
+package com.epam.esm.util;
+
+import com.epam.esm.entity.TagTrendBucket;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * @author VChaikovski
+ * @project certificates-shop-backend
+ * The type TrendingTagCounterTest.
+ * <p>
+ * This class includes methods for testing the TrendingTagCounter class.
+ */
+class TrendingTagCounterTest {
+    private static final long MINUTE = 60L * 24 * 365 * 50;
+
+    private TrendingTagCounter trendingTagCounter;
+
+    /**
+     * Initialization of fields.
+     */
+    @BeforeEach
+    void setUp() {
+        trendingTagCounter = new TrendingTagCounter();
+    }
+
+    /**
+     * Testing the findTop method for different windows.
+     */
+    @Test
+    void findTop() {
+        trendingTagCounter.record(Map.of(1L, 3L), MINUTE - 2 * 60);
+        trendingTagCounter.record(Map.of(2L, 2L), MINUTE - 30);
+        trendingTagCounter.record(Map.of(2L, 1L, 3L, 1L), MINUTE);
+
+        assertEquals(List.of(Map.entry(2L, 3L), Map.entry(3L, 1L)), trendingTagCounter.findTop(TrendingWindow.HOUR, MINUTE));
+        assertEquals(List.of(Map.entry(1L, 3L), Map.entry(2L, 3L), Map.entry(3L, 1L)),
+                trendingTagCounter.findTop(TrendingWindow.DAY, MINUTE));
+        assertEquals(List.of(), trendingTagCounter.findTop(TrendingWindow.WEEK, MINUTE + 60 * 24 * 8));
+    }
+
+    /**
+     * Testing the findTop method when the ring wrapped around.
+     */
+    @Test
+    void findTopWhenRingWrapped() {
+        trendingTagCounter.record(Map.of(1L, 3L), MINUTE);
+        trendingTagCounter.record(Map.of(2L, 1L), MINUTE + 60);
+
+        assertEquals(List.of(Map.entry(2L, 1L)), trendingTagCounter.findTop(TrendingWindow.HOUR, MINUTE + 60));
+        assertEquals(List.of(Map.entry(1L, 3L), Map.entry(2L, 1L)), trendingTagCounter.findTop(TrendingWindow.DAY, MINUTE + 60));
+    }
+
+    /**
+     * Testing the drainChanges method.
+     */
+    @Test
+    void drainChanges() {
+        trendingTagCounter.record(Map.of(1L, 3L), MINUTE);
+        trendingTagCounter.record(Map.of(1L, 2L), MINUTE);
+        List<TagTrendBucket> changes = trendingTagCounter.drainChanges();
+
+        assertEquals(2, changes.size());
+        changes.forEach(b -> assertEquals(5L, b.getPurchases()));
+        assertEquals(List.of(), trendingTagCounter.drainChanges());
+    }
+
+    /**
+     * Testing the restore method keeps the changes that weren't stored.
+     */
+    @Test
+    void restore() {
+        trendingTagCounter.record(Map.of(1L, 3L), MINUTE);
+        trendingTagCounter.restore(List.of(new TagTrendBucket(1, MINUTE, 2L, 4L),
+                new TagTrendBucket(1, MINUTE - 60 * 24, 3L, 10L)));
+
+        assertEquals(List.of(Map.entry(2L, 4L), Map.entry(1L, 3L)), trendingTagCounter.findTop(TrendingWindow.HOUR, MINUTE));
+    }
+}
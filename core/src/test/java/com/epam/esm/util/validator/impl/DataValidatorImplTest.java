@@ -209,6 +209,22 @@ class DataValidatorImplTest {
         assertTrue(dataValidator.isNumberValid(positiveNumber));
     }
 
+    /**
+     * Testing the isIdempotencyKeyValid method when a key is valid.
+     */
+    @Test
+    void isIdempotencyKeyValidWhenKeyValid() {
+        assertTrue(dataValidator.isIdempotencyKeyValid("6f1c2a4e-8d3b-4f7a-9c5e-0b2d4e6f8a1c"));
+    }
+
+    /**
+     * Testing the isIdempotencyKeyValid method when a key is longer than the column.
+     */
+    @Test
+    void isIdempotencyKeyValidWhenKeyTooLong() {
+        assertFalse(dataValidator.isIdempotencyKeyValid("k".repeat(256)));
+    }
+
     /**
      * Testing the isCertificateValid method when a certificate is not valid.
      */